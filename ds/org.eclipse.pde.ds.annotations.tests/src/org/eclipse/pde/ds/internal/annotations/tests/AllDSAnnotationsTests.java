@@ -40,6 +40,8 @@ import org.osgi.framework.Bundle;
 	FullComponentTest.class,
 	ExtendedReferenceMethodComponentTest.class,
 	ExtendedLifeCycleMethodComponentTest.class,
+	ProjectStateTest.class,
+	MayContainComponentTest.class,
 })
 public class AllDSAnnotationsTests {
 
@@ -0,0 +1,61 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.pde.ds.internal.annotations.DSAnnotationCompilationParticipant;
+import org.junit.Test;
+
+public class MayContainComponentTest {
+
+	private static boolean mayContainComponent(String source) {
+		return DSAnnotationCompilationParticipant.mayContainComponent(source.toCharArray());
+	}
+
+	@Test
+	public void testSimpleName() {
+		assertTrue(mayContainComponent("import org.osgi.service.component.annotations.Component;\n@Component\npublic class A {}"));
+		assertTrue(mayContainComponent("@Component(service = Runnable.class) class A {}"));
+	}
+
+	@Test
+	public void testQualifiedName() {
+		assertTrue(mayContainComponent("@org.osgi.service.component.annotations.Component class A {}"));
+		assertTrue(mayContainComponent("@org . osgi.service\n.component.annotations. Component class A {}"));
+	}
+
+	@Test
+	public void testCommentsBetweenAtAndName() {
+		assertTrue(mayContainComponent("@/* comment */Component class A {}"));
+		assertTrue(mayContainComponent("@ // comment\n Component class A {}"));
+		assertTrue(mayContainComponent("@org.osgi.service.component.annotations./* comment */Component class A {}"));
+	}
+
+	@Test
+	public void testUnicodeEscape() {
+		assertTrue(mayContainComponent("\\u0040Component class A {}"));
+		assertTrue(mayContainComponent("@Comp\\u006fnent class A {}"));
+	}
+
+	@Test
+	public void testNoComponent() {
+		assertFalse(mayContainComponent(""));
+		assertFalse(mayContainComponent("public class A {}"));
+		assertFalse(mayContainComponent("@Override public String toString() { return \"Component\"; }"));
+		assertFalse(mayContainComponent("@ComponentPropertyType @interface Props {}"));
+		assertFalse(mayContainComponent("@org.example.Component.Nested class A {}"));
+		assertFalse(mayContainComponent("class A {} // ends with @"));
+	}
+
+	@Test
+	public void testUnterminatedComment() {
+		assertFalse(mayContainComponent("class A {} @/* Component"));
+		assertFalse(mayContainComponent("class A {} @/"));
+		assertTrue(mayContainComponent("@Component class A {} @/* unterminated"));
+	}
+
+	@Test
+	public void testUnknownSource() {
+		assertTrue(DSAnnotationCompilationParticipant.mayContainComponent(null));
+	}
+}
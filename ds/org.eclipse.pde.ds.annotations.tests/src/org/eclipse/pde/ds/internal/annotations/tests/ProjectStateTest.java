@@ -0,0 +1,73 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.pde.ds.internal.annotations.DSAnnotationVersion;
+import org.eclipse.pde.ds.internal.annotations.ProjectState;
+import org.eclipse.pde.ds.internal.annotations.ValidationErrorLevel;
+import org.junit.Test;
+
+public class ProjectStateTest {
+
+	private static ProjectState roundTrip(ProjectState state) throws IOException {
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(buf)) {
+			state.write(out);
+		}
+
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(buf.toByteArray()))) {
+			return ProjectState.read(in);
+		}
+	}
+
+	@Test
+	public void testEmptyState() throws Exception {
+		ProjectState state = new ProjectState();
+		ProjectState copy = roundTrip(state);
+		assertEquals(state, copy);
+		assertNull(copy.getPath());
+		assertEquals(IResource.NULL_STAMP, copy.getStamp("META-INF/MANIFEST.MF"));
+	}
+
+	@Test
+	public void testPopulatedState() throws Exception {
+		ProjectState state = new ProjectState();
+		state.setPath("OSGI-INF");
+		state.setSpecVersion(DSAnnotationVersion.V1_2);
+		state.setErrorLevel(ValidationErrorLevel.warning);
+		state.setMissingUnbindMethodLevel(ValidationErrorLevel.ignore);
+
+		HashMap<String, String> dsKeys = new HashMap<>();
+		dsKeys.put("a.b.Component1", "OSGI-INF/a.b.Component1.xml");
+		dsKeys.put("a.b.Component1$Nested", "OSGI-INF/a.b.Component1$Nested.xml");
+		state.updateMappings("a/b/Component1.java", dsKeys);
+		state.updateMappings("a/b/Other.java", new HashMap<>());
+		state.setModelHash("OSGI-INF/a.b.Component1.xml", "0123456789abcdef");
+		state.setStamp("META-INF/MANIFEST.MF", 1234567890123L);
+		state.setStamp("build.properties", IResource.NULL_STAMP);
+
+		ProjectState copy = roundTrip(state);
+		assertEquals(state, copy);
+		assertEquals("OSGI-INF/a.b.Component1.xml", copy.getModelFile("a.b.Component1"));
+		assertEquals(2, copy.getModelFiles("a/b/Component1.java").size());
+		assertEquals("0123456789abcdef", copy.getModelHash("OSGI-INF/a.b.Component1.xml"));
+		assertEquals(1234567890123L, copy.getStamp("META-INF/MANIFEST.MF"));
+		assertEquals(IResource.NULL_STAMP, copy.getStamp("build.properties"));
+	}
+
+	@Test(expected = IOException.class)
+	public void testInvalidInput() throws Exception {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(new byte[] { (byte) 0xAC, (byte) 0xED, 0, 5 }))) {
+			ProjectState.read(in);
+		}
+	}
+}
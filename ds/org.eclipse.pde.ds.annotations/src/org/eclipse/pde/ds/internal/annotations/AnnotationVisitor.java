@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2018 Ecliptical Software Inc. and others.
+ * Copyright (c) 2017, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,10 +17,14 @@ import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.StringReader;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -70,6 +74,7 @@ import org.eclipse.jdt.core.dom.NormalAnnotation;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.DocumentRewriteSession;
 import org.eclipse.jface.text.DocumentRewriteSessionType;
 import org.eclipse.jface.text.IDocument;
@@ -376,6 +381,12 @@ public class AnnotationVisitor extends ASTVisitor {
 		}
 
 		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
+		if (bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE) == null) {
+			// not open in an editor; generate in memory and only write the file if its content changes
+			generateComponent(file, dsKey, type, typeBinding, annotation, annotationBinding, params, name, implClass);
+			return;
+		}
+
 		bufferManager.connect(filePath, LocationKind.IFILE, null);
 		ITextFileBuffer buffer = bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE);
 		if (buffer.isDirty()) {
@@ -384,46 +395,16 @@ public class AnnotationVisitor extends ASTVisitor {
 
 		IDocument document = buffer.getDocument();
 
-		final DSModel dsModel = new DSModel(document, true);
-		dsModel.setUnderlyingResource(file);
-		dsModel.setCharset(StandardCharsets.UTF_8); // $NON-NLS-1$
-		dsModel.load();
-
-		// note: we can't use XMLTextChangeListener because it generates overlapping edits!
-		// thus we replace the entire content with one edit (if changed)
-		final IDocument fDoc = document;
-		dsModel.addModelChangedListener(new IModelTextChangeListener() {
-
-			private final IDocument document = fDoc;
-
-			private boolean changed;
-
-			@Override
-			public void modelChanged(IModelChangedEvent event) {
-				changed = true;
-			}
-
-			@Override
-			public TextEdit[] getTextOperations() {
-				if (!changed) {
-					return new TextEdit[0];
-				}
-
-				String text = dsModel.getContents();
-				ReplaceEdit edit = new ReplaceEdit(0, document.getLength(), text);
-				return new TextEdit[] { edit };
-			}
-
-			@Override
-			public String getReadableName(TextEdit edit) {
-				return null;
-			}
-		});
-
+		final DSModel dsModel = createModel(document, file);
 		try {
 			processComponent(dsModel, type, typeBinding, annotation, annotationBinding, params, name, implClass);
 
 			TextEdit[] edits = dsModel.getLastTextChangeListener().getTextOperations();
+			if (edits.length > 0 && document.get().equals(dsModel.getContents())) {
+				// regenerated without any actual change
+				edits = new TextEdit[0];
+			}
+
 			if (edits.length > 0) {
 				if (debug.isDebugging()) {
 					debug.trace(String.format("Saving model: %s", file.getFullPath())); //$NON-NLS-1$
@@ -462,12 +443,132 @@ public class AnnotationVisitor extends ASTVisitor {
 
 				buffer.commit(null, true);
 			}
+
+			state.setModelHash(dsKey, computeHash(document.get()));
 		} finally {
 			dsModel.dispose();
 			bufferManager.disconnect(buffer.getLocation(), LocationKind.IFILE, null);
 		}
 	}
 
+	private void generateComponent(IFile file, String dsKey, TypeDeclaration type, ITypeBinding typeBinding, Annotation annotation, IAnnotationBinding annotationBinding, Map<String, ?> params, String name, String implClass) throws CoreException {
+		Charset charset = StandardCharsets.UTF_8;
+		String oldText = null;
+		if (file.exists()) {
+			charset = Charset.forName(file.getCharset());
+			oldText = readContents(file, charset);
+		}
+
+		final DSModel dsModel = createModel(new Document(oldText == null ? "" : oldText), file); //$NON-NLS-1$
+		try {
+			processComponent(dsModel, type, typeBinding, annotation, annotationBinding, params, name, implClass);
+
+			String text = oldText;
+			if (dsModel.getLastTextChangeListener().getTextOperations().length > 0) {
+				text = dsModel.getContents();
+			}
+
+			if (text == null) {
+				return;
+			}
+
+			String hash = computeHash(text);
+			if (!text.equals(oldText)) {
+				if (debug.isDebugging()) {
+					debug.trace(String.format("Saving model: %s", file.getFullPath())); //$NON-NLS-1$
+				}
+
+				ByteArrayInputStream in = new ByteArrayInputStream(text.getBytes(charset));
+				if (oldText == null) {
+					file.create(in, true, null);
+				} else {
+					file.setContents(in, true, true, null);
+				}
+			} else if (debug.isDebugging()) {
+				debug.trace(String.format("Model unchanged: %s", file.getFullPath())); //$NON-NLS-1$
+			}
+
+			state.setModelHash(dsKey, hash);
+		} finally {
+			dsModel.dispose();
+		}
+	}
+
+	private DSModel createModel(IDocument document, IFile file) {
+		final DSModel dsModel = new DSModel(document, true);
+		dsModel.setUnderlyingResource(file);
+		dsModel.setCharset(StandardCharsets.UTF_8); // $NON-NLS-1$
+		dsModel.load();
+
+		// note: we can't use XMLTextChangeListener because it generates overlapping edits!
+		// thus we replace the entire content with one edit (if changed)
+		final IDocument fDoc = document;
+		dsModel.addModelChangedListener(new IModelTextChangeListener() {
+
+			private final IDocument document = fDoc;
+
+			private boolean changed;
+
+			@Override
+			public void modelChanged(IModelChangedEvent event) {
+				changed = true;
+			}
+
+			@Override
+			public TextEdit[] getTextOperations() {
+				if (!changed) {
+					return new TextEdit[0];
+				}
+
+				String text = dsModel.getContents();
+				ReplaceEdit edit = new ReplaceEdit(0, document.getLength(), text);
+				return new TextEdit[] { edit };
+			}
+
+			@Override
+			public String getReadableName(TextEdit edit) {
+				return null;
+			}
+		});
+
+		return dsModel;
+	}
+
+	private static String readContents(IFile file, Charset charset) throws CoreException {
+		try (InputStream in = file.getContents(true)) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buf = new byte[8192];
+			int len;
+			while ((len = in.read(buf)) != -1) {
+				out.write(buf, 0, len);
+			}
+
+			return new String(out.toByteArray(), charset);
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, Activator.PLUGIN_ID, String.format("Unable to read model file '%s'.", file.getFullPath()), e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Computes the hash of a generated descriptor, independent of the line
+	 * delimiters it was written with.
+	 */
+	static String computeHash(String text) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			byte[] hash = digest.digest(text.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$ //$NON-NLS-2$
+			StringBuilder buf = new StringBuilder(hash.length * 2);
+			for (byte b : hash) {
+				buf.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+			}
+
+			return buf.toString();
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
 	private void performEdit(IDocument document, TextEdit edit) throws CoreException {
 		DocumentRewriteSession session = null;
 		try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,18 +14,21 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -97,7 +100,33 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	private static final QualifiedName PROP_STATE = new QualifiedName(Activator.PLUGIN_ID, "state"); //$NON-NLS-1$
 
-	private static final String STATE_FILENAME = "state.dat"; //$NON-NLS-1$
+	private static final String STATE_FILENAME = "state.bin"; //$NON-NLS-1$
+
+	// Java-serialized state written by previous versions; read once, then replaced
+	private static final String LEGACY_STATE_FILENAME = "state.dat"; //$NON-NLS-1$
+
+	private static final int MAX_CACHED_STATES = 32;
+
+	// projects whose state is held in a session property, least recently used first
+	private static final Map<IProject, Boolean> cachedStates = new LinkedHashMap<IProject, Boolean>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IProject, Boolean> eldest) {
+			if (size() <= MAX_CACHED_STATES) {
+				return false;
+			}
+
+			try {
+				eldest.getKey().setSessionProperty(PROP_STATE, null);
+			} catch (CoreException e) {
+				// project closed or deleted; its session properties are gone already
+			}
+
+			return true;
+		}
+	};
 
 	static final String BUILDPATH_PROBLEM_MARKER = "org.eclipse.pde.ds.annotations.buildpath_problem"; //$NON-NLS-1$
 
@@ -208,10 +237,8 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		ProjectState state = null;
 		try {
 			Object value = project.getProject().getSessionProperty(PROP_STATE);
-			if (value instanceof SoftReference<?>) {
-				@SuppressWarnings("unchecked")
-				SoftReference<ProjectState> ref = (SoftReference<ProjectState>) value;
-				state = ref.get();
+			if (value instanceof ProjectState) {
+				state = (ProjectState) value;
 			}
 		} catch (CoreException e) {
 			Activator.log(e);
@@ -231,17 +258,34 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			}
 
 			try {
-				project.getProject().setSessionProperty(PROP_STATE, new SoftReference<>(state));
+				project.getProject().setSessionProperty(PROP_STATE, state);
 			} catch (CoreException e) {
 				Activator.log(e);
 			}
 		}
 
+		synchronized (cachedStates) {
+			cachedStates.put(project.getProject(), Boolean.TRUE);
+		}
+
 		return state;
 	}
 
 	private static ProjectState loadState(IProject project) throws IOException {
 		File stateFile = getStateFile(project);
+		if (!stateFile.canRead()) {
+			return loadLegacyState(project);
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(stateFile)))) {
+			ProjectState state = ProjectState.read(in);
+			traceLoadedState(project, state);
+			return state;
+		}
+	}
+
+	private static ProjectState loadLegacyState(IProject project) throws IOException {
+		File stateFile = getLegacyStateFile(project);
 		if (!stateFile.canRead()) {
 			if (debug.isDebugging())
 				debug.trace(String.format("Missing or invalid project state file: %s", stateFile)); //$NON-NLS-1$
@@ -251,13 +295,7 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 		try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(stateFile))) {
 			ProjectState state = (ProjectState) in.readObject();
-
-			if (debug.isDebugging()) {
-				debug.trace(String.format("Loaded state for project: %s", project.getName())); //$NON-NLS-1$
-				for (String cuKey : state.getCompilationUnits())
-					debug.trace(String.format("%s -> %s", cuKey, state.getModelFiles(cuKey))); //$NON-NLS-1$
-			}
-
+			traceLoadedState(project, state);
 			return state;
 		} catch (ClassNotFoundException e) {
 			IOException ex = new IOException("Unable to deserialize project state."); //$NON-NLS-1$
@@ -266,6 +304,14 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		}
 	}
 
+	private static void traceLoadedState(IProject project, ProjectState state) {
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Loaded state for project: %s", project.getName())); //$NON-NLS-1$
+			for (String cuKey : state.getCompilationUnits())
+				debug.trace(String.format("%s -> %s", cuKey, state.getModelFiles(cuKey))); //$NON-NLS-1$
+		}
+	}
+
 	@Override
 	public void buildFinished(IJavaProject project) {
 		ProjectContext projectContext = processingContext.remove(project);
@@ -372,17 +418,10 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				Activator.log(e);
 			}
 
-			if (projectContext.isChanged()) {
-				try {
-					saveState(project.getProject(), state);
-				} catch (IOException e) {
-					Activator.log(new Status(IStatus.ERROR, Activator.PLUGIN_ID, "Error saving file mappings.", e)); //$NON-NLS-1$
-				}
-			}
-
 			// delete all abandoned files
 			ArrayList<IStatus> deleteStatuses = new ArrayList<>(2);
 			for (String dsKey : abandoned) {
+				state.removeModelHash(dsKey);
 				IPath path = Path.fromPortableString(dsKey);
 
 				if (debug.isDebugging()) {
@@ -403,8 +442,21 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				Activator.log(new MultiStatus(Activator.PLUGIN_ID, 0, deleteStatuses.toArray(new IStatus[deleteStatuses.size()]), "Error deleting generated files.", null)); //$NON-NLS-1$
 			}
 
-			if (!retained.isEmpty() || !abandoned.isEmpty()) {
+			if ((!retained.isEmpty() || !abandoned.isEmpty()) && !isProjectUpToDate(project.getProject(), projectContext, retained, abandoned)) {
 				updateProject(project.getProject(), retained, abandoned);
+
+				IFile manifest = PDEProject.getManifest(project.getProject());
+				state.setStamp(manifest.getProjectRelativePath().toPortableString(), manifest.getModificationStamp());
+				IFile buildProperties = PDEProject.getBuildProperties(project.getProject());
+				state.setStamp(buildProperties.getProjectRelativePath().toPortableString(), buildProperties.getModificationStamp());
+			}
+
+			if (projectContext.isChanged()) {
+				try {
+					saveState(project.getProject(), state);
+				} catch (IOException e) {
+					Activator.log(new Status(IStatus.ERROR, Activator.PLUGIN_ID, "Error saving file mappings.", e)); //$NON-NLS-1$
+				}
 			}
 		}
 
@@ -413,6 +465,29 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		}
 	}
 
+	/**
+	 * Checks whether the manifest and build.properties are known to be up to
+	 * date: no descriptor was abandoned, the same descriptors were generated
+	 * with the same content as after the last update, and neither file was
+	 * modified since.
+	 */
+	private boolean isProjectUpToDate(IProject project, ProjectContext projectContext, Collection<String> retained, Collection<String> abandoned) {
+		if (!abandoned.isEmpty()) {
+			return false;
+		}
+
+		ProjectState state = projectContext.getState();
+		Map<String, String> hashes = state.getModelHashes();
+		if (!hashes.keySet().equals(retained) || !hashes.equals(projectContext.getOldState().getModelHashes())) {
+			return false;
+		}
+
+		IFile manifest = PDEProject.getManifest(project);
+		IFile buildProperties = PDEProject.getBuildProperties(project);
+		return state.getStamp(manifest.getProjectRelativePath().toPortableString()) == manifest.getModificationStamp()
+				&& state.getStamp(buildProperties.getProjectRelativePath().toPortableString()) == buildProperties.getModificationStamp();
+	}
+
 	private boolean matches(IPath path, IPath pattern) {
 		if (pattern.hasTrailingSeparator()) {
 			pattern = pattern.append("**"); //$NON-NLS-1$
@@ -444,8 +519,13 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			}
 		}
 
-		try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(stateFile))) {
-			out.writeObject(state);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(stateFile)))) {
+			state.write(out);
+		}
+
+		File legacyFile = getLegacyStateFile(project);
+		if (legacyFile.exists() && !legacyFile.delete() && debug.isDebugging()) {
+			debug.trace(String.format("Unable to delete legacy state file: %s", legacyFile)); //$NON-NLS-1$
 		}
 	}
 
@@ -643,7 +723,11 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				continue;
 			}
 
-			if (canSkipFile(cu)) {
+			if (!mayContainComponent(file.getContents()) || canSkipFile(cu)) {
+				if (debug.isDebugging()) {
+					debug.trace(String.format("Skipping compilation unit %s without component annotation.", file.getFile().getFullPath())); //$NON-NLS-1$
+				}
+
 				markAsAbandoned(cu);
 				continue;
 			}
@@ -667,14 +751,97 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		}
 	}
 
-	public boolean canSkipFile(ICompilationUnit cu) {
-		IType primaryType = cu.findPrimaryType();
-		if (primaryType == null) {
-			return false;
+	/**
+	 * Scans the source of a compilation unit for an annotation whose simple
+	 * name is <code>Component</code>, such as <code>@Component</code> or
+	 * <code>@org.osgi.service.component.annotations.Component</code>. This is
+	 * a token scan only; it may report units that merely mention such an
+	 * annotation in a comment or string, but never misses one that carries
+	 * it, so only the units it accepts need to be parsed with bindings.
+	 *
+	 * @param source the source of the compilation unit, may be <code>null</code>
+	 * @return <code>false</code> if the unit cannot carry a component annotation
+	 */
+	public static boolean mayContainComponent(char[] source) {
+		if (source == null) {
+			return true;
 		}
 
+		for (int i = 0; i < source.length; i++) {
+			char c = source[i];
+			if (c == '\\' && i + 1 < source.length && source[i + 1] == 'u') {
+				// unicode escapes can spell anything; let the parser decide
+				return true;
+			}
+
+			if (c != '@') {
+				continue;
+			}
+
+			// read the (possibly qualified) annotation name
+			String name = null;
+			int pos = skipWhitespaceAndComments(source, i + 1);
+			while (pos < source.length && Character.isJavaIdentifierStart(source[pos])) {
+				int start = pos;
+				while (pos < source.length && Character.isJavaIdentifierPart(source[pos])) {
+					pos++;
+				}
+
+				name = new String(source, start, pos - start);
+				pos = skipWhitespaceAndComments(source, pos);
+				if (pos >= source.length || source[pos] != '.') {
+					break;
+				}
+
+				pos = skipWhitespaceAndComments(source, pos + 1);
+			}
+
+			if ("Component".equals(name)) { //$NON-NLS-1$
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static int skipWhitespaceAndComments(char[] source, int pos) {
+		while (pos < source.length) {
+			char c = source[pos];
+			if (Character.isWhitespace(c)) {
+				pos++;
+			} else if (c == '/' && pos + 1 < source.length && source[pos + 1] == '*') {
+				pos += 2;
+				while (pos + 1 < source.length && !(source[pos] == '*' && source[pos + 1] == '/')) {
+					pos++;
+				}
+
+				pos += 2;
+			} else if (c == '/' && pos + 1 < source.length && source[pos + 1] == '/') {
+				while (pos < source.length && source[pos] != '\n' && source[pos] != '\r') {
+					pos++;
+				}
+			} else {
+				break;
+			}
+		}
+
+		return pos;
+	}
+
+	public boolean canSkipFile(ICompilationUnit cu) {
 		try {
-			return !containsComponent(primaryType);
+			IType[] types = cu.getTypes();
+			if (types.length == 0) {
+				return false;
+			}
+
+			for (IType type : types) {
+				if (containsComponent(type)) {
+					return false;
+				}
+			}
+
+			return true;
 		} catch (JavaModelException e) {
 			return false;
 		}
@@ -736,8 +903,7 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				return true;
 			}
 
-			File stateFile = getStateFile(project);
-			return stateFile.canRead();
+			return getStateFile(project).canRead() || getLegacyStateFile(project).canRead();
 		} catch (CoreException e) {
 			return false;
 		}
@@ -748,4 +914,9 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		File stateFile = new File(workDir, STATE_FILENAME);
 		return stateFile;
 	}
+
+	private static File getLegacyStateFile(IProject project) {
+		File workDir = project.getWorkingLocation(Activator.PLUGIN_ID).toFile();
+		return new File(workDir, LEGACY_STATE_FILENAME);
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2016 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,10 @@ public class ProjectContext {
 		return !oldState.equals(state);
 	}
 
+	public ProjectState getOldState() {
+		return oldState;
+	}
+
 	public ProjectState getState() {
 		return state;
 	}
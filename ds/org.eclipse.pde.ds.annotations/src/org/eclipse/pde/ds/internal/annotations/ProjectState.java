@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,15 +13,21 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.ListIterator;
 import java.util.Map;
 
+import org.eclipse.core.resources.IResource;
 import org.eclipse.jdt.core.JavaCore;
 
 public class ProjectState implements Serializable, Cloneable {
@@ -31,6 +37,12 @@ public class ProjectState implements Serializable, Cloneable {
 	// current state file format version
 	public static final int FORMAT_VERSION = 1;
 
+	// identifies a state file in binary format ("DSst")
+	static final int BINARY_MAGIC = 0x44537374;
+
+	// current binary encoding version
+	private static final int BINARY_VERSION = 1;
+
 	// package-prefixed CU name (w/out file extension) to plugin-root-relative (portable) paths of generated DS files (deprecated)
 	// note: we keep it non-null in case user downgrades to older plugin version where old logic depends on that
 	private /*final*/ Map<String, Collection<String>> mappings = new HashMap<>();
@@ -49,6 +61,12 @@ public class ProjectState implements Serializable, Cloneable {
 	// fully-qualified component type to plugin-root-relative (portable) path of corresponding generated DS file
 	private Map<String, String> files;
 
+	// plugin-root-relative (portable) path of generated DS file to hash of its generated content
+	private Map<String, String> hashes;
+
+	// project-relative (portable) path of manifest or build.properties to its modification stamp after the last update
+	private Map<String, Long> stamps;
+
 	// (de)serialized state file format version
 	private int formatVersion = FORMAT_VERSION;
 
@@ -144,6 +162,41 @@ public class ProjectState implements Serializable, Cloneable {
 		return oldDSKeys;
 	}
 
+	public String getModelHash(String dsKey) {
+		return hashes == null ? null : hashes.get(dsKey);
+	}
+
+	public void setModelHash(String dsKey, String hash) {
+		if (hashes == null) {
+			hashes = new HashMap<>();
+		}
+
+		hashes.put(dsKey, hash);
+	}
+
+	public void removeModelHash(String dsKey) {
+		if (hashes != null) {
+			hashes.remove(dsKey);
+		}
+	}
+
+	public Map<String, String> getModelHashes() {
+		return hashes == null ? Collections.emptyMap() : Collections.unmodifiableMap(hashes);
+	}
+
+	public long getStamp(String path) {
+		Long stamp = stamps == null ? null : stamps.get(path);
+		return stamp == null ? IResource.NULL_STAMP : stamp.longValue();
+	}
+
+	public void setStamp(String path, long stamp) {
+		if (stamps == null) {
+			stamps = new HashMap<>();
+		}
+
+		stamps.put(path, Long.valueOf(stamp));
+	}
+
 	public String getPath() {
 		return path;
 	}
@@ -217,9 +270,272 @@ public class ProjectState implements Serializable, Cloneable {
 			clone.files = new HashMap<>(files);
 		}
 
+		if (hashes != null) {
+			clone.hashes = new HashMap<>(hashes);
+		}
+
+		if (stamps != null) {
+			clone.stamps = new HashMap<>(stamps);
+		}
+
 		return clone;
 	}
 
+	/**
+	 * Writes this state in a compact binary format: a table of all distinct
+	 * strings followed by the settings and maps, with strings referenced by
+	 * their index in the table and all numbers written as variable-length
+	 * integers.
+	 *
+	 * @param out the output to write to
+	 * @throws IOException if the output cannot be written
+	 */
+	public void write(DataOutput out) throws IOException {
+		LinkedHashMap<String, Integer> table = new LinkedHashMap<>();
+		collectStrings(table);
+
+		out.writeInt(BINARY_MAGIC);
+		writeVarInt(out, BINARY_VERSION);
+		writeVarInt(out, table.size());
+		for (String value : table.keySet()) {
+			out.writeUTF(value);
+		}
+
+		writeVarInt(out, formatVersion);
+		writeString(out, table, path);
+		writeString(out, table, specVersion == null ? null : specVersion.name());
+		writeString(out, table, errorLevel == null ? null : errorLevel.name());
+		writeString(out, table, missingUnbindMethodLevel == null ? null : missingUnbindMethodLevel.name());
+		writeMultiMap(out, table, mappings);
+		writeMultiMap(out, table, types);
+		writeMap(out, table, files);
+		writeMap(out, table, hashes);
+		if (stamps == null) {
+			writeVarInt(out, 0);
+		} else {
+			writeVarInt(out, stamps.size() + 1);
+			for (Map.Entry<String, Long> entry : stamps.entrySet()) {
+				writeString(out, table, entry.getKey());
+				// zig-zag encoded so that NULL_STAMP stays short
+				long stamp = entry.getValue().longValue();
+				writeVarLong(out, (stamp << 1) ^ (stamp >> 63));
+			}
+		}
+	}
+
+	/**
+	 * Reads a state written by {@link #write(DataOutput)}.
+	 *
+	 * @param in the input to read from
+	 * @return the state
+	 * @throws IOException if the input cannot be read or is not a state in a
+	 *             supported binary format
+	 */
+	public static ProjectState read(DataInput in) throws IOException {
+		if (in.readInt() != BINARY_MAGIC) {
+			throw new IOException("Not a binary project state."); //$NON-NLS-1$
+		}
+
+		int version = readVarInt(in);
+		if (version != BINARY_VERSION) {
+			throw new IOException(String.format("Unsupported project state version: %d", version)); //$NON-NLS-1$
+		}
+
+		String[] table = new String[readVarInt(in)];
+		for (int i = 0; i < table.length; ++i) {
+			table[i] = in.readUTF();
+		}
+
+		ProjectState state = new ProjectState();
+		state.formatVersion = readVarInt(in);
+		state.path = readString(in, table);
+		state.specVersion = readEnum(DSAnnotationVersion.class, readString(in, table));
+		state.errorLevel = readEnum(ValidationErrorLevel.class, readString(in, table));
+		state.missingUnbindMethodLevel = readEnum(ValidationErrorLevel.class, readString(in, table));
+		Map<String, Collection<String>> mappings = readMultiMap(in, table);
+		state.mappings = mappings == null ? new HashMap<>() : mappings;
+		state.types = readMultiMap(in, table);
+		state.files = readMap(in, table);
+		state.hashes = readMap(in, table);
+		int size = readVarInt(in) - 1;
+		if (size >= 0) {
+			state.stamps = new HashMap<>(size * 4 / 3 + 1);
+			for (int i = 0; i < size; ++i) {
+				String key = readString(in, table);
+				long value = readVarLong(in);
+				state.stamps.put(key, Long.valueOf((value >>> 1) ^ -(value & 1)));
+			}
+		}
+
+		return state;
+	}
+
+	private void collectStrings(Map<String, Integer> table) {
+		addString(table, path);
+		addString(table, specVersion == null ? null : specVersion.name());
+		addString(table, errorLevel == null ? null : errorLevel.name());
+		addString(table, missingUnbindMethodLevel == null ? null : missingUnbindMethodLevel.name());
+		for (Map<String, Collection<String>> map : Arrays.asList(mappings, types)) {
+			if (map != null) {
+				for (Map.Entry<String, Collection<String>> entry : map.entrySet()) {
+					addString(table, entry.getKey());
+					for (String value : entry.getValue()) {
+						addString(table, value);
+					}
+				}
+			}
+		}
+
+		for (Map<String, String> map : Arrays.asList(files, hashes)) {
+			if (map != null) {
+				for (Map.Entry<String, String> entry : map.entrySet()) {
+					addString(table, entry.getKey());
+					addString(table, entry.getValue());
+				}
+			}
+		}
+
+		if (stamps != null) {
+			for (String key : stamps.keySet()) {
+				addString(table, key);
+			}
+		}
+	}
+
+	private static void addString(Map<String, Integer> table, String value) {
+		if (value != null && !table.containsKey(value)) {
+			table.put(value, Integer.valueOf(table.size()));
+		}
+	}
+
+	// index 0 stands for null, all other strings are offset by one
+	private static void writeString(DataOutput out, Map<String, Integer> table, String value) throws IOException {
+		writeVarInt(out, value == null ? 0 : table.get(value).intValue() + 1);
+	}
+
+	private static String readString(DataInput in, String[] table) throws IOException {
+		int index = readVarInt(in);
+		if (index > table.length) {
+			throw new IOException("Invalid string reference in project state."); //$NON-NLS-1$
+		}
+
+		return index == 0 ? null : table[index - 1];
+	}
+
+	private static <E extends Enum<E>> E readEnum(Class<E> enumType, String name) {
+		if (name == null) {
+			return null;
+		}
+
+		try {
+			return Enum.valueOf(enumType, name);
+		} catch (IllegalArgumentException e) {
+			// written by a newer version; fall back to the default
+			return null;
+		}
+	}
+
+	// maps are written with their size plus one, so that zero stands for a null map
+	private static void writeMultiMap(DataOutput out, Map<String, Integer> table, Map<String, Collection<String>> map) throws IOException {
+		if (map == null) {
+			writeVarInt(out, 0);
+			return;
+		}
+
+		writeVarInt(out, map.size() + 1);
+		for (Map.Entry<String, Collection<String>> entry : map.entrySet()) {
+			writeString(out, table, entry.getKey());
+			writeVarInt(out, entry.getValue().size());
+			for (String value : entry.getValue()) {
+				writeString(out, table, value);
+			}
+		}
+	}
+
+	private static Map<String, Collection<String>> readMultiMap(DataInput in, String[] table) throws IOException {
+		int size = readVarInt(in) - 1;
+		if (size < 0) {
+			return null;
+		}
+
+		HashMap<String, Collection<String>> map = new HashMap<>(size * 4 / 3 + 1);
+		for (int i = 0; i < size; ++i) {
+			String key = readString(in, table);
+			int count = readVarInt(in);
+			HashSet<String> values = new HashSet<>(count * 4 / 3 + 1);
+			for (int j = 0; j < count; ++j) {
+				values.add(readString(in, table));
+			}
+
+			map.put(key, values);
+		}
+
+		return map;
+	}
+
+	private static void writeMap(DataOutput out, Map<String, Integer> table, Map<String, String> map) throws IOException {
+		if (map == null) {
+			writeVarInt(out, 0);
+			return;
+		}
+
+		writeVarInt(out, map.size() + 1);
+		for (Map.Entry<String, String> entry : map.entrySet()) {
+			writeString(out, table, entry.getKey());
+			writeString(out, table, entry.getValue());
+		}
+	}
+
+	private static Map<String, String> readMap(DataInput in, String[] table) throws IOException {
+		int size = readVarInt(in) - 1;
+		if (size < 0) {
+			return null;
+		}
+
+		HashMap<String, String> map = new HashMap<>(size * 4 / 3 + 1);
+		for (int i = 0; i < size; ++i) {
+			String key = readString(in, table);
+			map.put(key, readString(in, table));
+		}
+
+		return map;
+	}
+
+	private static void writeVarInt(DataOutput out, int value) throws IOException {
+		writeVarLong(out, value & 0xFFFFFFFFL);
+	}
+
+	private static int readVarInt(DataInput in) throws IOException {
+		long value = readVarLong(in);
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new IOException("Invalid number in project state."); //$NON-NLS-1$
+		}
+
+		return (int) value;
+	}
+
+	private static void writeVarLong(DataOutput out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+
+		out.writeByte((int) value);
+	}
+
+	private static long readVarLong(DataInput in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+
+		throw new IOException("Invalid number in project state."); //$NON-NLS-1$
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == this) {
@@ -238,7 +554,9 @@ public class ProjectState implements Serializable, Cloneable {
 				&& missingUnbindMethodLevel == o.missingUnbindMethodLevel
 				&& mappings.equals(o.mappings)
 				&& (files == null ? o.files == null : files.equals(o.files))
-				&& (types == null ? o.types == null : types.equals(o.types));
+				&& (types == null ? o.types == null : types.equals(o.types))
+				&& getModelHashes().equals(o.getModelHashes())
+				&& (stamps == null ? o.stamps == null : stamps.equals(o.stamps));
 	}
 
 	@Override
@@ -247,7 +565,9 @@ public class ProjectState implements Serializable, Cloneable {
 		buf.append(path).append(";mappings="); //$NON-NLS-1$
 		buf.append(mappings).append(";types="); //$NON-NLS-1$
 		buf.append(types).append(";files="); //$NON-NLS-1$
-		buf.append(files).append(";errorLevel="); //$NON-NLS-1$
+		buf.append(files).append(";hashes="); //$NON-NLS-1$
+		buf.append(hashes).append(";stamps="); //$NON-NLS-1$
+		buf.append(stamps).append(";errorLevel="); //$NON-NLS-1$
 		buf.append(specVersion).append(";specVersion="); //$NON-NLS-1$
 		buf.append(errorLevel).append(";missingUnbindMethodLevel="); //$NON-NLS-1$
 		buf.append(missingUnbindMethodLevel).append(";formatVersion="); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,11 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ds.core.builders;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -28,6 +31,7 @@ import org.eclipse.core.resources.IResourceVisitor;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.content.IContentDescription;
 import org.eclipse.core.runtime.content.IContentType;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
@@ -41,12 +45,14 @@ public class DSBuilder extends IncrementalProjectBuilder {
 
 	private static String PDE_NATURE = "org.eclipse.pde.PluginNature"; //$NON-NLS-1$
 	private static IProject[] EMPTY_LIST = new IProject[0];
+	// number of descriptors from which they are validated in parallel
+	private static final int PARALLEL_THRESHOLD = 4;
 
 	class ResourceVisitor implements IResourceVisitor {
-		private IProgressMonitor monitor;
+		private List<IFile> files;
 
-		public ResourceVisitor(IProgressMonitor monitor) {
-			this.monitor = monitor;
+		public ResourceVisitor(List<IFile> files) {
+			this.files = files;
 		}
 
 		@Override
@@ -65,7 +71,7 @@ public class DSBuilder extends IncrementalProjectBuilder {
 				// see if this is it
 				IFile candidate = (IFile) resource;
 				if (isDSFile(candidate)) {
-					checkFile(candidate, monitor);
+					files.add(candidate);
 					return true;
 				}
 			}
@@ -74,10 +80,10 @@ public class DSBuilder extends IncrementalProjectBuilder {
 	}
 
 	class DeltaVisitor implements IResourceDeltaVisitor {
-		private IProgressMonitor monitor;
+		private List<IFile> files;
 
-		public DeltaVisitor(IProgressMonitor monitor) {
-			this.monitor = monitor;
+		public DeltaVisitor(List<IFile> files) {
+			this.files = files;
 		}
 
 		@Override
@@ -100,7 +106,7 @@ public class DSBuilder extends IncrementalProjectBuilder {
 				if (isDSFile(candidate)) {
 					// That's it, but only check it if it has been added or changed
 					if (delta.getKind() != IResourceDelta.REMOVED) {
-						checkFile(candidate, monitor);
+						files.add(candidate);
 						return true;
 					}
 				}
@@ -117,13 +123,15 @@ public class DSBuilder extends IncrementalProjectBuilder {
 		if (kind != FULL_BUILD)
 			delta = getDelta(getProject());
 
+		List<IFile> files = new ArrayList<>();
 		if (delta == null || kind == FULL_BUILD) {
 			// Full build
 			IProject project = getProject();
-			project.accept(new ResourceVisitor(monitor));
+			project.accept(new ResourceVisitor(files));
 		} else {
-			delta.accept(new DeltaVisitor(monitor));
+			delta.accept(new DeltaVisitor(files));
 		}
+		checkFiles(files, monitor);
 		return EMPTY_LIST;
 	}
 
@@ -146,20 +154,50 @@ public class DSBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
-	private void checkFile(IFile file, IProgressMonitor monitor) {
+	private void checkFiles(List<IFile> files, IProgressMonitor monitor) {
+		// type lookups are shared by all descriptors of this build
+		Map<String, Boolean> typeCache = new ConcurrentHashMap<>();
+		if (files.size() < PARALLEL_THRESHOLD) {
+			for (IFile file : files) {
+				checkFile(file, typeCache, monitor);
+			}
+			return;
+		}
+
+		// validate in parallel, but create the markers on the build thread
+		// as it owns the scheduling rule for the workspace changes
+		DSErrorReporter[] reporters = files.parallelStream()
+				.map(file -> monitor.isCanceled() ? null : validate(file, true, typeCache, new NullProgressMonitor()))
+				.toArray(DSErrorReporter[]::new);
+		monitor.subTask(Messages.DSBuilder_updating);
+		for (DSErrorReporter reporter : reporters) {
+			if (monitor.isCanceled())
+				return;
+			if (reporter != null)
+				reporter.applyMarkers();
+		}
+		monitor.done();
+	}
+
+	private void checkFile(IFile file, Map<String, Boolean> typeCache, IProgressMonitor monitor) {
 		if (monitor.isCanceled())
 			return;
 		String message = NLS.bind(Messages.DSBuilder_verifying, file
 				.getFullPath().toString());
 		monitor.subTask(message);
 
-		DSErrorReporter reporter = new DSErrorReporter(file);
-		DefaultSAXParser.parse(file, reporter);
-		reporter.validateContent(monitor);
+		validate(file, false, typeCache, monitor);
 		monitor.subTask(Messages.DSBuilder_updating);
 		monitor.done();
 	}
 
+	private static DSErrorReporter validate(IFile file, boolean deferMarkers, Map<String, Boolean> typeCache, IProgressMonitor monitor) {
+		DSErrorReporter reporter = new DSErrorReporter(file, deferMarkers, typeCache);
+		DefaultSAXParser.parse(file, reporter);
+		reporter.validateContent(monitor);
+		return reporter;
+	}
+
 	@Override
 	public ISchedulingRule getRule(int kind, Map<String, String> args) {
 		return new MultiRule(Arrays.stream(getProject().getWorkspace().getRoot().getProjects())
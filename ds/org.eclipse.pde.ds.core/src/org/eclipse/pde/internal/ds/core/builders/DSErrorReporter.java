@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Code 9 Corporation and others.
+ * Copyright (c) 2008, 2026 Code 9 Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.pde.internal.ds.core.builders;
 
 import java.lang.reflect.Constructor;
 import java.util.Hashtable;
+import java.util.Map;
 import java.util.StringTokenizer;
 
 import org.eclipse.core.resources.IFile;
@@ -51,8 +52,21 @@ public class DSErrorReporter extends XMLErrorReporter {
 	public static final int WARNING = 1;
 	public static final int IGNORE = 2;
 
+	private final Map<String, Boolean> fTypeCache;
+
 	public DSErrorReporter(IFile file) {
-		super(file);
+		this(file, false, null);
+	}
+
+	/**
+	 * @param file the component descriptor to validate
+	 * @param deferMarkers whether markers are created by {@link #applyMarkers()}
+	 * @param typeCache the results of type lookups shared by the descriptors
+	 *            of one build, or <code>null</code>
+	 */
+	public DSErrorReporter(IFile file, boolean deferMarkers, Map<String, Boolean> typeCache) {
+		super(file, deferMarkers);
+		fTypeCache = typeCache;
 	}
 
 	@Override
@@ -472,7 +486,7 @@ public class DSErrorReporter extends XMLErrorReporter {
 		try {
 			if (fProject.hasNature(JavaCore.NATURE_ID)) {
 				IJavaProject jp = JavaCore.create(fProject);
-				if (!DSJavaHelper.isOnClasspath(fullyQualifiedName, (jp))) {
+				if (!DSJavaHelper.isOnClasspath(fullyQualifiedName, jp, fTypeCache)) {
 					reportJavaTypeNotFound(elementName, attrName,
 							fullyQualifiedName, index);
 				}
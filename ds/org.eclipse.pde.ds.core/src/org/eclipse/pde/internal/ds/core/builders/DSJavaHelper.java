@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ds.core.builders;
 
+import java.util.Map;
+
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
@@ -35,4 +37,21 @@ public class DSJavaHelper {
 		return false;
 	}
 
+	/**
+	 * Like {@link #isOnClasspath(String, IJavaProject)}, but answers repeated
+	 * lookups from the given cache. The cache must only be used for one
+	 * project and as long as its classpath and types do not change, such as
+	 * during a single build.
+	 *
+	 * @param fullyQualifiedName the name of the type
+	 * @param project the project whose classpath is searched
+	 * @param cache a thread-safe cache, or <code>null</code>
+	 * @return whether the type exists on the classpath of the project
+	 */
+	public static boolean isOnClasspath(String fullyQualifiedName, IJavaProject project, Map<String, Boolean> cache) {
+		if (cache == null)
+			return isOnClasspath(fullyQualifiedName, project);
+		return cache.computeIfAbsent(fullyQualifiedName, name -> Boolean.valueOf(isOnClasspath(name, project))).booleanValue();
+	}
+
 }
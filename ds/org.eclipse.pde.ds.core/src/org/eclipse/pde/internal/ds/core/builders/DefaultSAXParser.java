@@ -29,12 +29,8 @@ import org.xml.sax.SAXException;
 public class DefaultSAXParser {
 
 	public static void parse(IFile file, XMLErrorReporter reporter) {
-		SAXParserWrapper parser = null;
-		try {
-			parser = new SAXParserWrapper();
-			try (InputStream stream = new BufferedInputStream(file.getContents())) {
-				parser.parse(stream, reporter);
-			}
+		try (SAXParserWrapper parser = new SAXParserWrapper(); InputStream stream = new BufferedInputStream(file.getContents())) {
+			parser.parse(stream, reporter);
 		} catch (CoreException e) {
 		} catch (SAXException e) {
 		} catch (IOException e) {
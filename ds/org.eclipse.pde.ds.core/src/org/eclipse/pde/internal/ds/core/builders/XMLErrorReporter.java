@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.pde.internal.ds.core.builders;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Stack;
 
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -60,6 +61,22 @@ public class XMLErrorReporter extends DefaultHandler {
 		}
 	}
 
+	private static class PendingMarker {
+		final String message;
+		final int lineNumber;
+		final int severity;
+		final int fixId;
+		final String category;
+
+		PendingMarker(String message, int lineNumber, int severity, int fixId, String category) {
+			this.message = message;
+			this.lineNumber = lineNumber;
+			this.severity = severity;
+			this.fixId = fixId;
+			this.category = category;
+		}
+	}
+
 	protected IFile fFile;
 	protected IProject fProject;
 	private int fErrorCount;
@@ -72,8 +89,22 @@ public class XMLErrorReporter extends DefaultHandler {
 	private int fHighestOffset;
 	private HashMap<Element, ElementData> fOffsetTable;
 	private FindReplaceDocumentAdapter fFindReplaceAdapter;
+	private List<PendingMarker> fPendingMarkers;
 
 	public XMLErrorReporter(IFile file) {
+		this(file, false);
+	}
+
+	/**
+	 * Creates a reporter for the given file.
+	 *
+	 * @param file the file to validate
+	 * @param deferMarkers whether problems are only collected, so that the file
+	 *            can be validated on a thread that must not modify the
+	 *            workspace; the markers are then created by
+	 *            {@link #applyMarkers()}
+	 */
+	public XMLErrorReporter(IFile file, boolean deferMarkers) {
 		ITextFileBufferManager manager = FileBuffers.getTextFileBufferManager();
 		try {
 			fFile = file;
@@ -84,7 +115,10 @@ public class XMLErrorReporter extends DefaultHandler {
 			fFindReplaceAdapter = new FindReplaceDocumentAdapter(fTextDocument);
 			fOffsetTable = new HashMap<>();
 			fElementStack = new Stack<>();
-			removeFileMarkers();
+			if (deferMarkers)
+				fPendingMarkers = new ArrayList<>();
+			else
+				removeFileMarkers();
 		} catch (CoreException e) {
 			// TODO log message
 		}
@@ -95,6 +129,12 @@ public class XMLErrorReporter extends DefaultHandler {
 	}
 
 	private IMarker addMarker(String message, int lineNumber, int severity, int fixId, String category) {
+		if (fPendingMarkers != null) {
+			fPendingMarkers.add(new PendingMarker(message, lineNumber, severity, fixId, category));
+			if (severity == IMarker.SEVERITY_ERROR)
+				fErrorCount += 1;
+			return null;
+		}
 		try {
 			IMarker marker = getMarkerFactory().createMarker(fFile, fixId, category);
 			marker.setAttribute(IMarker.MESSAGE, message);
@@ -111,6 +151,22 @@ public class XMLErrorReporter extends DefaultHandler {
 		return null;
 	}
 
+	/**
+	 * Replaces the markers of the file with the problems collected by a
+	 * reporter that defers its markers. Does nothing otherwise.
+	 */
+	public void applyMarkers() {
+		if (fPendingMarkers == null)
+			return;
+		List<PendingMarker> pending = fPendingMarkers;
+		fPendingMarkers = null;
+		fErrorCount = 0;
+		removeFileMarkers();
+		for (PendingMarker marker : pending) {
+			addMarker(marker.message, marker.lineNumber, marker.severity, marker.fixId, marker.category);
+		}
+	}
+
 	private DSMarkerFactory getMarkerFactory() {
 		if (fMarkerFactory == null)
 			fMarkerFactory = new DSMarkerFactory();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.lang.ref.WeakReference;
 import java.util.*;
 import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.runtime.*;
@@ -20,13 +21,57 @@ import org.eclipse.osgi.service.resolver.*;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 
+/**
+ * Resolves a set of plug-in models in a separate state to report unresolved
+ * constraints and duplicate singletons.
+ * <p>
+ * The state of the last validation is kept. Validating the same models with
+ * the same platform properties again reuses its result. Otherwise the kept
+ * state is updated with the added, removed and changed bundles and resolved
+ * again, which is incremental when the platform properties are unchanged.
+ * Since the kept state changes with every validation, each operation takes a
+ * snapshot of its result before the next validation may run.
+ * </p>
+ */
 public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private static StateObjectFactory FACTORY;
 
+	/**
+	 * Guards the cached validation state and the results read from it.
+	 */
+	private static final Object LOCK = new Object();
+
+	private static State fCachedState;
+	private static String fCachedProperties;
+	private static Map<String, CachedBundle> fCachedBundles;
+
+	/**
+	 * Copy of a bundle in the cached state. The bundle it was copied from is
+	 * only weakly referenced so that descriptions of replaced target platform
+	 * states can be collected.
+	 */
+	private static class CachedBundle {
+		final WeakReference<BundleDescription> source;
+		final BundleDescription copy;
+		final long stamp;
+
+		CachedBundle(BundleDescription source, BundleDescription copy, long stamp) {
+			this.source = new WeakReference<>(source);
+			this.copy = copy;
+			this.stamp = stamp;
+		}
+
+		boolean isCopyOf(BundleDescription bundle, Long bundleStamp) {
+			return bundleStamp != null && bundleStamp.longValue() == stamp && source.get() == bundle;
+		}
+	}
+
 	private IPluginModelBase[] fModels;
 	private Dictionary<?, ?>[] fProperties;
-	private State fState;
+	private Map<Object, Object[]> fResolverErrors;
+	private boolean fHasErrors;
+	private Set<String> fSymbolicNames;
 
 	public BundleValidationOperation(IPluginModelBase[] models) {
 		this(models, new Dictionary[] {TargetPlatformHelper.getTargetEnvironment()});
@@ -43,28 +88,104 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 			FACTORY = Platform.getPlatformAdmin().getFactory();
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.length + 1);
-		fState = FACTORY.createState(true);
-		for (IPluginModelBase fModel : fModels) {
-			BundleDescription bundle = fModel.getBundleDescription();
-			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(bundle));
+		// bundles to validate in model order, with the time stamp of their model
+		Map<String, BundleDescription> locations = new HashMap<>(fModels.length);
+		Map<BundleDescription, Long> stamps = new IdentityHashMap<>(fModels.length);
+		List<BundleDescription> bundles = new ArrayList<>(fModels.length);
+		for (IPluginModelBase model : fModels) {
+			BundleDescription bundle = model.getBundleDescription();
+			if (bundle != null && stamps.put(bundle, Long.valueOf(model.getTimeStamp())) == null) {
+				bundles.add(bundle);
+				locations.put(bundle.getLocation(), bundle);
+			}
+		}
+		String properties = computeFingerprint(fProperties);
+
+		synchronized (LOCK) {
+			if (fCachedState == null) {
+				fCachedState = FACTORY.createState(true);
+				fCachedBundles = new HashMap<>();
+				fCachedProperties = null;
+			}
+			boolean changed = false;
+
+			// drop bundles that are no longer validated or whose model changed
+			for (Iterator<Map.Entry<String, CachedBundle>> iter = fCachedBundles.entrySet().iterator(); iter.hasNext();) {
+				Map.Entry<String, CachedBundle> entry = iter.next();
+				BundleDescription bundle = locations.get(entry.getKey());
+				if (bundle == null || !entry.getValue().isCopyOf(bundle, stamps.get(bundle))) {
+					fCachedState.removeBundle(entry.getValue().copy);
+					iter.remove();
+					changed = true;
+				}
+			}
+
+			// copy the new bundles in parallel, then add them in model order
+			List<BundleDescription> added = new ArrayList<>();
+			for (BundleDescription bundle : bundles) {
+				if (!fCachedBundles.containsKey(bundle.getLocation()))
+					added.add(bundle);
+			}
+			BundleDescription[] copies = added.parallelStream().map(bundle -> FACTORY.createBundleDescription(bundle)).toArray(BundleDescription[]::new);
+			for (int i = 0; i < copies.length; i++) {
+				BundleDescription bundle = added.get(i);
+				fCachedState.addBundle(copies[i]);
+				fCachedBundles.put(bundle.getLocation(), new CachedBundle(bundle, copies[i], stamps.get(bundle).longValue()));
+				changed = true;
+			}
+			subMonitor.split(fModels.length);
+
+			boolean propertiesChanged = !properties.equals(fCachedProperties);
+			if (propertiesChanged) {
+				fCachedState.setPlatformProperties(fProperties);
+				fCachedProperties = properties;
+			}
+			if (changed || propertiesChanged)
+				fCachedState.resolve(!propertiesChanged);
+
+			// the next validation changes the state, keep the result of this one
+			BundleDescription[] validated = fCachedState.getBundles();
+			fResolverErrors = computeResolverErrors(validated);
+			fHasErrors = computeHasErrors(validated);
+			fSymbolicNames = new HashSet<>();
+			for (BundleDescription bundle : validated) {
+				fSymbolicNames.add(bundle.getSymbolicName());
 			}
-			subMonitor.split(1);
 		}
-		fState.setPlatformProperties(fProperties);
-		fState.resolve(false);
 		subMonitor.split(1);
 	}
 
+	private static String computeFingerprint(Dictionary<?, ?>[] properties) {
+		StringBuilder buffer = new StringBuilder();
+		for (Dictionary<?, ?> dictionary : properties) {
+			Map<String, String> sorted = new TreeMap<>();
+			for (Enumeration<?> keys = dictionary.keys(); keys.hasMoreElements();) {
+				Object key = keys.nextElement();
+				Object value = dictionary.get(key);
+				sorted.put(String.valueOf(key), value instanceof Object[] ? Arrays.toString((Object[]) value) : String.valueOf(value));
+			}
+			buffer.append(sorted).append('\n');
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Returns the unresolved bundles and duplicate singletons found by this
+	 * operation, mapped to their resolver errors or to a status describing the
+	 * duplicates. The returned map may be modified by the caller.
+	 */
 	public Map<Object, Object[]> getResolverErrors() {
+		return new LinkedHashMap<>(fResolverErrors);
+	}
+
+	private static Map<Object, Object[]> computeResolverErrors(BundleDescription[] bundles) {
 		Set<String> alreadyDuplicated = new HashSet<>();
 		Map<Object, Object[]> map = new LinkedHashMap<>();
-		BundleDescription[] bundles = fState.getBundles();
 		for (BundleDescription bundle : bundles) {
 			if (!bundle.isResolved()) {
-				map.put(bundle, fState.getResolverErrors(bundle));
+				map.put(bundle, fCachedState.getResolverErrors(bundle));
 			} else if (bundle.isSingleton() && !alreadyDuplicated.contains(bundle.getSymbolicName())) {
-				BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+				BundleDescription[] dups = fCachedState.getBundles(bundle.getSymbolicName());
 				if (dups.length > 1) {
 					// more than 1 singleton present
 					alreadyDuplicated.add(bundle.getSymbolicName());
@@ -79,22 +200,33 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		return map;
 	}
 
-	public State getState() {
-		return fState;
+	/**
+	 * Returns whether a bundle with the given symbolic name was validated.
+	 */
+	public boolean containsBundle(String symbolicName) {
+		return fSymbolicNames.contains(symbolicName);
+	}
+
+	/**
+	 * Returns whether no bundle was validated.
+	 */
+	public boolean isEmpty() {
+		return fSymbolicNames.isEmpty();
 	}
 
 	public boolean hasErrors() {
-		if (fState.getHighestBundleId() > -1) {
-			BundleDescription[] bundles = fState.getBundles();
-			for (BundleDescription bundle : bundles) {
-				if (!bundle.isResolved()) {
+		return fHasErrors;
+	}
+
+	private static boolean computeHasErrors(BundleDescription[] bundles) {
+		for (BundleDescription bundle : bundles) {
+			if (!bundle.isResolved()) {
+				return true;
+			} else if (bundle.isSingleton()) {
+				BundleDescription[] dups = fCachedState.getBundles(bundle.getSymbolicName());
+				if (dups.length > 1) {
+					// more than one singleton
 					return true;
-				} else if (bundle.isSingleton()) {
-					BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
-					if (dups.length > 1) {
-						// more than one singleton
-						return true;
-					}
 				}
 			}
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,10 @@ package org.eclipse.pde.internal.core;
 import java.io.*;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import org.eclipse.core.runtime.*;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
@@ -43,6 +47,8 @@ public class P2Utils {
 
 	public static final String P2_FLAVOR_DEFAULT = "tooling"; //$NON-NLS-1$
 
+	private static final String PROFILE_DIGEST_SUFFIX = ".pdedigest"; //$NON-NLS-1$
+
 	public static final ITouchpointType TOUCHPOINT_OSGI = MetadataFactory.createTouchpointType("org.eclipse.equinox.p2.osgi", Version.createOSGi(1, 0, 0)); //$NON-NLS-1$
 	private static final String CAPABILITY_NS_OSGI_BUNDLE = "osgi.bundle"; //$NON-NLS-1$
 	private static final String CAPABILITY_NS_OSGI_FRAGMENT = "osgi.fragment"; //$NON-NLS-1$
@@ -297,8 +303,8 @@ public class P2Utils {
 		SimpleConfiguratorManipulator manipulator = BundleHelper.getDefault()
 				.acquireService(SimpleConfiguratorManipulator.class);
 		try {
-			manipulator.saveConfiguration(infos, bundlesTxt, null);
-			manipulator.saveConfiguration(sources, srcBundlesTxt, null);
+			saveConfiguration(manipulator, infos, bundlesTxt);
+			saveConfiguration(manipulator, sources, srcBundlesTxt);
 		} catch (IOException e) {
 			PDECore.logException(e);
 			return null;
@@ -315,6 +321,24 @@ public class P2Utils {
 		}
 	}
 
+	/**
+	 * Writes the given bundle list unless the file already has exactly the
+	 * same contents. Leaving an unchanged file untouched keeps its time stamp,
+	 * so the simple configurator of the launched framework does not reconcile
+	 * its installed bundles again.
+	 */
+	private static void saveConfiguration(SimpleConfiguratorManipulator manipulator, BundleInfo[] infos, File file) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		manipulator.saveConfiguration(infos, buffer, null);
+		byte[] contents = buffer.toByteArray();
+		if (file.isFile() && file.length() == contents.length && Arrays.equals(contents, Files.readAllBytes(file.toPath())))
+			return;
+		file.getParentFile().mkdirs();
+		try (OutputStream stream = new FileOutputStream(file)) {
+			stream.write(contents);
+		}
+	}
+
 	/**
 	 * Returns whether a profile with the given ID exists in a profile registry
 	 * stored in the give p2 data area.
@@ -411,6 +435,63 @@ public class P2Utils {
 			throw new CoreException(status);
 		}
 
+		// remember what the profile was generated from, see isProfileCurrent()
+		try {
+			Files.write(new File(p2DataArea, profileID + PROFILE_DIGEST_SUFFIX).toPath(), computeProfileDigest(bundles).getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			PDECore.logException(e);
+		}
+	}
+
+	/**
+	 * Returns whether the profile with the given ID exists in the given p2 data
+	 * area and was generated by {@link #createProfile(String, File, Collection)}
+	 * from the same bundles and target environment.
+	 *
+	 * @param profileID id of the profile to check
+	 * @param p2DataArea data area where the profile registry is
+	 * @param bundles the collection of IPluginModelBase objects the profile should contain
+	 * @return whether the existing profile can be reused
+	 */
+	public static boolean isProfileCurrent(String profileID, File p2DataArea, Collection<?> bundles) throws CoreException {
+		File digestFile = new File(p2DataArea, profileID + PROFILE_DIGEST_SUFFIX);
+		if (!digestFile.isFile())
+			return false;
+		try {
+			String digest = new String(Files.readAllBytes(digestFile.toPath()), StandardCharsets.UTF_8);
+			if (!digest.equals(computeProfileDigest(bundles)))
+				return false;
+		} catch (IOException e) {
+			return false;
+		}
+		return profileExists(profileID, p2DataArea);
+	}
+
+	private static String computeProfileDigest(Collection<?> bundles) {
+		List<String> entries = new ArrayList<>(bundles.size() + 2);
+		for (Object bundle : bundles) {
+			IPluginModelBase model = (IPluginModelBase) bundle;
+			BundleDescription desc = model.getBundleDescription();
+			if (desc != null)
+				entries.add(desc.getSymbolicName() + '_' + desc.getVersion() + '@' + model.getInstallLocation());
+		}
+		Collections.sort(entries);
+		entries.add(generateEnvironmentProperties());
+		entries.add(TargetPlatform.getNL());
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			for (String entry : entries) {
+				digest.update(String.valueOf(entry).getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			}
+			StringBuilder result = new StringBuilder();
+			for (byte b : digest.digest())
+				result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			return result.toString();
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.eclipse.osgi.util.ManifestElement;
 import org.eclipse.pde.core.plugin.*;
 import org.eclipse.pde.internal.core.ibundle.IBundleModel;
 import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
+import org.eclipse.pde.internal.core.util.StringPool;
 import org.osgi.framework.BundleException;
 import org.osgi.framework.Constants;
 import org.w3c.dom.*;
@@ -51,7 +52,12 @@ public class PDEAuxiliaryState {
 	private static String ELEMENT_LIB = "library"; //$NON-NLS-1$
 	private static String ELEMENT_ROOT = "map"; //$NON-NLS-1$
 
-	protected Map<String, PluginInfo> fPluginInfos;
+	private static final String[] NO_LIBRARIES = new String[0];
+
+	protected Map<Long, PluginInfo> fPluginInfos;
+
+	// shares repeated strings between startLoad() and endLoad()
+	private StringPool fStringPool;
 
 	/**
 	 * Constructor
@@ -70,41 +76,84 @@ public class PDEAuxiliaryState {
 	}
 
 	/**
-	 * Provides a simple way of storing auxiliary data for a plugin
+	 * Provides a simple way of storing auxiliary data for a plugin. One
+	 * instance exists per bundle in the target, so the values that repeat
+	 * across bundles are shared through a {@link StringPool} while loading and
+	 * boolean properties are packed into flags.
 	 */
-	class PluginInfo {
+	static class PluginInfo {
+		static final byte EXTENSIBLE_API = 0x1;
+		static final byte PATCH_FRAGMENT = 0x2;
+		static final byte BUNDLE_STRUCTURE = 0x4;
+
 		String name;
 		String providerName;
 		String className;
-		boolean hasExtensibleAPI;
-		boolean isPatchFragment;
-		boolean hasBundleStructure;
-		String[] libraries;
+		byte flags;
+		String[] libraries = NO_LIBRARIES;
 		String project;
 		String localization;
 		String bundleSourceEntry;
+
+		boolean is(byte flag) {
+			return (flags & flag) != 0;
+		}
+
+		void set(byte flag, boolean value) {
+			if (value)
+				flags |= flag;
+			else
+				flags &= ~flag;
+		}
+	}
+
+	private static String[] shareLibraries(String[] libraries, StringPool pool) {
+		if (libraries.length == 0)
+			return NO_LIBRARIES;
+		return pool == null ? libraries : pool.share(libraries);
+	}
+
+	private static String share(String value, StringPool pool) {
+		return pool == null ? value : pool.share(value);
+	}
+
+	/**
+	 * Starts sharing the repeated values of the bundles added through
+	 * {@link #addAuxiliaryData(BundleDescription, Map, boolean)} until
+	 * {@link #endLoad()} is called.
+	 */
+	protected void startLoad() {
+		fStringPool = new StringPool();
+	}
+
+	/**
+	 * Drops the strings pooled since {@link #startLoad()}.
+	 */
+	protected void endLoad() {
+		fStringPool = null;
 	}
 
 	/**
 	 * Helper method to create a plugin info object for the given
 	 * element.  The plugin info object is added to the map.
 	 * @param element
+	 * @param pool shares the values repeated across bundles
 	 */
-	private void createPluginInfo(Element element) {
+	private void createPluginInfo(Element element, StringPool pool) {
 		PluginInfo info = new PluginInfo();
 		if (element.hasAttribute(ATTR_NAME))
 			info.name = element.getAttribute(ATTR_NAME);
 		if (element.hasAttribute(ATTR_PROVIDER))
-			info.providerName = element.getAttribute(ATTR_PROVIDER);
+			info.providerName = pool.share(element.getAttribute(ATTR_PROVIDER));
 		if (element.hasAttribute(ATTR_CLASS))
 			info.className = element.getAttribute(ATTR_CLASS);
-		info.hasExtensibleAPI = "true".equals(element.getAttribute(ATTR_EXTENSIBLE_API)); //$NON-NLS-1$
-		info.isPatchFragment = "true".equals(element.getAttribute(ATTR_PATCH)); //$NON-NLS-1$
-		info.hasBundleStructure = !"false".equals(element.getAttribute(ATTR_BUNDLE_STRUCTURE)); //$NON-NLS-1$
+		info.set(PluginInfo.EXTENSIBLE_API, "true".equals(element.getAttribute(ATTR_EXTENSIBLE_API))); //$NON-NLS-1$
+		info.set(PluginInfo.PATCH_FRAGMENT, "true".equals(element.getAttribute(ATTR_PATCH))); //$NON-NLS-1$
+		info.set(PluginInfo.BUNDLE_STRUCTURE, !"false".equals(element.getAttribute(ATTR_BUNDLE_STRUCTURE))); //$NON-NLS-1$
 		if (element.hasAttribute(ATTR_PROJECT))
 			info.project = element.getAttribute(ATTR_PROJECT);
 		if (element.hasAttribute(ATTR_LOCALIZATION))
-			info.localization = element.getAttribute(ATTR_LOCALIZATION);
+			info.localization = pool.share(element.getAttribute(ATTR_LOCALIZATION));
 		if (element.hasAttribute(ATTR_BUNDLE_SOURCE))
 			info.bundleSourceEntry = element.getAttribute(ATTR_BUNDLE_SOURCE);
 
@@ -116,57 +165,61 @@ public class PDEAuxiliaryState {
 				list.add(lib.getAttribute(ATTR_NAME));
 			}
 		}
-		info.libraries = list.toArray(new String[list.size()]);
-		fPluginInfos.put(element.getAttribute(ATTR_BUNDLE_ID), info);
+		info.libraries = shareLibraries(list.toArray(new String[list.size()]), pool);
+		try {
+			fPluginInfos.put(Long.valueOf(element.getAttribute(ATTR_BUNDLE_ID)), info);
+		} catch (NumberFormatException e) {
+			// ignore malformed entries, the bundle will be re-read from its manifest
+		}
 	}
 
 	public String getClassName(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(Long.valueOf(bundleID));
 		return info == null ? null : info.className;
 	}
 
 	public boolean hasExtensibleAPI(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
-		return info == null ? false : info.hasExtensibleAPI;
+		PluginInfo info = fPluginInfos.get(Long.valueOf(bundleID));
+		return info == null ? false : info.is(PluginInfo.EXTENSIBLE_API);
 	}
 
 	public boolean isPatchFragment(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
-		return info == null ? false : info.isPatchFragment;
+		PluginInfo info = fPluginInfos.get(Long.valueOf(bundleID));
+		return info == null ? false : info.is(PluginInfo.PATCH_FRAGMENT);
 	}
 
 	public boolean hasBundleStructure(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
-		return info == null ? false : info.hasBundleStructure;
+		PluginInfo info = fPluginInfos.get(Long.valueOf(bundleID));
+		return info == null ? false : info.is(PluginInfo.BUNDLE_STRUCTURE);
 	}
 
 	public String getPluginName(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(Long.valueOf(bundleID));
 		return info == null ? null : info.name;
 	}
 
 	public String getProviderName(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(Long.valueOf(bundleID));
 		return info == null ? null : info.providerName;
 	}
 
 	public String[] getLibraryNames(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
-		return info == null ? new String[0] : info.libraries;
+		PluginInfo info = fPluginInfos.get(Long.valueOf(bundleID));
+		return info == null ? NO_LIBRARIES : info.libraries;
 	}
 
 	public String getBundleLocalization(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(Long.valueOf(bundleID));
 		return info == null ? null : info.localization;
 	}
 
 	public String getProject(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(Long.valueOf(bundleID));
 		return info == null ? null : info.project;
 	}
 
 	public String getBundleSourceEntry(long bundleID) {
-		PluginInfo info = fPluginInfos.get(Long.toString(bundleID));
+		PluginInfo info = fPluginInfos.get(Long.valueOf(bundleID));
 		return info == null ? null : info.bundleSourceEntry;
 	}
 
@@ -180,23 +233,21 @@ public class PDEAuxiliaryState {
 			Document doc = factory.newDocumentBuilder().newDocument();
 			Element root = doc.createElement(ELEMENT_ROOT);
 
-			Iterator<String> iter = fPluginInfos.keySet().iterator();
-			while (iter.hasNext()) {
-				String key = iter.next().toString();
+			for (Map.Entry<Long, PluginInfo> entry : fPluginInfos.entrySet()) {
 				Element element = doc.createElement(ELEMENT_BUNDLE);
-				element.setAttribute(ATTR_BUNDLE_ID, key);
-				PluginInfo info = fPluginInfos.get(key);
+				element.setAttribute(ATTR_BUNDLE_ID, entry.getKey().toString());
+				PluginInfo info = entry.getValue();
 				if (info.className != null)
 					element.setAttribute(ATTR_CLASS, info.className);
 				if (info.providerName != null)
 					element.setAttribute(ATTR_PROVIDER, info.providerName);
 				if (info.name != null)
 					element.setAttribute(ATTR_NAME, info.name);
-				if (info.hasExtensibleAPI)
+				if (info.is(PluginInfo.EXTENSIBLE_API))
 					element.setAttribute(ATTR_EXTENSIBLE_API, "true"); //$NON-NLS-1$
-				if (info.isPatchFragment)
+				if (info.is(PluginInfo.PATCH_FRAGMENT))
 					element.setAttribute(ATTR_PATCH, "true"); //$NON-NLS-1$
-				if (!info.hasBundleStructure)
+				if (!info.is(PluginInfo.BUNDLE_STRUCTURE))
 					element.setAttribute(ATTR_BUNDLE_STRUCTURE, "false"); //$NON-NLS-1$
 				if (info.localization != null)
 					element.setAttribute(ATTR_LOCALIZATION, info.localization);
@@ -234,10 +285,11 @@ public class PDEAuxiliaryState {
 				Document doc = documentBuilder.parse(file);
 				Element root = doc.getDocumentElement();
 				if (root != null) {
+					StringPool pool = new StringPool();
 					NodeList list = root.getChildNodes();
 					for (int i = 0; i < list.getLength(); i++) {
 						if (list.item(i).getNodeType() == Node.ELEMENT_NODE)
-							createPluginInfo((Element) list.item(i));
+							createPluginInfo((Element) list.item(i), pool);
 					}
 				}
 				return true;
@@ -335,18 +387,19 @@ public class PDEAuxiliaryState {
 	 */
 	protected void addAuxiliaryData(BundleDescription desc, Map<String, String> manifest, boolean hasBundleStructure) {
 		PluginInfo info = new PluginInfo();
+		StringPool pool = fStringPool;
 		info.name = manifest.get(Constants.BUNDLE_NAME);
-		info.providerName = manifest.get(Constants.BUNDLE_VENDOR);
+		info.providerName = share(manifest.get(Constants.BUNDLE_VENDOR), pool);
 
 		String className = manifest.get(ICoreConstants.PLUGIN_CLASS);
 		info.className = className != null ? className : (String) manifest.get(Constants.BUNDLE_ACTIVATOR);
-		info.libraries = getClasspath(manifest);
-		info.hasExtensibleAPI = "true".equals(manifest.get(ICoreConstants.EXTENSIBLE_API)); //$NON-NLS-1$
-		info.isPatchFragment = "true".equals(manifest.get(ICoreConstants.PATCH_FRAGMENT)); //$NON-NLS-1$
-		info.localization = manifest.get(Constants.BUNDLE_LOCALIZATION);
-		info.hasBundleStructure = hasBundleStructure;
+		info.libraries = shareLibraries(getClasspath(manifest), pool);
+		info.set(PluginInfo.EXTENSIBLE_API, "true".equals(manifest.get(ICoreConstants.EXTENSIBLE_API))); //$NON-NLS-1$
+		info.set(PluginInfo.PATCH_FRAGMENT, "true".equals(manifest.get(ICoreConstants.PATCH_FRAGMENT))); //$NON-NLS-1$
+		info.localization = share(manifest.get(Constants.BUNDLE_LOCALIZATION), pool);
+		info.set(PluginInfo.BUNDLE_STRUCTURE, hasBundleStructure);
 		info.bundleSourceEntry = manifest.get(ICoreConstants.ECLIPSE_SOURCE_BUNDLE);
-		fPluginInfos.put(Long.toString(desc.getBundleId()), info);
+		fPluginInfos.put(Long.valueOf(desc.getBundleId()), info);
 	}
 
 	/**
@@ -356,7 +409,7 @@ public class PDEAuxiliaryState {
 	 */
 	protected String[] getClasspath(Map<String, String> manifest) {
 		String fullClasspath = manifest.get(Constants.BUNDLE_CLASSPATH);
-		String[] result = new String[0];
+		String[] result = NO_LIBRARIES;
 		try {
 			if (fullClasspath != null) {
 				ManifestElement[] classpathEntries = ManifestElement.parseHeader(Constants.BUNDLE_CLASSPATH, fullClasspath);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -82,6 +82,8 @@ public class PDECoreMessages extends NLS {
 
 	public static String TargetPlatformHelper_LoadingTargetPlatform;
 
+	public static String WorkspaceModelManager_notifyingChanges;
+
 	public static String TargetPlatformProvisionTask_ErrorDefinitionNotFoundAtSpecifiedLocation;
 	public static String TargetPlatformProvisionTask_ErrorDefinitionNotSet;
 	public static String TargetPlatformProvisionTask_ErrorDestinationNotSet;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,7 +47,12 @@ public class PDEState extends MinimalState {
 		fAuxiliaryState = new PDEAuxiliaryState();
 
 		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		fAuxiliaryState.startLoad();
+		try {
+			createNewTargetState(addResolver, target, monitor);
+		} finally {
+			fAuxiliaryState.endLoad();
+		}
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -480,9 +480,12 @@ public class PluginModelManager implements IModelProviderListener {
 	 * If more than one thread tries to read the table at the same time,
 	 * and the table is not initialized yet, thread2 would wait.
 	 * This way there are no partial reads.
+	 * Workspace model changes that have not been sent yet are
+	 * applied first.
 	 */
 	private Map<String, LocalModelEntry> getEntryTable() {
 		initializeTable(null);
+		fWorkspaceManager.flushPendingEvents();
 		return fEntries;
 	}
 
@@ -997,6 +1000,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 */
 	public IPluginModelBase findModel(IProject project) {
 		initializeTable(null);
+		fWorkspaceManager.flushPendingEvents();
 		return fWorkspaceManager.getPluginModel(project);
 	}
 
@@ -1130,6 +1134,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 */
 	public IPluginModelBase[] getWorkspaceModels() {
 		initializeTable(null);
+		fWorkspaceManager.flushPendingEvents();
 		return fWorkspaceManager.getPluginModels();
 	}
 
@@ -1149,6 +1154,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 */
 	public PDEState getState() {
 		initializeTable(null);
+		fWorkspaceManager.flushPendingEvents();
 		return fState;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2006, 2017 IBM Corporation and others.
+ *  Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
-import java.util.LinkedHashMap;
 import java.util.Map.Entry;
 import org.eclipse.core.resources.*;
 import org.eclipse.pde.core.IModel;
@@ -30,17 +29,14 @@ public class WorkspaceFeatureModelManager extends WorkspaceModelManager {
 	}
 
 	@Override
-	protected void createModel(IProject project, boolean notify) {
+	protected IModel readModel(IProject project) {
 		IFile featureXml = PDEProject.getFeatureXml(project);
 		if (featureXml.exists()) {
 			IModel model = new WorkspaceFeatureModel(featureXml);
 			loadModel(model, false);
-			if (fModels == null)
-				fModels = new LinkedHashMap<>();
-			fModels.put(project, model);
-			if (notify)
-				addChange(model, IModelProviderEvent.MODELS_ADDED);
+			return model;
 		}
+		return null;
 	}
 
 	@Override
@@ -64,7 +60,7 @@ public class WorkspaceFeatureModelManager extends WorkspaceModelManager {
 
 	@Override
 	protected void addListeners() {
-		int event = IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.POST_CHANGE;
+		int event = IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_BUILD | IResourceChangeEvent.POST_CHANGE;
 		PDECore.getWorkspace().addResourceChangeListener(this, event);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2003, 2018 IBM Corporation and others.
+ *  Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,11 @@ package org.eclipse.pde.internal.core;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.IntConsumer;
 import org.eclipse.core.resources.*;
-import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.*;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.pde.core.IModel;
 import org.eclipse.pde.core.IModelProviderEvent;
 import org.eclipse.pde.internal.core.project.PDEProject;
@@ -55,7 +58,7 @@ public abstract class WorkspaceModelManager extends AbstractModelManager impleme
 		return RepositoryProvider.getProvider(project) == null || isBinaryProject(project);
 	}
 
-	class ModelChange {
+	protected class ModelChange {
 		IModel model;
 		int type;
 
@@ -79,22 +82,159 @@ public abstract class WorkspaceModelManager extends AbstractModelManager impleme
 	protected Map<IProject, IModel> fModels = null;
 	private ArrayList<ModelChange> fChangedModels;
 
+	/**
+	 * Minimum number of projects for which models are read in parallel
+	 */
+	private static final int PARALLEL_THRESHOLD = 8;
+	private static final int MAX_THREADS = 8;
+
+	/**
+	 * Number of model changes in one resource delta from which model events
+	 * are no longer sent right away but merged with the events of the
+	 * following deltas
+	 */
+	private static final int COALESCE_THRESHOLD = 20;
+	/**
+	 * Delay in milliseconds without further changes after which merged model
+	 * events are sent
+	 */
+	private static final long COALESCE_DELAY = 200;
+	private static final String MODEL_PROVIDER_EVENT = "org.eclipse.pde.core.IModelProviderEvent"; //$NON-NLS-1$
+
+	/**
+	 * Merged changes not sent yet, by event id and model, or <code>null</code>.
+	 * Guarded by fNotifyJob.
+	 */
+	private Map<String, Map<IModel, Integer>> fPendingEvents;
+	/** Whether merged events are being sent. Guarded by fNotifyJob. */
+	private boolean fFiringPendingEvents;
+	private final Job fNotifyJob = new Job(PDECoreMessages.WorkspaceModelManager_notifyingChanges) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			firePendingEvents();
+			return Status.OK_STATUS;
+		}
+	};
+
+	protected WorkspaceModelManager() {
+		fNotifyJob.setSystem(true);
+	}
+
 	protected synchronized void initialize() {
 		if (fModels != null)
 			return;
 
 		fModels = Collections.synchronizedMap(new LinkedHashMap<IProject, IModel>());
 		IProject[] projects = PDECore.getWorkspace().getRoot().getProjects();
+		List<IProject> interesting = new ArrayList<>(projects.length);
 		for (IProject project : projects) {
 			if (isInterestingProject(project))
-				createModel(project, false);
+				interesting.add(project);
 		}
+		createModels(interesting);
 		addListeners();
 	}
 
 	protected abstract boolean isInterestingProject(IProject project);
 
-	protected abstract void createModel(IProject project, boolean notify);
+	/**
+	 * Reads the model of the given project. Called concurrently for several
+	 * projects, so implementations must not modify the state of the manager.
+	 *
+	 * @param project the project
+	 * @return the model or <code>null</code> if the project has no model
+	 */
+	protected abstract IModel readModel(IProject project);
+
+	protected void createModel(IProject project, boolean notify) {
+		addModel(project, readModel(project), notify);
+	}
+
+	/**
+	 * Creates the models of the given projects without sending notifications.
+	 * The models are read in parallel on a bounded pool and are added in the
+	 * order of the projects.
+	 *
+	 * @param projects the projects to create models for
+	 */
+	protected void createModels(List<IProject> projects) {
+		IModel[] models = new IModel[projects.size()];
+		runInParallel(models.length, i -> models[i] = readModel(projects.get(i)));
+		for (int i = 0; i < models.length; i++)
+			addModel(projects.get(i), models[i], false);
+	}
+
+	/**
+	 * Runs the given task for every index from <code>0</code> to
+	 * <code>count - 1</code>, on a bounded pool if there are enough of them.
+	 * Returns once all tasks have completed, even if the calling thread is
+	 * interrupted; its interrupt status is restored. Failures are logged.
+	 *
+	 * @param count the number of tasks
+	 * @param task the task, called with the index
+	 */
+	protected static void runInParallel(int count, IntConsumer task) {
+		int threads = Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors());
+		if (count < PARALLEL_THRESHOLD || threads < 2) {
+			for (int i = 0; i < count; i++)
+				task.accept(i);
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "PDE Workspace Model Reader"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		boolean interrupted = false;
+		try {
+			List<Future<?>> futures = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				int index = i;
+				futures.add(executor.submit(() -> task.accept(index)));
+			}
+			for (int i = 0; i < count; i++) {
+				Future<?> future = futures.get(i);
+				// once interrupted, run the tasks not started yet on this thread
+				if (interrupted && future.cancel(false)) {
+					task.accept(i);
+					continue;
+				}
+				// and wait for the running ones, so that no model is lost
+				while (true) {
+					try {
+						future.get();
+						break;
+					} catch (ExecutionException e) {
+						PDECore.log(e.getCause());
+						break;
+					} catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+			}
+		} finally {
+			executor.shutdown();
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Adds a model read by {@link #readModel(IProject)} to this manager.
+	 *
+	 * @param project the project of the model
+	 * @param model the model, may be <code>null</code>
+	 * @param notify whether to record a model change for listeners
+	 */
+	protected void addModel(IProject project, IModel model, boolean notify) {
+		if (model != null) {
+			if (fModels == null)
+				fModels = new LinkedHashMap<>();
+			fModels.put(project, model);
+			if (notify)
+				addChange(model, IModelProviderEvent.MODELS_ADDED);
+		}
+	}
 
 	protected abstract void addListeners();
 
@@ -119,6 +259,10 @@ public abstract class WorkspaceModelManager extends AbstractModelManager impleme
 				removeModel((IProject) event.getResource());
 				processModelChanges();
 				break;
+			case IResourceChangeEvent.PRE_BUILD :
+				// builders must see the current models
+				flushPendingEvents();
+				break;
 		}
 	}
 
@@ -128,6 +272,15 @@ public abstract class WorkspaceModelManager extends AbstractModelManager impleme
 		} catch (CoreException e) {
 			PDECore.logException(e);
 		}
+		processPendingReloads();
+	}
+
+	/**
+	 * Called once a resource delta has been visited, to complete work that
+	 * was collected while visiting it, such as model reloads that can run in
+	 * parallel.
+	 */
+	protected void processPendingReloads() {
 	}
 
 	@Override
@@ -193,7 +346,7 @@ public abstract class WorkspaceModelManager extends AbstractModelManager impleme
 	}
 
 	protected void processModelChanges() {
-		processModelChanges("org.eclipse.pde.core.IModelProviderEvent", fChangedModels); //$NON-NLS-1$
+		processModelChanges(MODEL_PROVIDER_EVENT, fChangedModels);
 		fChangedModels = null;
 	}
 
@@ -205,6 +358,19 @@ public abstract class WorkspaceModelManager extends AbstractModelManager impleme
 			return;
 		}
 
+		synchronized (fNotifyJob) {
+			if (fPendingEvents != null || fFiringPendingEvents || changedModels.size() >= COALESCE_THRESHOLD) {
+				// many changes at once, e.g. a branch switch: merge them with the following ones
+				if (fPendingEvents == null)
+					fPendingEvents = new LinkedHashMap<>();
+				Map<IModel, Integer> pending = fPendingEvents.computeIfAbsent(changeId, id -> new LinkedHashMap<>());
+				for (ModelChange change : changedModels)
+					mergeChange(pending, change.model, change.type);
+				fNotifyJob.schedule(COALESCE_DELAY);
+				return;
+			}
+		}
+
 		ArrayList<IModel> added = new ArrayList<>();
 		ArrayList<IModel> removed = new ArrayList<>();
 		ArrayList<IModel> changed = new ArrayList<>();
@@ -235,6 +401,113 @@ public abstract class WorkspaceModelManager extends AbstractModelManager impleme
 		}
 	}
 
+	/**
+	 * Merges a change into the pending changes of a model, so that listeners
+	 * see the net effect of all of them.
+	 */
+	protected static void mergeChange(Map<IModel, Integer> pending, IModel model, int type) {
+		Integer previous = pending.get(model);
+		if (previous == null) {
+			pending.put(model, Integer.valueOf(type));
+		} else if (previous.intValue() == IModelProviderEvent.MODELS_ADDED) {
+			// added then changed is still added, added then removed is nothing
+			if (type == IModelProviderEvent.MODELS_REMOVED)
+				pending.remove(model);
+		} else if (previous.intValue() == IModelProviderEvent.MODELS_REMOVED) {
+			if (type == IModelProviderEvent.MODELS_ADDED)
+				pending.put(model, Integer.valueOf(IModelProviderEvent.MODELS_CHANGED));
+		} else if (type == IModelProviderEvent.MODELS_REMOVED) {
+			pending.put(model, Integer.valueOf(type));
+		}
+	}
+
+	/**
+	 * Sends the merged model events that have not been sent yet on the calling
+	 * thread, so that the caller sees the current models. Does nothing if
+	 * there are none, or if they are being sent already; the thread sending
+	 * them also sends those merged in the meantime.
+	 */
+	public void flushPendingEvents() {
+		firePendingEvents();
+	}
+
+	/**
+	 * Sends the merged model events, model provider events first.
+	 */
+	private void firePendingEvents() {
+		Map<String, Map<IModel, Integer>> pendingEvents;
+		synchronized (fNotifyJob) {
+			if (fFiringPendingEvents || fPendingEvents == null)
+				return;
+			pendingEvents = fPendingEvents;
+			fPendingEvents = null;
+			fFiringPendingEvents = true;
+		}
+		try {
+			while (pendingEvents != null) {
+				firePendingEvents(pendingEvents);
+				synchronized (fNotifyJob) {
+					// send the changes merged while listeners were running
+					pendingEvents = fPendingEvents;
+					fPendingEvents = null;
+					if (pendingEvents == null) {
+						fFiringPendingEvents = false;
+					}
+				}
+			}
+		} finally {
+			synchronized (fNotifyJob) {
+				if (fFiringPendingEvents) {
+					// a listener failed, leave the remaining events to the job
+					fFiringPendingEvents = false;
+					if (fPendingEvents != null)
+						fNotifyJob.schedule(COALESCE_DELAY);
+				}
+			}
+		}
+	}
+
+	private void firePendingEvents(Map<String, Map<IModel, Integer>> pendingEvents) {
+		List<String> eventIds = new ArrayList<>(pendingEvents.keySet());
+		if (eventIds.remove(MODEL_PROVIDER_EVENT))
+			eventIds.add(0, MODEL_PROVIDER_EVENT);
+		for (String eventId : eventIds) {
+			ArrayList<IModel> added = new ArrayList<>();
+			ArrayList<IModel> removed = new ArrayList<>();
+			ArrayList<IModel> changed = new ArrayList<>();
+			for (Map.Entry<IModel, Integer> change : pendingEvents.get(eventId).entrySet()) {
+				switch (change.getValue().intValue()) {
+					case IModelProviderEvent.MODELS_ADDED :
+						added.add(change.getKey());
+						break;
+					case IModelProviderEvent.MODELS_REMOVED :
+						removed.add(change.getKey());
+						break;
+					default :
+						changed.add(change.getKey());
+				}
+			}
+			int type = 0;
+			if (!added.isEmpty())
+				type |= IModelProviderEvent.MODELS_ADDED;
+			if (!removed.isEmpty())
+				type |= IModelProviderEvent.MODELS_REMOVED;
+			if (!changed.isEmpty())
+				type |= IModelProviderEvent.MODELS_CHANGED;
+			if (type != 0)
+				createAndFireEvent(eventId, type, added, removed, changed);
+		}
+	}
+
+	@Override
+	protected void removeListeners() {
+		fNotifyJob.cancel();
+		synchronized (fNotifyJob) {
+			fPendingEvents = null;
+		}
+		super.removeListeners();
+	}
+
 	protected void loadModel(IModel model, boolean reload) {
 		IFile file = (IFile) model.getUnderlyingResource();
 		try (InputStream stream = new BufferedInputStream(file.getContents(true));) {
@@ -249,7 +522,7 @@ public abstract class WorkspaceModelManager extends AbstractModelManager impleme
 	}
 
 	protected void createAndFireEvent(String eventId, int type, Collection<IModel> added, Collection<IModel> removed, Collection<IModel> changed) {
-		if (eventId.equals("org.eclipse.pde.core.IModelProviderEvent")) { //$NON-NLS-1$
+		if (eventId.equals(MODEL_PROVIDER_EVENT)) {
 			final ModelProviderEvent event = new ModelProviderEvent(this, type, added.toArray(new IModel[added.size()]), removed.toArray(new IModel[removed.size()]), changed.toArray(new IModel[changed.size()]));
 			fireModelProviderEvent(event);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2017 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -66,6 +66,28 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager {
 
 	private ArrayList<IExtensionDeltaListener> fExtensionListeners = new ArrayList<>();
 	private ArrayList<ModelChange> fChangedExtensions = null;
+	/** Changed manifests of the resource delta being processed, reloaded once it has been visited */
+	private ArrayList<ManifestReload> fManifestReloads = null;
+
+	/**
+	 * The state of a bundle model before its manifest is reloaded
+	 */
+	private static class ManifestReload {
+		final IProject project;
+		final IBundlePluginModelBase model;
+		final String oldLocalization;
+		final boolean wasFragment;
+		final Map<String, IManifestHeader> oldHeaders;
+
+		ManifestReload(IProject project, IBundlePluginModelBase model) {
+			this.project = project;
+			this.model = model;
+			IBundleModel bmodel = model.getBundleModel();
+			oldLocalization = model.getBundleLocalization();
+			wasFragment = bmodel.isFragmentModel();
+			oldHeaders = bmodel.getBundle().getManifestHeaders();
+		}
+	}
 
 	/**
 	 * The workspace plug-in model manager is only interested
@@ -88,7 +110,7 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager {
 	 * </p>
 	 */
 	@Override
-	protected void createModel(IProject project, boolean notify) {
+	protected IModel readModel(IProject project) {
 		IPluginModelBase model = null;
 		IFile manifest = PDEProject.getManifest(project);
 		IFile pluginXml = PDEProject.getPluginXml(project);
@@ -121,20 +143,15 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager {
 			model = new WorkspaceFragmentModel(fragmentXml, true);
 			loadModel(model, false);
 		}
+		return model;
+	}
 
+	@Override
+	protected void addModel(IProject project, IModel model, boolean notify) {
 		if (PDEProject.getOptionsFile(project).exists()) {
 			PDECore.getDefault().getTracingOptionsManager().reset();
 		}
-
-		if (model != null) {
-			if (fModels == null) {
-				fModels = new LinkedHashMap<>();
-			}
-			fModels.put(project, model);
-			if (notify) {
-				addChange(model, IModelProviderEvent.MODELS_ADDED);
-			}
-		}
+		super.addModel(project, model, notify);
 	}
 
 	/**
@@ -324,28 +341,44 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager {
 			createModel(project, true);
 		} else if (kind == IResourceDelta.CHANGED && (IResourceDelta.CONTENT & delta.getFlags()) != 0) {
 			if (model instanceof IBundlePluginModelBase) {
-				// check to see if localization changed (bug 146912)
-				String oldLocalization = ((IBundlePluginModelBase) model).getBundleLocalization();
-				IBundleModel bmodel = ((IBundlePluginModelBase) model).getBundleModel();
-				boolean wasFragment = bmodel.isFragmentModel();
-				Map<String, IManifestHeader> oldHeaders = bmodel.getBundle().getManifestHeaders();
-
-				loadModel(bmodel, true);
-				String newLocalization = ((IBundlePluginModelBase) model).getBundleLocalization();
-
-				// Fragment-Host header was added or removed
-				if (wasFragment != bmodel.isFragmentModel()) {
-					removeModel(project);
-					createModel(project, true);
-				} else {
-					if (model instanceof AbstractNLModel && (oldLocalization != null && (newLocalization == null || !oldLocalization.equals(newLocalization))) || (newLocalization != null && (oldLocalization == null || !newLocalization.equals(oldLocalization)))) {
-						((AbstractNLModel) model).resetNLResourceHelper();
-					}
+				// reloaded with the other changed manifests once the delta has been visited
+				if (fManifestReloads == null)
+					fManifestReloads = new ArrayList<>();
+				fManifestReloads.add(new ManifestReload(project, (IBundlePluginModelBase) model));
+			}
+		}
+	}
 
-					Map<String, IManifestHeader> newHeaders = bmodel.getBundle().getManifestHeaders();
-					if (hasModelChanged(oldHeaders, newHeaders)) {
-						addChange(model, IModelProviderEvent.MODELS_CHANGED);
-					}
+	/**
+	 * Reloads the changed manifests of the last resource delta in parallel,
+	 * then records the resulting model changes in delta order.
+	 */
+	@Override
+	protected void processPendingReloads() {
+		ArrayList<ManifestReload> reloads = fManifestReloads;
+		fManifestReloads = null;
+		if (reloads == null)
+			return;
+		runInParallel(reloads.size(), i -> loadModel(reloads.get(i).model.getBundleModel(), true));
+		for (ManifestReload reload : reloads) {
+			IBundlePluginModelBase model = reload.model;
+			IBundleModel bmodel = model.getBundleModel();
+			// check to see if localization changed (bug 146912)
+			String oldLocalization = reload.oldLocalization;
+			String newLocalization = model.getBundleLocalization();
+
+			// Fragment-Host header was added or removed
+			if (reload.wasFragment != bmodel.isFragmentModel()) {
+				removeModel(reload.project);
+				createModel(reload.project, true);
+			} else {
+				if (model instanceof AbstractNLModel && (oldLocalization != null && (newLocalization == null || !oldLocalization.equals(newLocalization))) || (newLocalization != null && (oldLocalization == null || !newLocalization.equals(oldLocalization)))) {
+					((AbstractNLModel) model).resetNLResourceHelper();
+				}
+
+				Map<String, IManifestHeader> newHeaders = bmodel.getBundle().getManifestHeaders();
+				if (hasModelChanged(reload.oldHeaders, newHeaders)) {
+					addChange(model, IModelProviderEvent.MODELS_CHANGED);
 				}
 			}
 		}
@@ -423,12 +456,12 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager {
 
 	/**
 	 * Adds listeners to the workspace and to the java model
-	 * to be notified of PRE_CLOSE events and POST_CHANGE events.
+	 * to be notified of PRE_CLOSE, PRE_BUILD and POST_CHANGE events.
 	 */
 	@Override
 	protected void addListeners() {
 		IWorkspace workspace = PDECore.getWorkspace();
-		workspace.addResourceChangeListener(this, IResourceChangeEvent.PRE_CLOSE);
+		workspace.addResourceChangeListener(this, IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_BUILD);
 		// PDE must process the POST_CHANGE events before the Java model
 		// for the PDE container classpath update to proceed smoothly
 		JavaCore.addPreProcessingResourceChangedListener(this, IResourceChangeEvent.POST_CHANGE);
@@ -486,13 +519,15 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager {
 			fModels.put(project, model);
 		}
 		IProject[] projects = PDECore.getWorkspace().getRoot().getProjects();
-		for (int i = 0; i < projects.length; i++) {
+		List<IProject> missing = new ArrayList<>();
+		for (IProject project : projects) {
 			// if any projects contained Manifest files and were not included in the PDEState,
 			// we should create models for them now
-			if (!fModels.containsKey(projects[i]) && isInterestingProject(projects[i])) {
-				createModel(projects[i], false);
+			if (!fModels.containsKey(project) && isInterestingProject(project)) {
+				missing.add(project);
 			}
 		}
+		createModels(missing);
 		addListeners();
 	}
 
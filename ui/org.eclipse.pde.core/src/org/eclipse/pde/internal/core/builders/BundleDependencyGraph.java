@@ -0,0 +1,408 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.*;
+import org.eclipse.osgi.service.resolver.*;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEState;
+
+/**
+ * A snapshot of the dependencies between the bundles of a resolver state.
+ * <p>
+ * Bundles are numbered and edges are stored as compressed adjacency arrays:
+ * the reverse edges of resolved Require-Bundle, Import-Package and
+ * Fragment-Host dependencies, and the edges used for loop detection. Like the
+ * plug-in imports the loop search used to follow, the latter are the
+ * Require-Bundle headers and the exporters of resolved imported packages.
+ * Unresolved Require-Bundle headers point to the highest version of the
+ * required bundle in the state, since a loop often keeps its bundles from
+ * resolving. Strongly connected components of the loop graph are computed
+ * with Tarjan's algorithm so that dependency loops can be reported without
+ * searching every path.
+ * </p>
+ * <p>
+ * The graph for the current PDE state is built on demand and rebuilt when the
+ * state changes, see {@link #getDefault()}.
+ * </p>
+ */
+public final class BundleDependencyGraph {
+
+	private static BundleDependencyGraph fCurrent;
+
+	private final State fState;
+	private final long fTimeStamp;
+
+	private final BundleDescription[] fBundles;
+	private final Map<Long, Integer> fIndex;
+
+	// resolved dependencies, reverse
+	private final int[] fReverseOffsets;
+	private final int[] fReverseTargets;
+
+	// Require-Bundle and resolved Import-Package dependencies, used for loop detection
+	private final int[] fLoopOffsets;
+	private final int[] fLoopTargets;
+
+	private final int[] fComponents;
+	private final int[] fComponentSizes;
+
+	/**
+	 * Returns the graph of the current PDE state, building it if the state has
+	 * changed since the graph was last requested.
+	 *
+	 * @return the dependency graph of the current state
+	 */
+	public static synchronized BundleDependencyGraph getDefault() {
+		PDEState pdeState = PDECore.getDefault().getModelManager().getState();
+		State state = pdeState == null ? null : pdeState.getState();
+		long timeStamp = state == null ? -1 : state.getTimeStamp();
+		if (fCurrent == null || fCurrent.fState != state || fCurrent.fTimeStamp != timeStamp)
+			fCurrent = new BundleDependencyGraph(state);
+		return fCurrent;
+	}
+
+	/**
+	 * Creates the dependency graph of the given state.
+	 *
+	 * @param state the resolver state, may be <code>null</code>
+	 */
+	public BundleDependencyGraph(State state) {
+		fState = state;
+		fTimeStamp = state == null ? -1 : state.getTimeStamp();
+		fBundles = state == null ? new BundleDescription[0] : state.getBundles();
+		int count = fBundles.length;
+		fIndex = new HashMap<>(count * 4 / 3 + 1);
+		for (int i = 0; i < count; i++)
+			fIndex.put(Long.valueOf(fBundles[i].getBundleId()), Integer.valueOf(i));
+
+		EdgeBuilder loops = new EdgeBuilder(count);
+		EdgeBuilder all = new EdgeBuilder(count);
+		for (int i = 0; i < count; i++) {
+			BundleDescription bundle = fBundles[i];
+			loops.start(i);
+			all.start(i);
+			for (BundleSpecification spec : bundle.getRequiredBundles()) {
+				BaseDescription supplier = spec.getSupplier();
+				if (supplier != null) {
+					int target = indexOf(supplier);
+					loops.add(target);
+					all.add(target);
+				} else {
+					loops.add(indexOf(findBundle(state, spec.getName())));
+				}
+			}
+			for (ImportPackageSpecification spec : bundle.getImportPackages()) {
+				BaseDescription supplier = spec.getSupplier();
+				if (supplier instanceof ExportPackageDescription) {
+					BundleDescription exporter = ((ExportPackageDescription) supplier).getExporter();
+					if (exporter != bundle)
+						all.add(indexOf(exporter));
+				}
+			}
+			for (ExportPackageDescription resolvedImport : bundle.getResolvedImports()) {
+				BundleDescription exporter = resolvedImport.getExporter();
+				if (exporter != bundle)
+					loops.add(indexOf(exporter));
+			}
+			HostSpecification host = bundle.getHost();
+			if (host != null) {
+				BundleDescription[] hosts = host.getHosts();
+				if (hosts != null) {
+					for (BundleDescription hostBundle : hosts)
+						all.add(indexOf(hostBundle));
+				}
+			}
+		}
+		loops.start(count);
+		all.start(count);
+
+		fLoopOffsets = loops.offsets;
+		fLoopTargets = loops.toTargets();
+		int[] offsets = all.offsets;
+		int[] targets = all.toTargets();
+
+		// reverse edges by counting sort on the target
+		fReverseOffsets = new int[count + 1];
+		for (int target : targets)
+			fReverseOffsets[target + 1]++;
+		for (int i = 0; i < count; i++)
+			fReverseOffsets[i + 1] += fReverseOffsets[i];
+		fReverseTargets = new int[targets.length];
+		int[] next = Arrays.copyOf(fReverseOffsets, count);
+		for (int source = 0; source < count; source++) {
+			for (int e = offsets[source]; e < offsets[source + 1]; e++)
+				fReverseTargets[next[targets[e]]++] = source;
+		}
+
+		fComponents = new int[count];
+		fComponentSizes = computeComponents(fLoopOffsets, fLoopTargets, fComponents);
+	}
+
+	/**
+	 * Returns the highest version of the bundle with the given symbolic name,
+	 * or <code>null</code> if the state has none.
+	 */
+	private static BundleDescription findBundle(State state, String symbolicName) {
+		BundleDescription result = null;
+		if (symbolicName != null) {
+			for (BundleDescription candidate : state.getBundles(symbolicName)) {
+				if (result == null || candidate.getVersion().compareTo(result.getVersion()) > 0)
+					result = candidate;
+			}
+		}
+		return result;
+	}
+
+	private int indexOf(BaseDescription description) {
+		if (!(description instanceof BundleDescription))
+			return -1;
+		Integer index = fIndex.get(Long.valueOf(((BundleDescription) description).getBundleId()));
+		return index == null ? -1 : index.intValue();
+	}
+
+	/**
+	 * Returns the bundles that depend on the given bundle through a resolved
+	 * Require-Bundle, Import-Package or Fragment-Host header.
+	 */
+	public BundleDescription[] getDependents(BundleDescription bundle) {
+		return toBundles(fReverseOffsets, fReverseTargets, indexOf(bundle));
+	}
+
+	/**
+	 * Returns all bundles that directly or indirectly depend on the given bundle.
+	 */
+	public BundleDescription[] getTransitiveDependents(BundleDescription bundle) {
+		return closure(fReverseOffsets, fReverseTargets, indexOf(bundle));
+	}
+
+	/**
+	 * Returns whether the given bundle is part of a Require-Bundle or
+	 * Import-Package cycle. Require-Bundle headers count whether they are
+	 * resolved or not.
+	 */
+	public boolean isInLoop(BundleDescription bundle) {
+		int node = indexOf(bundle);
+		if (node == -1)
+			return false;
+		if (fComponentSizes[fComponents[node]] > 1)
+			return true;
+		for (int e = fLoopOffsets[node]; e < fLoopOffsets[node + 1]; e++) {
+			if (fLoopTargets[e] == node)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns dependency cycles starting at the given bundle. For every
+	 * required or imported bundle in the same strongly connected component the shortest
+	 * path back to the given bundle is reported, so each cycle lists the given
+	 * bundle first, followed by the bundles along the loop.
+	 *
+	 * @param bundle the bundle the cycles start from
+	 * @return the distinct cycles through the given bundle, possibly empty
+	 */
+	public List<BundleDescription[]> getLoops(BundleDescription bundle) {
+		int root = indexOf(bundle);
+		if (root == -1 || !isInLoop(bundle))
+			return Collections.emptyList();
+		int component = fComponents[root];
+		List<BundleDescription[]> loops = new ArrayList<>();
+		Set<List<Integer>> seen = new HashSet<>();
+		int[] parent = new int[fBundles.length];
+		int[] queue = new int[fBundles.length];
+		for (int e = fLoopOffsets[root]; e < fLoopOffsets[root + 1]; e++) {
+			int start = fLoopTargets[e];
+			if (fComponents[start] != component)
+				continue;
+			// breadth first search from the dependency back to the root
+			Arrays.fill(parent, -2);
+			parent[start] = -1;
+			int head = 0;
+			int tail = 0;
+			queue[tail++] = start;
+			boolean found = start == root;
+			while (!found && head < tail) {
+				int node = queue[head++];
+				for (int f = fLoopOffsets[node]; f < fLoopOffsets[node + 1]; f++) {
+					int target = fLoopTargets[f];
+					if (fComponents[target] != component || parent[target] != -2)
+						continue;
+					parent[target] = node;
+					if (target == root) {
+						found = true;
+						break;
+					}
+					queue[tail++] = target;
+				}
+			}
+			if (!found)
+				continue;
+			LinkedList<Integer> path = new LinkedList<>();
+			if (start != root) {
+				for (int node = parent[root]; node != -1; node = parent[node])
+					path.addFirst(Integer.valueOf(node));
+			}
+			path.addFirst(Integer.valueOf(root));
+			if (seen.add(path)) {
+				BundleDescription[] members = new BundleDescription[path.size()];
+				int i = 0;
+				for (Integer node : path)
+					members[i++] = fBundles[node.intValue()];
+				loops.add(members);
+			}
+		}
+		return loops;
+	}
+
+	private BundleDescription[] toBundles(int[] offsets, int[] targets, int node) {
+		if (node == -1)
+			return new BundleDescription[0];
+		BundleDescription[] result = new BundleDescription[offsets[node + 1] - offsets[node]];
+		for (int e = offsets[node], i = 0; e < offsets[node + 1]; e++, i++)
+			result[i] = fBundles[targets[e]];
+		return result;
+	}
+
+	private BundleDescription[] closure(int[] offsets, int[] targets, int node) {
+		if (node == -1)
+			return new BundleDescription[0];
+		boolean[] visited = new boolean[fBundles.length];
+		int[] queue = new int[fBundles.length];
+		int head = 0;
+		int tail = 0;
+		for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+			int target = targets[e];
+			if (!visited[target]) {
+				visited[target] = true;
+				queue[tail++] = target;
+			}
+		}
+		while (head < tail) {
+			int current = queue[head++];
+			for (int e = offsets[current]; e < offsets[current + 1]; e++) {
+				int target = targets[e];
+				if (!visited[target]) {
+					visited[target] = true;
+					queue[tail++] = target;
+				}
+			}
+		}
+		BundleDescription[] result = new BundleDescription[tail];
+		for (int i = 0; i < tail; i++)
+			result[i] = fBundles[queue[i]];
+		return result;
+	}
+
+	/**
+	 * Iterative form of Tarjan's strongly connected components algorithm.
+	 *
+	 * @param components receives the component number of every node
+	 * @return the size of every component
+	 */
+	private static int[] computeComponents(int[] offsets, int[] targets, int[] components) {
+		int count = components.length;
+		int[] index = new int[count];
+		int[] lowLink = new int[count];
+		boolean[] onStack = new boolean[count];
+		int[] stack = new int[count];
+		int[] callStack = new int[count];
+		int[] edge = new int[count];
+		Arrays.fill(index, -1);
+		int[] sizes = new int[count];
+		int nextIndex = 0;
+		int stackSize = 0;
+		int componentCount = 0;
+
+		for (int root = 0; root < count; root++) {
+			if (index[root] != -1)
+				continue;
+			int depth = 0;
+			callStack[depth] = root;
+			edge[root] = offsets[root];
+			index[root] = lowLink[root] = nextIndex++;
+			stack[stackSize++] = root;
+			onStack[root] = true;
+			while (depth >= 0) {
+				int node = callStack[depth];
+				if (edge[node] < offsets[node + 1]) {
+					int target = targets[edge[node]++];
+					if (index[target] == -1) {
+						index[target] = lowLink[target] = nextIndex++;
+						stack[stackSize++] = target;
+						onStack[target] = true;
+						edge[target] = offsets[target];
+						callStack[++depth] = target;
+					} else if (onStack[target]) {
+						lowLink[node] = Math.min(lowLink[node], index[target]);
+					}
+					continue;
+				}
+				if (lowLink[node] == index[node]) {
+					int member;
+					do {
+						member = stack[--stackSize];
+						onStack[member] = false;
+						components[member] = componentCount;
+						sizes[componentCount]++;
+					} while (member != node);
+					componentCount++;
+				}
+				depth--;
+				if (depth >= 0) {
+					int caller = callStack[depth];
+					lowLink[caller] = Math.min(lowLink[caller], lowLink[node]);
+				}
+			}
+		}
+		return Arrays.copyOf(sizes, componentCount);
+	}
+
+	/**
+	 * Collects the de-duplicated edges of every node into compressed arrays.
+	 */
+	private static final class EdgeBuilder {
+		final int[] offsets;
+		private int[] targets = new int[16];
+		private int size;
+		private final int[] marks;
+		private int current = -1;
+
+		EdgeBuilder(int count) {
+			offsets = new int[count + 1];
+			marks = new int[count];
+			Arrays.fill(marks, -1);
+		}
+
+		void start(int node) {
+			current = node;
+			offsets[node] = size;
+		}
+
+		void add(int target) {
+			if (target == -1 || marks[target] == current)
+				return;
+			marks[target] = current;
+			if (size == targets.length)
+				targets = Arrays.copyOf(targets, size * 2);
+			targets[size++] = target;
+		}
+
+		int[] toTargets() {
+			return Arrays.copyOf(targets, size);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.builders;
 
-import java.util.Vector;
+import java.util.*;
+import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.*;
 import org.eclipse.pde.internal.core.PDECoreMessages;
@@ -24,6 +25,34 @@ public class DependencyLoopFinder {
 		return findLoops(root, null);
 	}
 
+	/**
+	 * Finds the Require-Bundle and Import-Package loops through the given
+	 * bundle using the dependency graph of the current state. Unlike the plug-in based search,
+	 * at most one loop is reported per bundle required or imported by the root.
+	 */
+	public static DependencyLoop[] findLoops(BundleDescription root) {
+		List<BundleDescription[]> cycles = BundleDependencyGraph.getDefault().getLoops(root);
+		List<DependencyLoop> loops = new ArrayList<>(cycles.size());
+		for (BundleDescription[] cycle : cycles) {
+			IPluginBase[] members = new IPluginBase[cycle.length];
+			for (int i = 0; i < cycle.length; i++) {
+				IPluginModelBase model = PluginRegistry.findModel(cycle[i]);
+				if (model == null) {
+					members = null;
+					break;
+				}
+				members[i] = model.getPluginBase();
+			}
+			if (members == null)
+				continue;
+			DependencyLoop loop = new DependencyLoop();
+			loop.setMembers(members);
+			loop.setName(NLS.bind(PDECoreMessages.Builders_DependencyLoopFinder_loopName, ("" + (loops.size() + 1)))); //$NON-NLS-1$
+			loops.add(loop);
+		}
+		return loops.toArray(new DependencyLoop[loops.size()]);
+	}
+
 	public static DependencyLoop[] findLoops(IPlugin root, IPlugin[] candidates) {
 		return findLoops(root, candidates, false);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,8 @@ import org.eclipse.pde.internal.core.*;
 import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter.VirtualMarker;
 import org.eclipse.pde.internal.core.ischema.*;
 import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.core.schema.CompiledSchema;
+import org.eclipse.pde.internal.core.schema.CompiledSchema.ElementInfo;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
 import org.eclipse.pde.internal.core.util.*;
 import org.w3c.dom.*;
@@ -152,19 +154,24 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	}
 
 	protected void validateElement(Element element, ISchema schema, boolean isTopLevel) {
+		validateElement(element, PDECore.getDefault().getSchemaRegistry().getCompiledSchema(schema), isTopLevel);
+	}
+
+	private void validateElement(Element element, CompiledSchema schema, boolean isTopLevel) {
 		String elementName = element.getNodeName();
-		ISchemaElement schemaElement = schema.findElement(elementName);
+		ElementInfo elementInfo = schema.findElement(elementName);
+		ISchemaElement schemaElement = elementInfo == null ? null : elementInfo.getElement();
 
 		// Validate element occurrence violations
-		if ((schemaElement != null) && (schemaElement.getType() instanceof ISchemaComplexType)) {
+		if (elementInfo != null && elementInfo.isComplex()) {
 			validateMaxElementMult(element, schemaElement);
 			validateMinElementMult(element, schemaElement);
 		}
 
-		ISchemaElement parentSchema = null;
+		ElementInfo parentInfo = null;
 		if (!"extension".equals(elementName)) { //$NON-NLS-1$
 			Node parent = element.getParentNode();
-			parentSchema = schema.findElement(parent.getNodeName());
+			parentInfo = schema.findElement(parent.getNodeName());
 		} else if (isTopLevel == false) {
 			// This is an "extension" element; but, not a top level one.
 			// It is nested within another "extension" element somewhere
@@ -177,20 +184,18 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 			return;
 		}
 
-		if (parentSchema != null) {
+		if (parentInfo != null) {
 			int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
 			if (severity != CompilerFlags.IGNORE) {
-				HashSet<String> allowedElements = new HashSet<>();
-				computeAllowedElements(parentSchema.getType(), allowedElements);
-				if (!allowedElements.contains(elementName)) {
+				if (!parentInfo.isAllowedChild(elementName)) {
 					reportIllegalElement(element, severity);
 					return;
 				}
 			}
 
 		}
-		if (schemaElement == null && parentSchema != null) {
-			ISchemaAttribute attr = parentSchema.getAttribute(elementName);
+		if (schemaElement == null && parentInfo != null) {
+			ISchemaAttribute attr = parentInfo.getAttribute(elementName);
 			if (attr != null && attr.getKind() == IMetaAttribute.JAVA) {
 				if (attr.isDeprecated())
 					reportDeprecatedAttribute(element, element.getAttributeNode("class")); //$NON-NLS-1$
@@ -198,8 +203,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 			}
 		} else {
 			if (schemaElement != null) {
-				validateRequiredExtensionAttributes(element, schemaElement);
-				validateExistingExtensionAttributes(element, element.getAttributes(), schemaElement);
+				validateRequiredExtensionAttributes(element, elementInfo);
+				validateExistingExtensionAttributes(element, element.getAttributes(), elementInfo);
 				validateInternalExtensionAttribute(element, schemaElement);
 				if (schemaElement.isDeprecated()) {
 					if (schemaElement instanceof ISchemaRootElement)
@@ -210,7 +215,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 				if (schemaElement.hasTranslatableContent())
 					validateTranslatableElementContent(element);
 				// Bug 213457 - look up elements based on the schema in which the parent is found
-				schema = schemaElement.getSchema();
+				if (schemaElement.getSchema() != schema.getSchema())
+					schema = PDECore.getDefault().getSchemaRegistry().getCompiledSchema(schemaElement.getSchema());
 			}
 			NodeList children = element.getChildNodes();
 			for (int i = 0; i < children.getLength(); i++) {
@@ -275,68 +281,35 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		}
 	}
 
-	private void computeAllowedElements(ISchemaType type, HashSet<String> elementSet) {
-		if (type instanceof ISchemaComplexType) {
-			ISchemaComplexType complexType = (ISchemaComplexType) type;
-			ISchemaCompositor compositor = complexType.getCompositor();
-			if (compositor != null)
-				computeAllowedElements(compositor, elementSet);
-
-			ISchemaAttribute[] attrs = complexType.getAttributes();
-			for (ISchemaAttribute attr : attrs) {
-				if (attr.getKind() == IMetaAttribute.JAVA)
-					elementSet.add(attr.getName());
-			}
-		}
-	}
-
-	private void computeAllowedElements(ISchemaCompositor compositor, HashSet<String> elementSet) {
-		ISchemaObject[] children = compositor.getChildren();
-		for (ISchemaObject child : children) {
-			if (child instanceof ISchemaObjectReference) {
-				ISchemaObjectReference ref = (ISchemaObjectReference) child;
-				ISchemaElement refElement = (ISchemaElement) ref.getReferencedObject();
-				if (refElement != null)
-					elementSet.add(refElement.getName());
-			} else if (child instanceof ISchemaCompositor) {
-				computeAllowedElements((ISchemaCompositor) child, elementSet);
-			}
-		}
-	}
-
-	private void validateRequiredExtensionAttributes(Element element, ISchemaElement schemaElement) {
+	private void validateRequiredExtensionAttributes(Element element, ElementInfo elementInfo) {
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_NO_REQUIRED_ATT);
 		if (severity == CompilerFlags.IGNORE)
 			return;
 
-		ISchemaAttribute[] attInfos = schemaElement.getAttributes();
+		ISchemaAttribute[] attInfos = elementInfo.getRequiredAttributes();
 		for (ISchemaAttribute attInfo : attInfos) {
-			if (attInfo.getUse() == ISchemaAttribute.REQUIRED) {
-				boolean found = element.getAttributeNode(attInfo.getName()) != null;
-				if (!found && attInfo.getKind() == IMetaAttribute.JAVA) {
-					NodeList children = element.getChildNodes();
-					for (int j = 0; j < children.getLength(); j++) {
-						if (attInfo.getName().equals(children.item(j).getNodeName())) {
-							found = true;
-							break;
-						}
+			boolean found = element.getAttributeNode(attInfo.getName()) != null;
+			if (!found && attInfo.getKind() == IMetaAttribute.JAVA) {
+				NodeList children = element.getChildNodes();
+				for (int j = 0; j < children.getLength(); j++) {
+					if (attInfo.getName().equals(children.item(j).getNodeName())) {
+						found = true;
+						break;
 					}
 				}
-				if (!found) {
-					reportMissingRequiredAttribute(element, attInfo.getName(), severity);
-				}
+			}
+			if (!found) {
+				reportMissingRequiredAttribute(element, attInfo.getName(), severity);
 			}
 		}
 	}
 
-	private void validateExistingExtensionAttributes(Element element, NamedNodeMap attrs, ISchemaElement schemaElement) {
+	private void validateExistingExtensionAttributes(Element element, NamedNodeMap attrs, ElementInfo elementInfo) {
 		for (int i = 0; i < attrs.getLength(); i++) {
 			Attr attr = (Attr) attrs.item(i);
-			ISchemaAttribute attInfo = schemaElement.getAttribute(attr.getName());
+			ISchemaAttribute attInfo = elementInfo.getAttribute(attr.getName());
 			if (attInfo == null) {
-				HashSet<String> allowedElements = new HashSet<>();
-				computeAllowedElements(schemaElement.getType(), allowedElements);
-				if (allowedElements.contains(attr.getName())) {
+				if (elementInfo.isAllowedChild(attr.getName())) {
 					validateJavaAttribute(element, attr);
 				} else {
 					int flag = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ATTRIBUTE);
@@ -344,12 +317,12 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 						reportUnknownAttribute(element, attr.getName(), flag);
 				}
 			} else {
-				validateExtensionAttribute(element, attr, attInfo);
+				validateExtensionAttribute(element, attr, attInfo, elementInfo);
 			}
 		}
 	}
 
-	private void validateExtensionAttribute(Element element, Attr attr, ISchemaAttribute attInfo) {
+	private void validateExtensionAttribute(Element element, Attr attr, ISchemaAttribute attInfo, ElementInfo elementInfo) {
 		ISchemaSimpleType type = attInfo.getType();
 
 		int kind = attInfo.getKind();
@@ -360,9 +333,9 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		} else if (kind == IMetaAttribute.IDENTIFIER) {
 			validateIdentifierAttribute(element, attr, attInfo);
 		} else if (kind == IMetaAttribute.STRING) {
-			ISchemaRestriction restriction = type.getRestriction();
-			if (restriction != null) {
-				validateRestrictionAttribute(element, attr, restriction);
+			Set<String> allowedValues = elementInfo.getRestriction(attr.getName());
+			if (allowedValues != null && !allowedValues.contains(attr.getValue())) {
+				reportIllegalAttributeValue(element, attr);
 			}
 		} else if (type.getName().equals("boolean")) { //$NON-NLS-1$
 			validateBoolean(element, attr);
@@ -585,20 +558,6 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		}
 	}
 
-	protected void validateRestrictionAttribute(Element element, Attr attr, ISchemaRestriction restriction) {
-		Object[] children = restriction.getChildren();
-		String value = attr.getValue();
-		for (Object child : children) {
-			if (child instanceof ISchemaEnumeration) {
-				ISchemaEnumeration enumeration = (ISchemaEnumeration) child;
-				if (enumeration.getName().equals(value)) {
-					return;
-				}
-			}
-		}
-		reportIllegalAttributeValue(element, attr);
-	}
-
 	private void validateIdentifierAttribute(Element element, Attr attr, ISchemaAttribute attInfo) {
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_IDENTIFIER);
 		if (severity != CompilerFlags.IGNORE) {
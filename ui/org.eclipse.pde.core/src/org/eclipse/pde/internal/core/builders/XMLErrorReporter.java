@@ -16,7 +16,7 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.StringReader;
 import java.util.*;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.ParserConfigurationException;
 import org.eclipse.core.filebuffers.*;
 import org.eclipse.core.resources.*;
@@ -25,6 +25,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jface.text.*;
 import org.eclipse.pde.internal.core.*;
 import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter.VirtualMarker;
+import org.eclipse.pde.internal.core.util.PDEXMLHelper;
 import org.w3c.dom.*;
 import org.w3c.dom.Document;
 import org.xml.sax.*;
@@ -173,9 +174,11 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	@Override
 	public void startDocument() throws SAXException {
-		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		PDEXMLHelper helper = PDEXMLHelper.Instance();
 		try {
-			fXMLDocument = factory.newDocumentBuilder().newDocument();
+			DocumentBuilder builder = helper.getDefaultDOMParser();
+			fXMLDocument = builder.newDocument();
+			helper.recycleDOMParser(builder);
 		} catch (ParserConfigurationException e) {
 		}
 	}
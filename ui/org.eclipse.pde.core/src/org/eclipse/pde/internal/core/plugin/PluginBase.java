@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2013 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,19 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 	private boolean fHasBundleStructure;
 	private String fBundleSourceEntry;
 
+	/**
+	 * Libraries and imports of models loaded from a {@link BundleDescription}
+	 * are only created when first requested. Most target models are never
+	 * asked for their children, so this keeps large targets small in memory.
+	 * The required and imported bundles are taken from the description when
+	 * the model is loaded, so the imports do not depend on when the state was
+	 * resolved last. The fields are <code>null</code> once the children have
+	 * been created.
+	 */
+	private volatile String[] fPendingLibraries;
+	private volatile BundleSpecification[] fPendingRequired;
+	private volatile BundleDescription[] fPendingImported;
+
 	public PluginBase(boolean readOnly) {
 		super(readOnly);
 	}
@@ -50,6 +63,7 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 	@Override
 	public void add(IPluginLibrary library) throws CoreException {
 		ensureModelEditable();
+		ensureLibrariesLoaded();
 		fLibraries.add(library);
 		((PluginLibrary) library).setInTheModel(true);
 		((PluginLibrary) library).setParent(this);
@@ -59,6 +73,7 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 	@Override
 	public void add(IPluginImport iimport) throws CoreException {
 		ensureModelEditable();
+		ensureImportsLoaded();
 		((PluginImport) iimport).setInTheModel(true);
 		((PluginImport) iimport).setParent(this);
 		fImports.add(iimport);
@@ -67,6 +82,7 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 
 	public void add(IPluginImport[] iimports) throws CoreException {
 		ensureModelEditable();
+		ensureImportsLoaded();
 		for (IPluginImport iimport : iimports) {
 			((PluginImport) iimport).setInTheModel(true);
 			((PluginImport) iimport).setParent(this);
@@ -79,11 +95,13 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 	public IPluginLibrary[] getLibraries() {
 		// Returns an empty array if no libraries are specified in the manifest of the plug-in.
 		// If no libraries are specified, the root of the bundle '.' is the default library location
+		ensureLibrariesLoaded();
 		return fLibraries.toArray(new IPluginLibrary[fLibraries.size()]);
 	}
 
 	@Override
 	public IPluginImport[] getImports() {
+		ensureImportsLoaded();
 		return fImports.toArray(new IPluginImport[fImports.size()]);
 	}
 
@@ -114,8 +132,34 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 		fProviderName = state.getProviderName(bundleDesc.getBundleId());
 		fHasBundleStructure = state.hasBundleStructure(bundleDesc.getBundleId());
 		fBundleSourceEntry = state.getBundleSourceEntry(bundleDesc.getBundleId());
-		loadRuntime(bundleDesc, state);
-		loadImports(bundleDesc);
+		fPendingLibraries = state.getLibraryNames(bundleDesc.getBundleId());
+		fPendingImported = getImportedBundles(bundleDesc);
+		fPendingRequired = bundleDesc.getRequiredBundles();
+	}
+
+	private void ensureLibrariesLoaded() {
+		if (fPendingLibraries == null)
+			return;
+		synchronized (this) {
+			String[] libraryNames = fPendingLibraries;
+			if (libraryNames != null) {
+				loadRuntime(libraryNames);
+				fPendingLibraries = null;
+			}
+		}
+	}
+
+	private void ensureImportsLoaded() {
+		if (fPendingRequired == null)
+			return;
+		synchronized (this) {
+			BundleSpecification[] required = fPendingRequired;
+			if (required != null) {
+				loadImports(required, fPendingImported);
+				fPendingImported = null;
+				fPendingRequired = null;
+			}
+		}
 	}
 
 	@Override
@@ -157,8 +201,7 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 		}
 	}
 
-	void loadRuntime(BundleDescription description, PDEState state) {
-		String[] libraryNames = state.getLibraryNames(description.getBundleId());
+	void loadRuntime(String[] libraryNames) {
 		for (String libraryName : libraryNames) {
 			PluginLibrary library = new PluginLibrary();
 			library.setModel(getModel());
@@ -184,8 +227,7 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 		}
 	}
 
-	void loadImports(BundleDescription description) {
-		BundleSpecification[] required = description.getRequiredBundles();
+	void loadImports(BundleSpecification[] required, BundleDescription[] imported) {
 		for (BundleSpecification spec : required) {
 			PluginImport importElement = new PluginImport();
 			importElement.setModel(getModel());
@@ -194,7 +236,6 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 			fImports.add(importElement);
 			importElement.load(spec);
 		}
-		BundleDescription[] imported = getImportedBundles(description);
 		for (BundleDescription element : imported) {
 			PluginImport importElement = new PluginImport();
 			importElement.setModel(getModel());
@@ -259,6 +300,7 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 	@Override
 	public void remove(IPluginLibrary library) throws CoreException {
 		ensureModelEditable();
+		ensureLibrariesLoaded();
 		fLibraries.remove(library);
 		((PluginLibrary) library).setInTheModel(false);
 		fireStructureChanged(library, IModelChangedEvent.REMOVE);
@@ -267,6 +309,7 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 	@Override
 	public void remove(IPluginImport iimport) throws CoreException {
 		ensureModelEditable();
+		ensureImportsLoaded();
 		fImports.remove(iimport);
 		((PluginImport) iimport).setInTheModel(false);
 		fireStructureChanged(iimport, IModelChangedEvent.REMOVE);
@@ -274,6 +317,7 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 
 	public void remove(IPluginImport[] iimports) throws CoreException {
 		ensureModelEditable();
+		ensureImportsLoaded();
 		for (IPluginImport iimport : iimports) {
 			fImports.remove(iimport);
 			((PluginImport) iimport).setInTheModel(false);
@@ -283,6 +327,9 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 
 	@Override
 	public void reset() {
+		fPendingLibraries = null;
+		fPendingImported = null;
+		fPendingRequired = null;
 		fLibraries = new ArrayList<>();
 		fImports = new ArrayList<>();
 		fProviderName = null;
@@ -329,6 +376,7 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 	@Override
 	public void swap(IPluginLibrary l1, IPluginLibrary l2) throws CoreException {
 		ensureModelEditable();
+		ensureLibrariesLoaded();
 		int index1 = fLibraries.indexOf(l1);
 		int index2 = fLibraries.indexOf(l2);
 		if (index1 == -1 || index2 == -1)
@@ -341,6 +389,7 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 	@Override
 	public void swap(IPluginImport import1, IPluginImport import2) throws CoreException {
 		ensureModelEditable();
+		ensureImportsLoaded();
 		int index1 = fImports.indexOf(import1);
 		int index2 = fImports.indexOf(import2);
 		if (index1 == -1 || index2 == -1)
@@ -365,12 +414,14 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 			return false;
 
 		// validate libraries
+		ensureLibrariesLoaded();
 		for (int i = 0; i < fLibraries.size(); i++) {
 			IPluginLibrary library = fLibraries.get(i);
 			if (!library.isValid())
 				return false;
 		}
 		// validate imports
+		ensureImportsLoaded();
 		for (int i = 0; i < fImports.size(); i++) {
 			IPluginImport iimport = fImports.get(i);
 			if (!iimport.isValid())
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.util.*;
+import org.eclipse.pde.core.IModelChangedListener;
+import org.eclipse.pde.internal.core.ischema.*;
+
+/**
+ * An immutable, pre-computed view of an {@link ISchema} used when validating
+ * extensions. Element lookups, the set of allowed child elements, known and
+ * required attributes and enumeration restrictions are computed once per
+ * schema instead of once per validated element.
+ * <p>
+ * Instances are obtained from {@link SchemaRegistry#getCompiledSchema(ISchema)}
+ * and remain valid until the schema they were compiled from or one of its
+ * included schemas changes.
+ * </p>
+ */
+public final class CompiledSchema {
+
+	/**
+	 * Pre-computed validation data for a single schema element.
+	 */
+	public static final class ElementInfo {
+
+		private static final ISchemaAttribute[] NO_ATTRIBUTES = new ISchemaAttribute[0];
+
+		private final ISchemaElement fElement;
+		private final boolean fComplex;
+		private final Set<String> fAllowedChildren;
+		private final Map<String, ISchemaAttribute> fAttributes;
+		private final ISchemaAttribute[] fRequiredAttributes;
+		private final Map<String, Set<String>> fRestrictions;
+
+		ElementInfo(ISchemaElement element) {
+			fElement = element;
+			ISchemaType type = element.getType();
+			fComplex = type instanceof ISchemaComplexType;
+
+			Set<String> allowed = new HashSet<>();
+			computeAllowedElements(type, allowed);
+			fAllowedChildren = allowed.isEmpty() ? Collections.<String> emptySet() : Collections.unmodifiableSet(allowed);
+
+			ISchemaAttribute[] attributes = element.getAttributes();
+			Map<String, ISchemaAttribute> known = new HashMap<>(attributes.length * 2);
+			List<ISchemaAttribute> required = new ArrayList<>();
+			Map<String, Set<String>> restrictions = new HashMap<>();
+			for (ISchemaAttribute attribute : attributes) {
+				known.put(attribute.getName(), attribute);
+				if (attribute.getUse() == ISchemaAttribute.REQUIRED)
+					required.add(attribute);
+				Set<String> values = computeRestriction(attribute);
+				if (values != null)
+					restrictions.put(attribute.getName(), values);
+			}
+			fAttributes = known;
+			fRequiredAttributes = required.isEmpty() ? NO_ATTRIBUTES : required.toArray(new ISchemaAttribute[required.size()]);
+			fRestrictions = restrictions.isEmpty() ? Collections.<String, Set<String>> emptyMap() : restrictions;
+		}
+
+		/**
+		 * @return the schema element this information was computed from
+		 */
+		public ISchemaElement getElement() {
+			return fElement;
+		}
+
+		/**
+		 * @return whether the element has a complex type
+		 */
+		public boolean isComplex() {
+			return fComplex;
+		}
+
+		/**
+		 * Returns whether an element with the given name may appear as a child
+		 * of this element. Java attributes may be expressed as child elements
+		 * and are therefore included.
+		 *
+		 * @param name the name of the child element
+		 * @return <code>true</code> if the child is allowed
+		 */
+		public boolean isAllowedChild(String name) {
+			return fAllowedChildren.contains(name);
+		}
+
+		/**
+		 * @param name the attribute name
+		 * @return the schema attribute with the given name or <code>null</code>
+		 */
+		public ISchemaAttribute getAttribute(String name) {
+			return fAttributes.get(name);
+		}
+
+		/**
+		 * @return the required attributes of this element, never <code>null</code>
+		 */
+		public ISchemaAttribute[] getRequiredAttributes() {
+			return fRequiredAttributes;
+		}
+
+		/**
+		 * Returns the values permitted by the enumeration restriction of the
+		 * given string attribute.
+		 *
+		 * @param name the attribute name
+		 * @return the permitted values or <code>null</code> if the attribute
+		 * is not restricted
+		 */
+		public Set<String> getRestriction(String name) {
+			return fRestrictions.get(name);
+		}
+
+		private static Set<String> computeRestriction(ISchemaAttribute attribute) {
+			if (attribute.getKind() != IMetaAttribute.STRING)
+				return null;
+			ISchemaSimpleType type = attribute.getType();
+			ISchemaRestriction restriction = type == null ? null : type.getRestriction();
+			if (restriction == null)
+				return null;
+			Set<String> values = new HashSet<>();
+			for (Object child : restriction.getChildren()) {
+				if (child instanceof ISchemaEnumeration)
+					values.add(((ISchemaEnumeration) child).getName());
+			}
+			return values;
+		}
+
+		private static void computeAllowedElements(ISchemaType type, Set<String> elementSet) {
+			if (type instanceof ISchemaComplexType) {
+				ISchemaComplexType complexType = (ISchemaComplexType) type;
+				ISchemaCompositor compositor = complexType.getCompositor();
+				if (compositor != null)
+					computeAllowedElements(compositor, elementSet);
+
+				ISchemaAttribute[] attrs = complexType.getAttributes();
+				for (ISchemaAttribute attr : attrs) {
+					if (attr.getKind() == IMetaAttribute.JAVA)
+						elementSet.add(attr.getName());
+				}
+			}
+		}
+
+		private static void computeAllowedElements(ISchemaCompositor compositor, Set<String> elementSet) {
+			ISchemaObject[] children = compositor.getChildren();
+			for (ISchemaObject child : children) {
+				if (child instanceof ISchemaObjectReference) {
+					ISchemaObjectReference ref = (ISchemaObjectReference) child;
+					ISchemaElement refElement = (ISchemaElement) ref.getReferencedObject();
+					if (refElement != null)
+						elementSet.add(refElement.getName());
+				} else if (child instanceof ISchemaCompositor) {
+					computeAllowedElements((ISchemaCompositor) child, elementSet);
+				}
+			}
+		}
+	}
+
+	private final ISchema fSchema;
+	private final Map<String, ElementInfo> fElements;
+	/** The schema and the schemas it includes */
+	private final Set<ISchema> fSchemas = new HashSet<>();
+	private volatile boolean fChanged;
+	private final IModelChangedListener fListener = event -> fChanged = true;
+
+	CompiledSchema(ISchema schema) {
+		fSchema = schema;
+		Map<String, ElementInfo> elements = new HashMap<>();
+		collectElements(schema, elements, fSchemas);
+		fElements = elements;
+	}
+
+	/**
+	 * Starts tracking changes to the schema and the schemas it includes, such
+	 * as a reload.
+	 */
+	void connect() {
+		for (ISchema schema : fSchemas)
+			schema.addModelChangedListener(fListener);
+	}
+
+	void disconnect() {
+		for (ISchema schema : fSchemas)
+			schema.removeModelChangedListener(fListener);
+	}
+
+	/**
+	 * @return whether the schema or one of its included schemas has changed
+	 * since {@link #connect()}
+	 */
+	boolean isChanged() {
+		return fChanged;
+	}
+
+	/**
+	 * Collects the elements visible from the given schema in the same order
+	 * {@link ISchema#findElement(String)} searches them: local elements first,
+	 * followed by the elements of included schemas.
+	 */
+	private static void collectElements(ISchema schema, Map<String, ElementInfo> elements, Set<ISchema> visited) {
+		if (!visited.add(schema))
+			return;
+		for (ISchemaElement element : schema.getElements()) {
+			if (!elements.containsKey(element.getName()))
+				elements.put(element.getName(), new ElementInfo(element));
+		}
+		for (ISchemaInclude include : schema.getIncludes()) {
+			ISchema included = include.getIncludedSchema();
+			if (included != null)
+				collectElements(included, elements, visited);
+		}
+	}
+
+	/**
+	 * @return the schema this model was compiled from
+	 */
+	public ISchema getSchema() {
+		return fSchema;
+	}
+
+	/**
+	 * Equivalent to {@link ISchema#findElement(String)} on the compiled schema.
+	 *
+	 * @param name the element name
+	 * @return the pre-computed element information or <code>null</code>
+	 */
+	public ElementInfo findElement(String name) {
+		return fElements.get(name);
+	}
+
+}
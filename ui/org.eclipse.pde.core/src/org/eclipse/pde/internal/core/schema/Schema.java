@@ -374,11 +374,24 @@ public class Schema extends PlatformObject implements ISchema {
 	}
 
 	public void load() {
+		SchemaCache cache = getSchemaCache();
+		if (cache != null) {
+			Element root = cache.read(fURL, fAbbreviated);
+			if (root != null) {
+				traverseDocumentTree(root);
+				return;
+			}
+		}
 		URLConnection connection = null;
 		try {
 			connection = SchemaUtil.getURLConnection(fURL);
 			try (InputStream input = connection.getInputStream()) {
-				load(input);
+				Node root = parse(input);
+				if (root != null) {
+					traverseDocumentTree(root);
+					if (cache != null && fLoaded)
+						cache.write(fURL, fAbbreviated, root);
+				}
 			}
 		} catch (FileNotFoundException e) {
 			fLoaded = false;
@@ -395,11 +408,16 @@ public class Schema extends PlatformObject implements ISchema {
 	}
 
 	public void load(InputStream stream) {
-		try {
-			SAXParserWrapper parser = new SAXParserWrapper();
+		Node root = parse(stream);
+		if (root != null)
+			traverseDocumentTree(root);
+	}
+
+	private Node parse(InputStream stream) {
+		try (SAXParserWrapper parser = new SAXParserWrapper()) {
 			XMLDefaultHandler handler = new XMLDefaultHandler(fAbbreviated);
 			parser.parse(stream, handler);
-			traverseDocumentTree(handler.getDocumentElement());
+			return handler.getDocumentElement();
 		} catch (SAXException e) {
 			// ignore parse errors - 'loaded' will be false anyway
 		} catch (IOException e) {
@@ -407,6 +425,18 @@ public class Schema extends PlatformObject implements ISchema {
 		} catch (Exception e) {
 			PDECore.logException(e);
 		}
+		return null;
+	}
+
+	/**
+	 * Only abbreviated schemas loaded from a URL are cached; they are the ones
+	 * shared through the {@link SchemaRegistry}.
+	 */
+	private SchemaCache getSchemaCache() {
+		if (!fAbbreviated || fURL == null || getClass() != Schema.class)
+			return null;
+		PDECore core = PDECore.getDefault();
+		return core == null ? null : core.getSchemaRegistry().getSchemaCache();
 	}
 
 	private ISchemaAttribute processAttribute(ISchemaElement element, Node elementNode) {
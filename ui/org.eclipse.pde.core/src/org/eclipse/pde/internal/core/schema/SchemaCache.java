@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.ParserConfigurationException;
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.util.PDEXMLHelper;
+import org.w3c.dom.*;
+
+/**
+ * Persistent cache of parsed extension point schemas.
+ * <p>
+ * The document tree produced while parsing an abbreviated schema is stored
+ * in a compact binary form, keyed by the schema URL and stamped with the
+ * modification time and size of the file (or jar) the schema was read from.
+ * When a schema is loaded again with an unchanged stamp the tree is restored
+ * from the cache and handed to {@link Schema#traverseDocumentTree(Node)}
+ * without opening the jar or running the XML parser.
+ * </p>
+ * <p>
+ * Stale entries are deleted when they are read, and only the
+ * {@link #MAX_ENTRIES} most recently used entries are kept.
+ * </p>
+ */
+public class SchemaCache {
+
+	public static final int MAX_ENTRIES = 2000;
+
+	private static final String CACHE_DIR = ".schemas"; //$NON-NLS-1$
+	private static final String TEMP_EXTENSION = ".tmp"; //$NON-NLS-1$
+
+	private static final int VERSION = 1;
+
+	private static final byte ELEMENT = 1;
+	private static final byte TEXT = 2;
+
+	private final File fDirectory;
+
+	public SchemaCache(File directory) {
+		fDirectory = directory;
+	}
+
+	/**
+	 * @return the cache stored in the PDE core state location
+	 */
+	static SchemaCache create() {
+		PDECore core = PDECore.getDefault();
+		if (core == null)
+			return null;
+		SchemaCache cache = new SchemaCache(new File(core.getStateLocation().toFile(), CACHE_DIR));
+		cache.prune(MAX_ENTRIES);
+		return cache;
+	}
+
+	/**
+	 * Restores the document tree of the schema at the given URL.
+	 *
+	 * @param url the schema location
+	 * @param abbreviated whether the abbreviated form of the schema is requested
+	 * @return the root element of the cached tree, or <code>null</code> if
+	 * the schema is not cached or has changed since it was cached
+	 */
+	public Element read(URL url, boolean abbreviated) {
+		long[] stamp = computeStamp(url);
+		if (stamp == null)
+			return null;
+		File file = getCacheFile(url, abbreviated);
+		if (!file.isFile())
+			return null;
+		Element root = null;
+		boolean stale = false;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION || !url.toString().equals(in.readUTF()) || in.readBoolean() != abbreviated
+					|| in.readLong() != stamp[0] || in.readLong() != stamp[1] || in.readByte() != ELEMENT) {
+				stale = true;
+			} else {
+				DocumentBuilder builder = PDEXMLHelper.Instance().getDefaultDOMParser();
+				Document document = builder.newDocument();
+				PDEXMLHelper.Instance().recycleDOMParser(builder);
+				root = readElement(in, document, new ArrayList<String>());
+				document.appendChild(root);
+			}
+		} catch (IOException e) {
+			// a corrupt entry is a cache miss
+			stale = true;
+		} catch (ParserConfigurationException e) {
+			return null;
+		}
+		if (stale) {
+			file.delete();
+		} else {
+			// remember the use of the entry for pruning
+			file.setLastModified(System.currentTimeMillis());
+		}
+		return root;
+	}
+
+	/**
+	 * Stores the document tree of the schema at the given URL.
+	 *
+	 * @param url the schema location
+	 * @param abbreviated whether the tree was parsed in abbreviated form
+	 * @param root the root element of the parsed schema
+	 */
+	public void write(URL url, boolean abbreviated, Node root) {
+		long[] stamp = computeStamp(url);
+		if (stamp == null || root == null || root.getNodeType() != Node.ELEMENT_NODE)
+			return;
+		if (!fDirectory.isDirectory() && !fDirectory.mkdirs())
+			return;
+		File file = getCacheFile(url, abbreviated);
+		File temp = null;
+		try {
+			// a unique temporary file, the same schema may be written by several threads
+			temp = File.createTempFile("schema", TEMP_EXTENSION, fDirectory); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(VERSION);
+				out.writeUTF(url.toString());
+				out.writeBoolean(abbreviated);
+				out.writeLong(stamp[0]);
+				out.writeLong(stamp[1]);
+				writeNode(out, root, new HashMap<String, Integer>());
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			if (temp != null)
+				temp.delete();
+		}
+	}
+
+	/**
+	 * Deletes all cached schemas.
+	 */
+	public void clear() {
+		File[] files = fDirectory.listFiles();
+		if (files != null) {
+			for (File file : files)
+				file.delete();
+		}
+	}
+
+	/**
+	 * Deletes all but the given number of most recently used entries, as well
+	 * as files left over by interrupted writes.
+	 *
+	 * @param maxEntries the number of entries to keep
+	 */
+	public void prune(int maxEntries) {
+		File[] files = fDirectory.listFiles();
+		if (files == null)
+			return;
+		List<File> entries = new ArrayList<>(files.length);
+		for (File file : files) {
+			if (file.getName().endsWith(TEMP_EXTENSION))
+				file.delete();
+			else
+				entries.add(file);
+		}
+		if (entries.size() <= maxEntries)
+			return;
+		Map<File, Long> lastModified = new HashMap<>();
+		for (File file : entries)
+			lastModified.put(file, Long.valueOf(file.lastModified()));
+		entries.sort((file1, file2) -> lastModified.get(file2).compareTo(lastModified.get(file1)));
+		for (File file : entries.subList(maxEntries, entries.size()))
+			file.delete();
+	}
+
+	private File getCacheFile(URL url, boolean abbreviated) {
+		String key = url.toString();
+		// combine two independent hashes to make collisions unlikely; the
+		// full URL is stored in the entry and verified on read
+		String name = Integer.toHexString(key.hashCode()) + '_' + Integer.toHexString(reverse(key).hashCode());
+		return new File(fDirectory, name + (abbreviated ? ".a" : ".f")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static String reverse(String value) {
+		return new StringBuilder(value).reverse().toString();
+	}
+
+	/**
+	 * Computes the stamp of the file backing the given URL, i.e. the schema
+	 * file itself or the jar containing it.
+	 *
+	 * @return the modification time and length, or <code>null</code> if the
+	 * URL is not backed by a local file
+	 */
+	private static long[] computeStamp(URL url) {
+		File file = null;
+		try {
+			String protocol = url.getProtocol();
+			if ("file".equals(protocol)) { //$NON-NLS-1$
+				file = URIUtil.toFile(URIUtil.toURI(url));
+			} else if ("jar".equals(protocol)) { //$NON-NLS-1$
+				String path = url.getFile();
+				int separator = path.indexOf("!/"); //$NON-NLS-1$
+				if (path.startsWith("file:") && separator != -1) //$NON-NLS-1$
+					file = URIUtil.toFile(URIUtil.toURI(new URL(path.substring(0, separator))));
+			}
+		} catch (URISyntaxException | MalformedURLException e) {
+			return null;
+		}
+		if (file == null || !file.isFile())
+			return null;
+		return new long[] {file.lastModified(), file.length()};
+	}
+
+	private static void writeNode(DataOutputStream out, Node node, Map<String, Integer> strings) throws IOException {
+		if (node.getNodeType() == Node.ELEMENT_NODE) {
+			out.writeByte(ELEMENT);
+			writeString(out, node.getNodeName(), strings);
+			NamedNodeMap attributes = node.getAttributes();
+			out.writeInt(attributes.getLength());
+			for (int i = 0; i < attributes.getLength(); i++) {
+				Node attribute = attributes.item(i);
+				writeString(out, attribute.getNodeName(), strings);
+				writeString(out, attribute.getNodeValue(), strings);
+			}
+			NodeList children = node.getChildNodes();
+			int count = 0;
+			for (int i = 0; i < children.getLength(); i++) {
+				if (isPersisted(children.item(i)))
+					count++;
+			}
+			out.writeInt(count);
+			for (int i = 0; i < children.getLength(); i++) {
+				Node child = children.item(i);
+				if (isPersisted(child))
+					writeNode(out, child, strings);
+			}
+		} else {
+			out.writeByte(TEXT);
+			writeString(out, node.getNodeValue(), strings);
+		}
+	}
+
+	private static boolean isPersisted(Node node) {
+		short type = node.getNodeType();
+		return type == Node.ELEMENT_NODE || type == Node.TEXT_NODE;
+	}
+
+	private static Element readElement(DataInputStream in, Document document, List<String> strings) throws IOException {
+		Element element = document.createElement(readString(in, strings));
+		int attributes = in.readInt();
+		for (int i = 0; i < attributes; i++) {
+			String name = readString(in, strings);
+			element.setAttribute(name, readString(in, strings));
+		}
+		int children = in.readInt();
+		for (int i = 0; i < children; i++) {
+			byte type = in.readByte();
+			if (type == ELEMENT)
+				element.appendChild(readElement(in, document, strings));
+			else if (type == TEXT)
+				element.appendChild(document.createTextNode(readString(in, strings)));
+			else
+				throw new IOException("Corrupt schema cache entry"); //$NON-NLS-1$
+		}
+		return element;
+	}
+
+	/**
+	 * Strings are written once and referenced by index afterwards; element and
+	 * attribute names repeat heavily within a schema.
+	 */
+	private static void writeString(DataOutputStream out, String value, Map<String, Integer> strings) throws IOException {
+		Integer index = strings.get(value);
+		if (index != null) {
+			out.writeInt(index.intValue());
+			return;
+		}
+		strings.put(value, Integer.valueOf(strings.size()));
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(-1);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in, List<String> strings) throws IOException {
+		int index = in.readInt();
+		if (index >= 0) {
+			if (index >= strings.size())
+				throw new IOException("Corrupt schema cache entry"); //$NON-NLS-1$
+			return strings.get(index);
+		}
+		int length = in.readInt();
+		if (length < 0)
+			throw new IOException("Corrupt schema cache entry"); //$NON-NLS-1$
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		String value = new String(bytes, StandardCharsets.UTF_8);
+		strings.add(value);
+		return value;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.HashMap;
+import java.util.Map;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.pde.core.plugin.*;
@@ -31,6 +32,16 @@ public class SchemaRegistry {
 
 	private HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
 
+	/**
+	 * Compiled validation models keyed by schema URL. An entry is replaced as
+	 * soon as the schema at that URL or one of the schemas it includes has
+	 * been reloaded or changed.
+	 */
+	private final Map<String, CompiledSchema> fCompiledSchemas = new HashMap<>();
+
+	private SchemaCache fCache;
+	private boolean fCacheInitialized;
+
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
@@ -53,6 +64,46 @@ public class SchemaRegistry {
 		return desc.getSchema(true);
 	}
 
+	/**
+	 * Returns the pre-computed validation model for the given schema. The model
+	 * is computed on first access and reused until the schema or one of its
+	 * included schemas is reloaded.
+	 *
+	 * @param schema the schema to compile
+	 * @return the compiled schema, never <code>null</code>
+	 */
+	public CompiledSchema getCompiledSchema(ISchema schema) {
+		URL url = schema.getURL();
+		if (url == null)
+			return new CompiledSchema(schema);
+		String key = url.toString();
+		synchronized (fCompiledSchemas) {
+			CompiledSchema compiled = fCompiledSchemas.get(key);
+			if (compiled == null || compiled.getSchema() != schema || compiled.isChanged()) {
+				if (compiled != null)
+					compiled.disconnect();
+				compiled = new CompiledSchema(schema);
+				compiled.connect();
+				fCompiledSchemas.put(key, compiled);
+			}
+			return compiled;
+		}
+	}
+
+	/**
+	 * Returns the persistent cache used to restore parsed schemas across
+	 * sessions without running the XML parser.
+	 *
+	 * @return the schema cache or <code>null</code> if PDE core is not running
+	 */
+	public synchronized SchemaCache getSchemaCache() {
+		if (!fCacheInitialized) {
+			fCache = SchemaCache.create();
+			fCacheInitialized = true;
+		}
+		return fCache;
+	}
+
 	public ISchema getIncludedSchema(ISchemaDescriptor parent, String schemaLocation) {
 		try {
 			URL url = IncludedSchemaDescriptor.computeURL(parent, schemaLocation, null);
@@ -165,6 +216,11 @@ public class SchemaRegistry {
 
 	public void shutdown() {
 		fRegistry.clear();
+		synchronized (fCompiledSchemas) {
+			for (CompiledSchema compiled : fCompiledSchemas.values())
+				compiled.disconnect();
+			fCompiledSchemas.clear();
+		}
 	}
 
 	private static String getId(IPluginExtensionPoint point, IPluginModelBase base) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2017 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -15,84 +15,147 @@ package org.eclipse.pde.internal.core.util;
 
 import java.lang.ref.SoftReference;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.xml.parsers.*;
 import org.xml.sax.SAXException;
 
 /**
  * PDEXMLHelper
  *
+ * Hands out SAX and DOM parsers from bounded pools. Parsers are expensive to
+ * create, so callers should return them through {@link #recycleSAXParser(SAXParser)}
+ * / {@link #recycleDOMParser(DocumentBuilder)} when done, preferably by using
+ * {@link SAXParserWrapper} in a try-with-resources block.
+ * <p>
+ * The pool size defaults to {@link #FMAXPOOLLIMIT} and may be overridden with
+ * the <code>pde.xml.parserPoolLimit</code> system property or the static setters.
+ * </p>
  */
 public class PDEXMLHelper {
 
 	protected static SAXParserFactory fSAXFactory;
 	protected static PDEXMLHelper fPinstance;
 	protected static DocumentBuilderFactory fDOMFactory;
-	protected static List<SoftReference<SAXParser>> fSAXParserQueue;
-	protected static List<SoftReference<DocumentBuilder>> fDOMParserQueue;
-	protected static int fSAXPoolLimit;
-	protected static int fDOMPoolLimit;
-	protected static final int FMAXPOOLLIMIT = 1;
+	protected static Deque<SoftReference<SAXParser>> fSAXParserQueue;
+	protected static Deque<SoftReference<DocumentBuilder>> fDOMParserQueue;
+	protected static final int FMAXPOOLLIMIT = 8;
+	protected static int fSAXPoolLimit = Integer.getInteger("pde.xml.parserPoolLimit", FMAXPOOLLIMIT).intValue(); //$NON-NLS-1$
+	protected static int fDOMPoolLimit = fSAXPoolLimit;
+
+	private static final AtomicLong fSAXCreated = new AtomicLong();
+	private static final AtomicLong fSAXReused = new AtomicLong();
+	private static final AtomicLong fDOMCreated = new AtomicLong();
+	private static final AtomicLong fDOMReused = new AtomicLong();
 
 	protected PDEXMLHelper() throws FactoryConfigurationError {
 		fSAXFactory = SAXParserFactory.newInstance();
 		fDOMFactory = DocumentBuilderFactory.newInstance();
-		fSAXParserQueue = Collections.synchronizedList(new LinkedList<SoftReference<SAXParser>>());
-		fDOMParserQueue = Collections.synchronizedList(new LinkedList<SoftReference<DocumentBuilder>>());
-		fSAXPoolLimit = FMAXPOOLLIMIT;
-		fDOMPoolLimit = FMAXPOOLLIMIT;
+		fSAXParserQueue = new ArrayDeque<>();
+		fDOMParserQueue = new ArrayDeque<>();
 	}
 
-	public synchronized SAXParser getDefaultSAXParser() throws ParserConfigurationException, SAXException {
-
-		SAXParser parser = null;
-		if (fSAXParserQueue.isEmpty()) {
+	public SAXParser getDefaultSAXParser() throws ParserConfigurationException, SAXException {
+		SAXParser parser = poll(fSAXParserQueue);
+		if (parser != null) {
+			fSAXReused.incrementAndGet();
+			return parser;
+		}
+		synchronized (fSAXFactory) {
 			parser = fSAXFactory.newSAXParser();
-		} else {
-			SoftReference<?> reference = fSAXParserQueue.remove(0);
-			if (reference.get() != null) {
-				parser = (SAXParser) reference.get();
-			} else {
-				parser = fSAXFactory.newSAXParser();
-			}
 		}
+		fSAXCreated.incrementAndGet();
 		return parser;
 	}
 
-	public synchronized DocumentBuilder getDefaultDOMParser() throws ParserConfigurationException {
-
-		DocumentBuilder parser = null;
-		if (fDOMParserQueue.isEmpty()) {
+	public DocumentBuilder getDefaultDOMParser() throws ParserConfigurationException {
+		DocumentBuilder parser = poll(fDOMParserQueue);
+		if (parser != null) {
+			fDOMReused.incrementAndGet();
+			return parser;
+		}
+		synchronized (fDOMFactory) {
 			parser = fDOMFactory.newDocumentBuilder();
-		} else {
-			SoftReference<?> reference = fDOMParserQueue.remove(0);
-			if (reference.get() != null) {
-				parser = (DocumentBuilder) reference.get();
-			} else {
-				parser = fDOMFactory.newDocumentBuilder();
-			}
 		}
+		fDOMCreated.incrementAndGet();
 		return parser;
 	}
 
-	public static PDEXMLHelper Instance() throws FactoryConfigurationError {
+	public static synchronized PDEXMLHelper Instance() throws FactoryConfigurationError {
 		if (fPinstance == null) {
 			fPinstance = new PDEXMLHelper();
 		}
 		return fPinstance;
 	}
 
-	public synchronized void recycleSAXParser(SAXParser parser) {
-		if (fSAXParserQueue.size() < fSAXPoolLimit) {
-			SoftReference<SAXParser> reference = new SoftReference<>(parser);
-			fSAXParserQueue.add(reference);
+	public void recycleSAXParser(SAXParser parser) {
+		try {
+			parser.reset();
+		} catch (UnsupportedOperationException e) {
+			// parser cannot be restored to its initial state, do not pool it
+			return;
+		}
+		offer(fSAXParserQueue, parser, fSAXPoolLimit);
+	}
+
+	public void recycleDOMParser(DocumentBuilder parser) {
+		try {
+			parser.reset();
+		} catch (UnsupportedOperationException e) {
+			// parser cannot be restored to its initial state, do not pool it
+			return;
 		}
+		offer(fDOMParserQueue, parser, fDOMPoolLimit);
 	}
 
-	public synchronized void recycleDOMParser(DocumentBuilder parser) {
-		if (fDOMParserQueue.size() < fDOMPoolLimit) {
-			SoftReference<DocumentBuilder> reference = new SoftReference<>(parser);
-			fDOMParserQueue.add(reference);
+	private static <T> T poll(Deque<SoftReference<T>> queue) {
+		synchronized (queue) {
+			SoftReference<T> reference;
+			while ((reference = queue.pollFirst()) != null) {
+				T parser = reference.get();
+				if (parser != null) {
+					return parser;
+				}
+			}
 		}
+		return null;
+	}
+
+	private static <T> void offer(Deque<SoftReference<T>> queue, T parser, int limit) {
+		synchronized (queue) {
+			if (queue.size() < limit) {
+				queue.addFirst(new SoftReference<>(parser));
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of SAX parsers created since startup, i.e. the number
+	 * of requests that could not be served from the pool.
+	 */
+	public static long getSAXParsersCreated() {
+		return fSAXCreated.get();
+	}
+
+	/**
+	 * Returns the number of SAX parser requests served from the pool.
+	 */
+	public static long getSAXParsersReused() {
+		return fSAXReused.get();
+	}
+
+	/**
+	 * Returns the number of DOM parsers created since startup, i.e. the number
+	 * of requests that could not be served from the pool.
+	 */
+	public static long getDOMParsersCreated() {
+		return fDOMCreated.get();
+	}
+
+	/**
+	 * Returns the number of DOM parser requests served from the pool.
+	 */
+	public static long getDOMParsersReused() {
+		return fDOMReused.get();
 	}
 
 	public static String getWritableString(String source) {
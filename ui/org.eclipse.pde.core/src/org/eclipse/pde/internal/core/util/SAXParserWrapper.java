@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2008 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -29,8 +29,11 @@ import org.xml.sax.helpers.DefaultHandler;
 /**
  * SAXParserWrapper
  *
+ * Borrows a pooled parser from {@link PDEXMLHelper} and returns it on
+ * {@link #close()}. Use in a try-with-resources block so the parser is
+ * recycled as soon as parsing is done.
  */
-public class SAXParserWrapper {
+public class SAXParserWrapper implements AutoCloseable {
 
 	protected SAXParser fParser;
 	protected boolean isdisposed;
@@ -66,10 +69,8 @@ public class SAXParserWrapper {
 	// NOTE:  If other parser method calls are required, the corresponding
 	// wrapper method needs to be added here
 
-	// Implicit disposal
 	@Override
-	protected void finalize() throws Throwable {
-		super.finalize();
+	public void close() {
 		dispose();
 	}
 
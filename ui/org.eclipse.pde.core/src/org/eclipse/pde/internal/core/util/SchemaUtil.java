@@ -59,8 +59,7 @@ public class SchemaUtil {
 		URLConnection connection = null;
 		try {
 			connection = getURLConnection(url);
-			try (InputStream input = connection.getInputStream()) {
-				SAXParserWrapper parser = new SAXParserWrapper();
+			try (InputStream input = connection.getInputStream(); SAXParserWrapper parser = new SAXParserWrapper()) {
 				parser.parse(input, handler);
 			}
 		} catch (MalformedURLException e) {
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.util.*;
+import org.eclipse.osgi.service.resolver.*;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEState;
+
+/**
+ * A prefix index over the symbolic names and exported packages of the active
+ * plug-in models, used by content assist and selection dialogs.
+ * <p>
+ * Names are kept in arrays sorted by their lower case form so that all
+ * entries starting with a given prefix (ignoring case) form a contiguous
+ * range found by binary search. Each entry points back to its bundle or
+ * export package description. The index is built once per resolver state and
+ * rebuilt when the state changes.
+ * </p>
+ */
+public final class StateCompletionIndex {
+
+	private static StateCompletionIndex fCurrent;
+
+	private final State fState;
+	private final long fTimeStamp;
+
+	private final String[] fBundleKeys;
+	private final BundleDescription[] fBundles;
+	private final String[] fPackageKeys;
+	private final ExportPackageDescription[] fPackages;
+
+	/**
+	 * Returns the index for the current state, building it if the state has
+	 * changed since the index was last requested.
+	 *
+	 * @return the index for the current state
+	 */
+	public static synchronized StateCompletionIndex getDefault() {
+		PDEState pdeState = PDECore.getDefault().getModelManager().getState();
+		State state = pdeState == null ? null : pdeState.getState();
+		long timeStamp = state == null ? -1 : state.getTimeStamp();
+		if (fCurrent == null || fCurrent.fState != state || fCurrent.fTimeStamp != timeStamp)
+			fCurrent = new StateCompletionIndex(state, timeStamp, PluginRegistry.getActiveModels());
+		return fCurrent;
+	}
+
+	private StateCompletionIndex(State state, long timeStamp, IPluginModelBase[] models) {
+		fState = state;
+		fTimeStamp = timeStamp;
+
+		List<BundleDescription> bundles = new ArrayList<>(models.length);
+		List<ExportPackageDescription> packages = new ArrayList<>();
+		for (IPluginModelBase model : models) {
+			BundleDescription desc = model.getBundleDescription();
+			if (desc == null || desc.getSymbolicName() == null)
+				continue;
+			bundles.add(desc);
+			Collections.addAll(packages, desc.getExportPackages());
+		}
+
+		Entry<?>[] bundleEntries = new Entry<?>[bundles.size()];
+		for (int i = 0; i < bundleEntries.length; i++)
+			bundleEntries[i] = new Entry<>(bundles.get(i).getSymbolicName(), bundles.get(i));
+		Arrays.sort(bundleEntries);
+		fBundleKeys = new String[bundleEntries.length];
+		fBundles = new BundleDescription[bundleEntries.length];
+		for (int i = 0; i < bundleEntries.length; i++) {
+			fBundleKeys[i] = bundleEntries[i].key;
+			fBundles[i] = (BundleDescription) bundleEntries[i].value;
+		}
+
+		Entry<?>[] packageEntries = new Entry<?>[packages.size()];
+		for (int i = 0; i < packageEntries.length; i++)
+			packageEntries[i] = new Entry<>(packages.get(i).getName(), packages.get(i));
+		Arrays.sort(packageEntries);
+		fPackageKeys = new String[packageEntries.length];
+		fPackages = new ExportPackageDescription[packageEntries.length];
+		for (int i = 0; i < packageEntries.length; i++) {
+			fPackageKeys[i] = packageEntries[i].key;
+			fPackages[i] = (ExportPackageDescription) packageEntries[i].value;
+		}
+	}
+
+	/**
+	 * Returns the bundles whose symbolic name starts with the given prefix,
+	 * ignoring case, ordered by symbolic name.
+	 *
+	 * @param prefix the prefix to match, an empty string matches all bundles
+	 * @return the matching bundles
+	 */
+	public List<BundleDescription> getBundles(String prefix) {
+		String key = toKey(prefix);
+		int start = lowerBound(fBundleKeys, key);
+		int end = upperBound(fBundleKeys, key, start);
+		return Collections.unmodifiableList(Arrays.asList(fBundles).subList(start, end));
+	}
+
+	/**
+	 * Returns the exported packages whose name starts with the given prefix,
+	 * ignoring case, ordered by package name. A package exported by several
+	 * bundles is returned once per exporter.
+	 *
+	 * @param prefix the prefix to match, an empty string matches all packages
+	 * @return the matching export package descriptions
+	 */
+	public List<ExportPackageDescription> getExportedPackages(String prefix) {
+		String key = toKey(prefix);
+		int start = lowerBound(fPackageKeys, key);
+		int end = upperBound(fPackageKeys, key, start);
+		return Collections.unmodifiableList(Arrays.asList(fPackages).subList(start, end));
+	}
+
+	private static String toKey(String name) {
+		return name.toLowerCase(Locale.ENGLISH);
+	}
+
+	/**
+	 * @return the index of the first key not less than the given prefix
+	 */
+	private static int lowerBound(String[] keys, String prefix) {
+		int low = 0;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (keys[mid].compareTo(prefix) < 0)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * @return the index after the last key starting with the given prefix
+	 */
+	private static int upperBound(String[] keys, String prefix, int start) {
+		int low = start;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (keys[mid].startsWith(prefix))
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	private static final class Entry<T> implements Comparable<Entry<?>> {
+		final String key;
+		final T value;
+
+		Entry(String name, T value) {
+			this.key = toKey(name);
+			this.value = value;
+		}
+
+		@Override
+		public int compareTo(Entry<?> other) {
+			return key.compareTo(other.key);
+		}
+	}
+
+}
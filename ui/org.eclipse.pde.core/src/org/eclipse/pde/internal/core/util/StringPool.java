@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.util.HashMap;
+
+/**
+ * Shares the identical strings read while loading many bundles, such as
+ * provider names, localization keys and library names. A pool is meant to
+ * live only as long as one load and is not thread safe; once it is dropped
+ * the shared strings are referenced by the models alone.
+ */
+public class StringPool {
+
+	private final HashMap<String, String> fStrings = new HashMap<>();
+
+	/**
+	 * Returns a canonical instance equal to the given string.
+	 *
+	 * @param value the string to share, may be <code>null</code>
+	 * @return the pooled instance or <code>null</code> if value is <code>null</code>
+	 */
+	public String share(String value) {
+		if (value == null)
+			return null;
+		String shared = fStrings.putIfAbsent(value, value);
+		return shared == null ? value : shared;
+	}
+
+	/**
+	 * Shares every element of the given array in place.
+	 *
+	 * @param values the strings to share, may be <code>null</code>
+	 * @return the given array
+	 */
+	public String[] share(String[] values) {
+		if (values != null) {
+			for (int i = 0; i < values.length; i++)
+				values[i] = share(values[i]);
+		}
+		return values;
+	}
+
+}
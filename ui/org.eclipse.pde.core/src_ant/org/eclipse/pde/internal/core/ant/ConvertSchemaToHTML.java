@@ -77,12 +77,12 @@ public class ConvertSchemaToHTML extends Task {
 			if (schemaLocation == null || schemaLocation.equals("")) //$NON-NLS-1$
 				continue;
 			Schema schema = null;
-			SAXParserWrapper parser = null;
 			try {
-				parser = new SAXParserWrapper();
 				File schemaFile = new File(model.getInstallLocation(), schemaLocation);
-				XMLDefaultHandler handler = new XMLDefaultHandler();
-				parser.parse(schemaFile, handler);
+				try (SAXParserWrapper parser = new SAXParserWrapper()) {
+					XMLDefaultHandler handler = new XMLDefaultHandler();
+					parser.parse(schemaFile, handler);
+				}
 				URL url = schemaFile.toURL();
 				SchemaDescriptor desc = new SchemaDescriptor(extPoint.getFullId(), url, searchPaths);
 				schema = (Schema) desc.getSchema(false);
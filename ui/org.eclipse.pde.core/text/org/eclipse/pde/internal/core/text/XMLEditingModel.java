@@ -38,10 +38,9 @@ public abstract class XMLEditingModel extends AbstractEditingModel {
 
 	@Override
 	public void load(InputStream source, boolean outOfSync) {
-		try {
+		try (SAXParserWrapper parser = new SAXParserWrapper()) {
 			fLoaded = true;
 			status = new Status(IStatus.OK, PDECore.PLUGIN_ID, null);
-			SAXParserWrapper parser = new SAXParserWrapper();
 			parser.parse(source, createDocumentHandler(this, true));
 		} catch (SAXException e) {
 			fLoaded = false;
@@ -64,8 +63,7 @@ public abstract class XMLEditingModel extends AbstractEditingModel {
 
 	@Override
 	public void adjustOffsets(IDocument document) {
-		try {
-			SAXParserWrapper parser = new SAXParserWrapper();
+		try (SAXParserWrapper parser = new SAXParserWrapper()) {
 			parser.parse(getInputStream(document), createDocumentHandler(this, false));
 		} catch (SAXException e) {
 		} catch (IOException e) {
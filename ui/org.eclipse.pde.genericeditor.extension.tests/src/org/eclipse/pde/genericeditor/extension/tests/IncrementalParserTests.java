@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.ITargetConstants;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
+import org.junit.Test;
+
+public class IncrementalParserTests {
+
+	private static final String TARGET = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n"
+			+ "<target name=\"test\">\n"
+			+ "<!-- <unit id=\"commented\" version=\"0.0.0\"/> -->\n"
+			+ "<locations>\n"
+			+ "<location type=\"InstallableUnit\">\n"
+			+ "<repository location=\"http://first\"/>\n"
+			+ "<unit id=\"a\" version=\"1.0.0\"/>\n"
+			+ "<unit id=\"b\" version=\"1.0.0\"/>\n"
+			+ "</location>\n"
+			+ "<location type=\"InstallableUnit\">\n"
+			+ "<repository location=\"http://second\"/>\n"
+			+ "<unit id=\"c\" version=\"1.0.0\"/>\n"
+			+ "</location>\n"
+			+ "</locations>\n"
+			+ "</target>\n";
+
+	@Test
+	public void testEditInsideLocation() throws Exception {
+		Parser parser = new Parser();
+		IDocument document = new Document(TARGET);
+		Node before = parser.parse(document);
+
+		int offset = TARGET.indexOf("<unit id=\"b\"");
+		document.replace(offset, 0, "<unit id=\"new\" version=\"2.0.0\"/>\n");
+		Node after = parser.parse(document);
+
+		assertNotSame(before, after);
+		assertSame(after, parser.getRootNode(document));
+		assertEquals(3, getLocations(after).get(0).getChildNodesByTag(ITargetConstants.UNIT_TAG).size());
+		assertSameModel(parseFully(document), after);
+	}
+
+	@Test
+	public void testEditKeepsPreviousModel() throws Exception {
+		Parser parser = new Parser();
+		IDocument document = new Document(TARGET);
+		Node before = parser.parse(document);
+
+		document.replace(TARGET.indexOf("<unit id=\"a\""), 0, "<unit id=\"new\" version=\"2.0.0\"/>\n");
+		parser.parse(document);
+
+		assertSameModel(parseFully(new Document(TARGET)), before);
+	}
+
+	@Test
+	public void testEditOutsideLocation() throws Exception {
+		Parser parser = new Parser();
+		IDocument document = new Document(TARGET);
+		parser.parse(document);
+
+		document.replace(TARGET.indexOf("</locations>"), 0, "<location type=\"Directory\" path=\"/tmp\"/>\n");
+		Node target = parser.parse(document);
+		assertEquals(3, getLocations(target).size());
+		assertSameModel(parseFully(document), target);
+	}
+
+	@Test
+	public void testBrokenEditReportsError() throws Exception {
+		Parser parser = new Parser();
+		IDocument document = new Document(TARGET);
+		parser.parse(document);
+
+		int offset = TARGET.indexOf("</location>");
+		document.replace(offset, "</location>".length(), "");
+		try {
+			parser.parse(document);
+			fail("Document without closing location tag was accepted");
+		} catch (XMLStreamException e) {
+			// expected
+		}
+
+		document.replace(offset, 0, "</location>");
+		assertSameModel(parseFully(document), parser.parse(document));
+	}
+
+	@Test
+	public void testRepeatedEdits() throws Exception {
+		Parser parser = new Parser();
+		IDocument document = new Document(TARGET);
+		parser.parse(document);
+		String[] ids = { "c", "b", "a" };
+		for (String id : ids) {
+			int offset = document.get().indexOf("<unit id=\"" + id + "\" version=\"1.0.0\"/>");
+			document.replace(offset + "<unit id=\"".length() + id.length() + "\" version=\"".length(), 5, "1.2.3");
+			assertSameModel(parseFully(document), parser.parse(document));
+		}
+		for (Node location : getLocations(parser.getRootNode(document))) {
+			for (Node unit : location.getChildNodesByTag(ITargetConstants.UNIT_TAG)) {
+				assertEquals("1.2.3", ((UnitNode) unit).getVersion());
+			}
+		}
+	}
+
+	private static List<Node> getLocations(Node target) {
+		return target.getChildNodesByTag(ITargetConstants.LOCATIONS_TAG).get(0)
+				.getChildNodesByTag(ITargetConstants.LOCATION_TAG);
+	}
+
+	private static Node parseFully(IDocument document) throws XMLStreamException {
+		return new Parser().parse(new Document(document.get()));
+	}
+
+	private static void assertSameModel(Node expected, Node actual) {
+		assertEquals(expected.getNodeTag(), actual.getNodeTag());
+		assertEquals(expected.getOffsetStart(), actual.getOffsetStart());
+		assertEquals(expected.getOffsetEnd(), actual.getOffsetEnd());
+		assertEquals(expected.getClass(), actual.getClass());
+		if (expected instanceof UnitNode) {
+			assertEquals(((UnitNode) expected).getId(), ((UnitNode) actual).getId());
+			assertEquals(((UnitNode) expected).getVersion(), ((UnitNode) actual).getVersion());
+		} else if (expected instanceof LocationNode) {
+			assertEquals(((LocationNode) expected).getRepositoryLocation(),
+					((LocationNode) actual).getRepositoryLocation());
+		}
+		List<Node> expectedChildren = expected.getChildNodes();
+		List<Node> actualChildren = actual.getChildNodes();
+		assertEquals(expectedChildren == null, actualChildren == null);
+		if (expectedChildren != null) {
+			assertEquals(expectedChildren.size(), actualChildren.size());
+			for (int i = 0; i < expectedChildren.size(); i++) {
+				assertSame(actual, actualChildren.get(i).getParentNode());
+				assertSameModel(expectedChildren.get(i), actualChildren.get(i));
+			}
+		}
+	}
+}
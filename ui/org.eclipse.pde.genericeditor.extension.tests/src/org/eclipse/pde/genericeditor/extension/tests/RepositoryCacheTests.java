@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.FrameworkUtil;
+
+public class RepositoryCacheTests {
+
+	private File directory;
+	private String repository;
+
+	@Before
+	public void setUp() throws Exception {
+		directory = Files.createTempDirectory("repositoryCache").toFile();
+		repository = FrameworkUtil.getBundle(getClass())
+				.getEntry("testing-files/testing-sites/MultipleUnitsConfirmSorting/").toString();
+	}
+
+	@After
+	public void tearDown() {
+		new RepositoryCache(directory).flush();
+		directory.delete();
+	}
+
+	@Test
+	public void testPrefixLookup() {
+		RepositoryCache cache = new RepositoryCache(directory);
+		List<UnitNode> units = cache.getUnitsByPrefix(repository, "org.eclipse.fake.");
+		assertEquals(7, units.size());
+		assertEquals("org.eclipse.fake.1", units.get(0).getId());
+
+		units = cache.getUnitsByPrefix(repository, "org.eclipse.fake.6");
+		assertEquals(1, units.size());
+		assertEquals("1.10.0", units.get(0).getVersion());
+		assertEquals(2, units.get(0).getAvailableVersions().size());
+
+		assertTrue(cache.getUnitsByPrefix(repository, "org.eclipse.other").isEmpty());
+		assertTrue(cache.getUnitsByPrefix(repository, "org.eclipse.fake.8").isEmpty());
+	}
+
+	@Test
+	public void testPersistedIndex() {
+		assertFalse(new RepositoryCache(directory).isUpToDate(repository));
+		new RepositoryCache(directory).fetchP2UnitsFromRepo(repository, false);
+
+		RepositoryCache cache = new RepositoryCache(directory);
+		assertTrue(cache.isUpToDate(repository));
+		List<UnitNode> units = cache.getUnitsByPrefix(repository, "org.eclipse.fake.4");
+		assertEquals(1, units.size());
+		assertEquals("1.1.1.v2018-01-02", units.get(0).getVersion());
+		assertTrue(units.get(0).getAvailableVersions().contains("1.1.1.v2018-01-01"));
+
+		cache.flush();
+		assertFalse(new RepositoryCache(directory).isUpToDate(repository));
+	}
+
+	@Test
+	public void testReturnedListsAreCopies() {
+		RepositoryCache cache = new RepositoryCache(directory);
+		List<UnitNode> units = cache.fetchP2UnitsFromRepo(repository, false);
+		units.clear();
+		assertEquals(7, cache.fetchP2UnitsFromRepo(repository, false).size());
+	}
+
+	@Test
+	public void testCachedVersionsUnmodifiable() {
+		RepositoryCache cache = new RepositoryCache(directory);
+		assertUnmodifiable(cache.getUnitsByPrefix(repository, "org.eclipse.fake.6").get(0).getAvailableVersions());
+
+		// also for an index read from disk
+		List<String> versions = new RepositoryCache(directory).getUnitsByPrefix(repository, "org.eclipse.fake.6").get(0)
+				.getAvailableVersions();
+		assertEquals(2, versions.size());
+		assertUnmodifiable(versions);
+	}
+
+	private static void assertUnmodifiable(List<String> versions) {
+		try {
+			versions.add("2.0.0");
+			fail("cached versions must not be modified");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+	}
+}
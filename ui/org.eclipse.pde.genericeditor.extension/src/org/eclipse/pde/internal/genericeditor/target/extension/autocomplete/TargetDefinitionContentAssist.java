@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2018 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,7 @@ import org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.proc
 import org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.processors.AttributeValueCompletionProcessor;
 import org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.processors.TagCompletionProcessor;
 import org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.processors.TagValueCompletionProcessor;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
 
 /**
@@ -92,10 +93,12 @@ public class TargetDefinitionContentAssist implements IContentAssistProcessor {
 	public ICompletionProposal[] computeCompletionProposals(ITextViewer viewer, int offset) {
 		IDocument document = viewer.getDocument();
 		String text = document.get();
+		Node rootNode;
 		try {
-			Parser.getDefault().parse(document);
+			rootNode = Parser.getDefault().parse(document);
 		} catch (XMLStreamException e) {
 			// TODO handle parsing errors
+			rootNode = Parser.getDefault().getRootNode(document);
 		}
 
 		int completionType = detectCompletionType(document, text, offset);
@@ -104,7 +107,7 @@ public class TargetDefinitionContentAssist implements IContentAssistProcessor {
 		}
 
 		if (completionType == COMPLETION_TYPE_TAG) {
-			TagCompletionProcessor processor = new TagCompletionProcessor(searchTerm, acKey, offset);
+			TagCompletionProcessor processor = new TagCompletionProcessor(searchTerm, acKey, offset, rootNode);
 			return processor.getCompletionProposals();
 		}
 
@@ -116,7 +119,7 @@ public class TargetDefinitionContentAssist implements IContentAssistProcessor {
 
 		if (completionType == COMPLETION_TYPE_ATTRIBUTE_VALUE) {
 			AttributeValueCompletionProcessor processor = new AttributeValueCompletionProcessor(searchTerm, acKey,
-					offset);
+					offset, rootNode);
 			return processor.getCompletionProposals();
 		}
 
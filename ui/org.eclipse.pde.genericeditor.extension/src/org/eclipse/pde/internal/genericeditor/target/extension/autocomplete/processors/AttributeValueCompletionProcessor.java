@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Red Hat Inc. and others
+ * Copyright (c) 2018, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,7 +29,6 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNod
 import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
-import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
 import org.osgi.framework.Version;
 
 /**
@@ -42,17 +41,17 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 	private String searchTerm;
 	private String acKey;
 	private int offset;
+	private Node rootNode;
 
-	public AttributeValueCompletionProcessor(String searchTerm, String acKey, int offset) {
+	public AttributeValueCompletionProcessor(String searchTerm, String acKey, int offset, Node rootNode) {
 		this.searchTerm = searchTerm;
 		this.acKey = acKey;
 		this.offset = offset;
+		this.rootNode = rootNode;
 	}
 
 	@Override
 	public ICompletionProposal[] getCompletionProposals() {
-		Parser parser = Parser.getDefault();
-		Node rootNode = parser.getRootNode();
 		if (rootNode == null)
 			return new ICompletionProposal[] {};
 		List<Node> locationsNode = rootNode.getChildNodesByTag(ITargetConstants.LOCATIONS_TAG);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2018 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,7 +29,6 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.ITargetCons
 import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
-import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
 
 /**
  * Class that computes autocompletions for tags. Example: <pre> &ltun^ </pre>
@@ -60,18 +59,19 @@ public class TagCompletionProcessor extends DelegateProcessor {
 
 	private String searchTerm;
 	private int offset;
+	private Node rootNode;
 
-	public TagCompletionProcessor(String searchTerm, String acKey, int offset) {
+	public TagCompletionProcessor(String searchTerm, String acKey, int offset, Node rootNode) {
 		this.searchTerm = searchTerm;
 		this.offset = offset;
+		this.rootNode = rootNode;
 	}
 
 	@Override
 	public ICompletionProposal[] getCompletionProposals() {
 		List<ICompletionProposal> proposals = new ArrayList<>();
 		String[] tags = null;
-		Parser parser = Parser.getDefault();
-		Node node = parser.getRootNode();
+		Node node = rootNode;
 		List<Node> children = new ArrayList<>();
 		if (node == null) {
 			tags = tagChildren.get(null);
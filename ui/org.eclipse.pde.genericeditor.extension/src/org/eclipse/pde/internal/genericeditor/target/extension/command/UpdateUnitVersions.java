@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Red Hat Inc. and others
+ * Copyright (c) 2018, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.command;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -54,13 +55,12 @@ public class UpdateUnitVersions extends AbstractHandler {
 				return null;
 			}
 
-			Parser parser = Parser.getDefault();
+			Node rootNode;
 			try {
-				parser.parse(document);
+				rootNode = Parser.getDefault().parse(document);
 			} catch (XMLStreamException e) {
 				return null;
 			}
-			Node rootNode = parser.getRootNode();
 			if (rootNode == null)
 				return null;
 			List<Node> locationsNode = rootNode.getChildNodesByTag(ITargetConstants.LOCATIONS_TAG);
@@ -97,6 +97,8 @@ public class UpdateUnitVersions extends AbstractHandler {
 					if (versions == null || versions.isEmpty()) {
 						continue;
 					}
+					// the cached versions are shared, sort a copy
+					versions = new ArrayList<>(versions);
 					Collections.sort(versions, (v1, v2) -> (new Version(v2)).compareTo(new Version(v1)));
 					String version = versions.get(0);
 					if (version == null || version.isEmpty() || unitNode.getVersion() == null
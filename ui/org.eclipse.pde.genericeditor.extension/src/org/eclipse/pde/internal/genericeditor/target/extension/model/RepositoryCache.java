@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,33 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.model;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.genericeditor.target.extension.p2.Messages;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * This class is used to cache the p2 repositories completion information order
@@ -28,24 +49,84 @@ import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
  *
  * There will be only one cache shared between editors. In the future a function
  * will be added for the user to be able to flush this cache.
+ *
+ * The units of a repository are kept sorted by id so that prefix lookups do
+ * not scan the whole repository. Only the most recently used repositories are
+ * kept in memory; all indexes are also stored in the state location of this
+ * plug-in, so that completion is instant after a restart. An index read from
+ * disk that is older than a day is refreshed in the background.
+ *
+ * The cached units are shared between callers and with the background
+ * refresh; their lists of available versions are unmodifiable.
  */
 public class RepositoryCache {
 
+	private static final int MAX_CACHED_REPOSITORIES = 8;
+
+	private static final long REFRESH_INTERVAL = TimeUnit.DAYS.toMillis(1);
+
+	private static final int INDEX_MAGIC = 0x50324958; // "P2IX"
+
+	private static final int INDEX_VERSION = 1;
+
+	private static final String INDEX_EXTENSION = ".idx"; //$NON-NLS-1$
+
+	private static final Comparator<UnitNode> ID_ORDER = (node1, node2) -> node1.getId().compareTo(node2.getId());
+
 	private static RepositoryCache instance;
 
-	Map<String, List<UnitNode>> cache = new HashMap<>();
+	private final File directory;
+
+	private final Map<String, RepositoryIndex> cache = new LinkedHashMap<String, RepositoryIndex>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
 
-	private RepositoryCache() {
-		//avoid instantiation
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, RepositoryIndex> eldest) {
+			return size() > MAX_CACHED_REPOSITORIES;
+		}
+	};
+
+	private final Set<String> refreshing = new HashSet<>();
+
+	/**
+	 * The units of one repository, sorted by id.
+	 */
+	private static final class RepositoryIndex {
+		final UnitNode[] units;
+		final long timestamp;
+
+		RepositoryIndex(UnitNode[] units, long timestamp) {
+			this.units = units;
+			this.timestamp = timestamp;
+		}
+	}
+
+	/**
+	 * Creates a cache that stores the repository indexes in the given
+	 * directory.
+	 *
+	 * @param directory
+	 *            directory for the indexes, or <code>null</code> to keep them
+	 *            in memory only
+	 */
+	public RepositoryCache(File directory) {
+		this.directory = directory;
 	}
 
 	/**
 	 * @return default instance of this cache.
 	 */
 
-	public static RepositoryCache getDefault() {
+	public static synchronized RepositoryCache getDefault() {
 		if (instance == null) {
-			instance = new RepositoryCache();
+			File directory = null;
+			try {
+				directory = Platform.getStateLocation(FrameworkUtil.getBundle(RepositoryCache.class))
+						.append("repositories").toFile(); //$NON-NLS-1$
+			} catch (IllegalStateException e) {
+				// no instance location, keep the indexes in memory only
+			}
+			instance = new RepositoryCache(directory);
 		}
 		return instance;
 	}
@@ -61,11 +142,11 @@ public class RepositoryCache {
 	 *         <code>null</code>.
 	 */
 	public List<UnitNode> fetchP2UnitsFromRepo(String repo, boolean flush) {
-		if ((flush) || (cache.get(repo) == null)) {
-			List<UnitNode> units = P2Fetcher.fetchAvailableUnits(repo);
-			cache.put(repo, units);
+		RepositoryIndex index = flush ? null : getIndex(repo);
+		if (index == null) {
+			index = fetch(repo);
 		}
-		return cache.get(repo);
+		return new ArrayList<>(Arrays.asList(index.units));
 	}
 
 	/**
@@ -86,13 +167,26 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id starts with 'prefix'
 	 */
 	public List<UnitNode> getUnitsByPrefix(String repo, String prefix) {
-		List<UnitNode> allUnits = fetchP2UnitsFromRepo(repo, false);
-		List<UnitNode> result = new ArrayList<>();
-		for (UnitNode unit : allUnits) {
-			if (unit.getId().startsWith(prefix)) {
-				result.add(unit);
+		RepositoryIndex index = getIndex(repo);
+		if (index == null) {
+			index = fetch(repo);
+		}
+		UnitNode[] units = index.units;
+		// binary search for the first id not smaller than the prefix
+		int low = 0;
+		int high = units.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (units[mid].getId().compareTo(prefix) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
 			}
 		}
+		List<UnitNode> result = new ArrayList<>();
+		for (int i = low; i < units.length && units[i].getId().startsWith(prefix); i++) {
+			result.add(units[i]);
+		}
 		return result;
 	}
 
@@ -131,13 +225,151 @@ public class RepositoryCache {
 	 * @return whether the cache is up to date for this repo
 	 */
 	public boolean isUpToDate(String repo) {
-		return cache.get(repo) != null;
+		return getIndex(repo) != null;
 	}
 
 	/**
 	 * Used to flush cache in case P2 repo information is considered stale.
 	 */
 	public void flush() {
-		cache.clear();
+		synchronized (cache) {
+			cache.clear();
+		}
+		File[] files = directory == null ? null : directory.listFiles((dir, name) -> name.endsWith(INDEX_EXTENSION));
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of the repository from memory or disk, or
+	 * <code>null</code> if it has not been fetched yet.
+	 */
+	private RepositoryIndex getIndex(String repo) {
+		RepositoryIndex index;
+		synchronized (cache) {
+			index = cache.get(repo);
+		}
+		if (index != null) {
+			return index;
+		}
+		index = readIndex(repo);
+		if (index != null) {
+			synchronized (cache) {
+				cache.put(repo, index);
+			}
+			if (System.currentTimeMillis() - index.timestamp > REFRESH_INTERVAL) {
+				scheduleRefresh(repo);
+			}
+		}
+		return index;
+	}
+
+	private RepositoryIndex fetch(String repo) {
+		List<UnitNode> units = P2Fetcher.fetchAvailableUnits(repo);
+		UnitNode[] sorted = units.toArray(new UnitNode[units.size()]);
+		Arrays.sort(sorted, ID_ORDER);
+		for (UnitNode unit : sorted) {
+			unit.setAvailableVersions(Collections.unmodifiableList(unit.getAvailableVersions()));
+		}
+		RepositoryIndex index = new RepositoryIndex(sorted, System.currentTimeMillis());
+		synchronized (cache) {
+			cache.put(repo, index);
+		}
+		// an empty repository is most likely a failed fetch, don't persist it
+		if (sorted.length > 0) {
+			writeIndex(repo, index);
+		}
+		return index;
+	}
+
+	private void scheduleRefresh(String repo) {
+		synchronized (refreshing) {
+			if (!refreshing.add(repo)) {
+				return;
+			}
+		}
+		Job job = Job.create(Messages.UpdateJob_P2DataFetch + repo, monitor -> {
+			try {
+				fetch(repo);
+			} finally {
+				synchronized (refreshing) {
+					refreshing.remove(repo);
+				}
+			}
+			return Status.OK_STATUS;
+		});
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	private File getIndexFile(String repo) {
+		if (directory == null) {
+			return null;
+		}
+		return new File(directory, Integer.toHexString(repo.hashCode()) + INDEX_EXTENSION);
+	}
+
+	private RepositoryIndex readIndex(String repo) {
+		File file = getIndexFile(repo);
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION || !repo.equals(in.readUTF())) {
+				// other format or another repository with the same hash
+				return null;
+			}
+			long timestamp = in.readLong();
+			UnitNode[] units = new UnitNode[in.readInt()];
+			for (int i = 0; i < units.length; i++) {
+				UnitNode unit = new UnitNode();
+				unit.setId(in.readUTF());
+				unit.setVersion(in.readUTF());
+				int versionCount = in.readInt();
+				List<String> versions = new ArrayList<>(versionCount);
+				for (int j = 0; j < versionCount; j++) {
+					versions.add(in.readUTF());
+				}
+				unit.setAvailableVersions(Collections.unmodifiableList(versions));
+				units[i] = unit;
+			}
+			return new RepositoryIndex(units, timestamp);
+		} catch (IOException e) {
+			// corrupt or truncated index, fetch again
+			return null;
+		}
+	}
+
+	private void writeIndex(String repo, RepositoryIndex index) {
+		File file = getIndexFile(repo);
+		if (file == null) {
+			return;
+		}
+		try {
+			directory.mkdirs();
+			File temp = File.createTempFile("repository", ".tmp", directory); //$NON-NLS-1$ //$NON-NLS-2$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(INDEX_MAGIC);
+				out.writeInt(INDEX_VERSION);
+				out.writeUTF(repo);
+				out.writeLong(index.timestamp);
+				out.writeInt(index.units.length);
+				for (UnitNode unit : index.units) {
+					out.writeUTF(unit.getId());
+					out.writeUTF(unit.getVersion() == null ? "" : unit.getVersion()); //$NON-NLS-1$
+					List<String> versions = unit.getAvailableVersions();
+					out.writeInt(versions.size());
+					for (String version : versions) {
+						out.writeUTF(version == null ? "" : version); //$NON-NLS-1$
+					}
+				}
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			// keep the index in memory only
+		}
 	}
 }
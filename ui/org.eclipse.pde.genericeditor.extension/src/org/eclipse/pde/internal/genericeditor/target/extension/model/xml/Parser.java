@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,13 @@
 package org.eclipse.pde.internal.genericeditor.target.extension.model.xml;
 
 import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.WeakHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -32,15 +38,105 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
 
 /**
  * Class used to parse the XML code into the model.
+ *
+ * The model of each document is kept between calls. When a document only
+ * changed inside one <code>location</code> element, only that element is
+ * parsed again and a new model is built from it and copies of the other nodes
+ * of the previous model, with the offsets of the nodes that follow it shifted.
+ * Any other change parses the whole document again. A model that was returned
+ * is never changed afterwards, so it can be read while the document is parsed
+ * again.
  */
 public class Parser {
 
+	private static final Pattern TAG_PATTERN = Pattern.compile("(?<tag><[\\w|/][^<]+?>)", Pattern.DOTALL); //$NON-NLS-1$
+	private static final Pattern COMMENT_PATTERN = Pattern.compile("(<!--.*?-->)", Pattern.DOTALL); //$NON-NLS-1$
+
 	private static Parser instance;
 
-	private Node target;
+	private volatile Node target;
 
 	private XMLInputFactory inputFactory;
 
+	/**
+	 * The last parsed text and model of the open documents.
+	 */
+	private final Map<IDocument, DocumentModel> models = new WeakHashMap<>();
+
+	private static final class DocumentModel {
+		final String text;
+		final Node target;
+		final XMLStreamException error;
+
+		DocumentModel(String text, Node target, XMLStreamException error) {
+			this.text = text;
+			this.target = target;
+			this.error = error;
+		}
+	}
+
+	/**
+	 * Builds the nodes of a part of a document.
+	 */
+	private static final class TreeBuilder {
+		final List<Node> roots = new ArrayList<>();
+		Node target;
+
+		void build(String text, int baseOffset) {
+			Node currentParent = null;
+			Node currentNode = null;
+			Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(text, baseOffset);
+			while (tagReaderIterator.hasNext()) {
+				XMLElement event = tagReaderIterator.next();
+				if (event.isStartElement()) {
+					String name = event.getName();
+					if (ITargetConstants.UNIT_TAG.equalsIgnoreCase(name)) {
+						UnitNode unit = new UnitNode();
+						String unitValue = event.getAttributeValueByKey(ITargetConstants.UNIT_ID_ATTR);
+						if (unitValue != null) {
+							unit.setId(unitValue);
+						}
+						String versionValue = event.getAttributeValueByKey(ITargetConstants.UNIT_VERSION_ATTR);
+						if (versionValue != null) {
+							unit.setVersion(versionValue);
+						}
+						currentNode = unit;
+					} else if (ITargetConstants.LOCATION_TAG.equalsIgnoreCase(name)) {
+						currentNode = new LocationNode();
+					} else if (ITargetConstants.REPOSITORY_TAG.equalsIgnoreCase(name)) {
+						currentNode = new Node();
+						if (currentParent instanceof LocationNode) {
+							String locationValue = event
+									.getAttributeValueByKey(ITargetConstants.REPOSITORY_LOCATION_ATTR);
+							((LocationNode) currentParent).setRepositoryLocation(locationValue);
+						}
+					} else if (ITargetConstants.TARGET_TAG.equalsIgnoreCase(name)) {
+						target = new Node();
+						currentNode = target;
+					} else {
+						currentNode = new Node();
+					}
+					currentNode.setNodeTag(name);
+					currentNode.setOffsetStart(event.getStartOffset());
+					if (currentParent != null) {
+						currentParent.addChildNode(currentNode);
+					} else {
+						roots.add(currentNode);
+					}
+					currentParent = currentNode;
+				}
+
+				if (event.isEndElement()) {
+					if (currentNode != null) {
+						currentNode.setOffsetEnd(event.getEndOffset());
+						currentNode = currentNode.getParentNode();
+						currentParent = currentNode;
+					}
+				}
+			}
+		}
+	}
+
 	public Parser() {
 		initializeParser();
 	}
@@ -49,101 +145,230 @@ public class Parser {
 		inputFactory = XMLInputFactory.newInstance();
 	}
 
-	public void parse(IDocument document) throws XMLStreamException {
-		target = null;
-		Node currentParent = null;
-		Node currentNode = null;
-		Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(document.get());
-		while (tagReaderIterator.hasNext()) {
-			XMLElement event = tagReaderIterator.next();
-			if (event.isStartElement()) {
-				String name = event.getName();
-				if (ITargetConstants.UNIT_TAG.equalsIgnoreCase(name)) {
-					UnitNode unit = new UnitNode();
-					String unitValue = event.getAttributeValueByKey(ITargetConstants.UNIT_ID_ATTR);
-					if (unitValue != null) {
-						unit.setId(unitValue);
-					}
-					String versionValue = event.getAttributeValueByKey(ITargetConstants.UNIT_VERSION_ATTR);
-					if (versionValue != null) {
-						unit.setVersion(versionValue);
-					}
-					currentNode = unit;
-				} else if (ITargetConstants.LOCATION_TAG.equalsIgnoreCase(name)) {
-					currentNode = new LocationNode();
-				} else if (ITargetConstants.REPOSITORY_TAG.equalsIgnoreCase(name)) {
-					currentNode = new Node();
-					if (currentParent instanceof LocationNode) {
-						String locationValue = event.getAttributeValueByKey(ITargetConstants.REPOSITORY_LOCATION_ATTR);
-						((LocationNode) currentParent).setRepositoryLocation(locationValue);
-					}
-				} else if (ITargetConstants.TARGET_TAG.equalsIgnoreCase(name)) {
-					target = new Node();
-					currentNode = target;
-				} else {
-					currentNode = new Node();
-				}
-				currentNode.setNodeTag(name);
-				currentNode.setOffsetStart(event.getStartOffset());
-				if (currentParent != null) {
-					currentParent.addChildNode(currentNode);
-				}
-				currentParent = currentNode;
+	/**
+	 * Parses a document into its model.
+	 *
+	 * @param document
+	 *            the document to parse
+	 * @return the <code>target</code> node of the document, or
+	 *         <code>null</code> if it has none
+	 * @throws XMLStreamException
+	 *             if the document is not well formed. The model built from
+	 *             the tags that could be read is still available from
+	 *             {@link #getRootNode(IDocument)}.
+	 */
+	public synchronized Node parse(IDocument document) throws XMLStreamException {
+		String text = document.get();
+		DocumentModel model = models.get(document);
+		if (model != null && model.text.equals(text)) {
+			target = model.target;
+			if (model.error != null) {
+				throw model.error;
+			}
+			return model.target;
+		}
+		if (model != null && model.error == null && model.target != null && model.target.getParentNode() == null) {
+			Node newTarget = reparseLocation(model, text);
+			if (newTarget != null) {
+				models.put(document, new DocumentModel(text, newTarget, null));
+				target = newTarget;
+				return newTarget;
 			}
+		}
 
-			if (event.isEndElement()) {
-				if (currentNode != null) {
-					currentNode.setOffsetEnd(event.getEndOffset());
-					currentNode = currentNode.getParentNode();
-					currentParent = currentNode;
+		TreeBuilder builder = new TreeBuilder();
+		builder.build(text, 0);
+		Node newTarget = builder.target;
+		target = newTarget;
+		try {
+			ByteArrayInputStream inputStream = new ByteArrayInputStream(text.getBytes());
+			XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
+			while (eventReader.hasNext()) {
+				eventReader.nextEvent();
+			}
+		} catch (XMLStreamException e) {
+			models.put(document, new DocumentModel(text, newTarget, e));
+			throw e;
+		}
+		models.put(document, new DocumentModel(text, newTarget, null));
+		return newTarget;
+	}
+
+	/**
+	 * Tries to build the model of a document from the model of its previous
+	 * text by parsing only the location element that contains all changes.
+	 *
+	 * @return the new <code>target</code> node, or <code>null</code> if the
+	 *         whole document has to be parsed
+	 */
+	private Node reparseLocation(DocumentModel model, String text) {
+		String oldText = model.text;
+		int maxLength = Math.min(oldText.length(), text.length());
+		int prefix = 0;
+		while (prefix < maxLength && oldText.charAt(prefix) == text.charAt(prefix)) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < maxLength - prefix
+				&& oldText.charAt(oldText.length() - 1 - suffix) == text.charAt(text.length() - 1 - suffix)) {
+			suffix++;
+		}
+		int changeEnd = oldText.length() - suffix;
+		LocationNode location = findLocation(model.target, prefix, changeEnd);
+		if (location == null || location.getParentNode() == null) {
+			return null;
+		}
+		int delta = text.length() - oldText.length();
+		int start = location.getOffsetStart();
+		int oldEnd = location.getOffsetEnd();
+		String fragment = text.substring(start, oldEnd + delta);
+
+		// the new element has to be well formed on its own, otherwise the
+		// whole document is checked to report the error at the right place
+		try {
+			XMLEventReader eventReader = inputFactory.createXMLEventReader(new StringReader(fragment));
+			while (eventReader.hasNext()) {
+				eventReader.nextEvent();
+			}
+		} catch (XMLStreamException e) {
+			return null;
+		}
+		TreeBuilder builder = new TreeBuilder();
+		builder.build(fragment, start);
+		if (builder.target != null || builder.roots.size() != 1
+				|| !(builder.roots.get(0) instanceof LocationNode)) {
+			return null;
+		}
+		Node newLocation = builder.roots.get(0);
+		if (newLocation.getOffsetStart() != start || newLocation.getOffsetEnd() != oldEnd + delta) {
+			return null;
+		}
+		return copy(model.target, null, location, newLocation, oldEnd, delta);
+	}
+
+	/**
+	 * Returns the location element that contains the given range, or
+	 * <code>null</code> if there is none.
+	 */
+	private static LocationNode findLocation(Node node, int start, int end) {
+		if (node.getOffsetStart() > start || node.getOffsetEnd() < end) {
+			return null;
+		}
+		if (node instanceof LocationNode) {
+			return (LocationNode) node;
+		}
+		List<Node> children = node.getChildNodes();
+		if (children != null) {
+			for (Node child : children) {
+				LocationNode location = findLocation(child, start, end);
+				if (location != null) {
+					return location;
 				}
 			}
 		}
-		ByteArrayInputStream inputStream = new ByteArrayInputStream(document.get().getBytes());
-		XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
-		while (eventReader.hasNext()) {
-			eventReader.nextEvent();
+		return null;
+	}
+
+	/**
+	 * Copies a node of the previous model into the new model. The replaced
+	 * location is swapped for the new one and the offsets from the old end of
+	 * the replaced location on are moved by <code>delta</code>. The nodes of
+	 * the previous model are not changed, and each copy only links to copies,
+	 * so the parent of every node is in the same model.
+	 */
+	private static Node copy(Node node, Node parent, Node replaced, Node replacement, int oldEnd, int delta) {
+		Node copy;
+		if (node == replaced) {
+			copy = replacement;
+		} else {
+			if (node instanceof UnitNode) {
+				UnitNode unit = new UnitNode();
+				unit.setId(((UnitNode) node).getId());
+				unit.setVersion(((UnitNode) node).getVersion());
+				unit.setAvailableVersions(new ArrayList<>(((UnitNode) node).getAvailableVersions()));
+				copy = unit;
+			} else if (node instanceof LocationNode) {
+				LocationNode location = new LocationNode();
+				location.setRepositoryLocation(((LocationNode) node).getRepositoryLocation());
+				copy = location;
+			} else {
+				copy = new Node();
+			}
+			copy.setNodeTag(node.getNodeTag());
+			int start = node.getOffsetStart();
+			int end = node.getOffsetEnd();
+			copy.setOffsetStart(start >= oldEnd ? start + delta : start);
+			copy.setOffsetEnd(end >= oldEnd ? end + delta : end);
+		}
+		if (parent != null) {
+			parent.addChildNode(copy);
 		}
+		List<Node> children = node.getChildNodes();
+		if (node != replaced && children != null) {
+			for (Node child : children) {
+				copy(child, copy, replaced, replacement, oldEnd, delta);
+			}
+		}
+		return copy;
 	}
 
-	private Iterator<XMLElement> createXMLTagItterator(String document) {
+	private static Iterator<XMLElement> createXMLTagItterator(String document, int baseOffset) {
 		return new Iterator<XMLElement>() {
-			private String tagRegex = "(?<tag><[\\w|/][^<]+?>)";
-			private String commentRegex = "(<!--.*?-->)";
-			private String beforeTagRegex = ".*?(?=".concat(tagRegex).concat(")");
-
-			private String text = document;
+			private Matcher tag = TAG_PATTERN.matcher(document);
+			private Matcher comment = COMMENT_PATTERN.matcher(document);
 
-			private Pattern tagPattern = Pattern.compile(tagRegex, Pattern.DOTALL);
-			private Pattern commentPattern = Pattern.compile(commentRegex, Pattern.DOTALL);
-			private Pattern beforeTagPattern = Pattern.compile(beforeTagRegex, Pattern.DOTALL);
+			private int position = 0;
+			private int commentStart = -1;
+			private int commentEnd = -1;
+			private boolean hasTag;
 
 			@Override
 			public boolean hasNext() {
-				skipComments();
-				return text.length() > 0 && beforeTagPattern.matcher(text).find();
+				findNextTag();
+				return hasTag;
 			}
 
 			@Override
 			public XMLElement next() {
-				skipComments();
-				text = beforeTagPattern.matcher(text).replaceFirst("");
-				Matcher tag = tagPattern.matcher(text);
-				tag.find();
-				int offset = document.length() - text.length();
-				text = text.substring(tag.end());
-				return new XMLElement(tag.group("tag"), offset);
+				findNextTag();
+				if (!hasTag) {
+					throw new NoSuchElementException();
+				}
+				position = tag.end();
+				XMLElement element = new XMLElement(tag.group("tag"), baseOffset + tag.start()); //$NON-NLS-1$
+				hasTag = false;
+				return element;
 			}
 
-			private void skipComments() {
-				Matcher comment = commentPattern.matcher(text);
-				Matcher tag = tagPattern.matcher(text);
-				if (comment.find() && tag.find() && comment.start() < tag.start()) {
-					text = text.substring(comment.end());
+			/**
+			 * Finds the next tag after the current position that is not inside
+			 * a comment. The document is matched in place rather than cut into
+			 * substrings, so that large documents are read only once.
+			 */
+			private void findNextTag() {
+				while (!hasTag && position < document.length()) {
+					if (!tag.find(position)) {
+						position = document.length();
+						return;
+					}
+					if (commentStart != Integer.MAX_VALUE && commentStart < position) {
+						if (comment.find(position)) {
+							commentStart = comment.start();
+							commentEnd = comment.end();
+						} else {
+							commentStart = Integer.MAX_VALUE;
+						}
+					}
+					if (commentStart < tag.start()) {
+						position = commentEnd;
+					} else {
+						hasTag = true;
+					}
 				}
 			}
 		};
 	}
+
 	public static Parser getDefault() {
 		if (instance == null) {
 			instance = new Parser();
@@ -151,8 +376,25 @@ public class Parser {
 		return instance;
 	}
 
+	/**
+	 * Returns the model of the last document parsed by this parser, which may
+	 * have been parsed by another thread. Prefer the result of
+	 * {@link #parse(IDocument)} or {@link #getRootNode(IDocument)}.
+	 */
 	public Node getRootNode() {
 		return target;
 	}
 
+	/**
+	 * Returns the model of the last parse of a document, also if the document
+	 * was not well formed.
+	 *
+	 * @return the <code>target</code> node of the document, or
+	 *         <code>null</code> if it was not parsed or has none
+	 */
+	public synchronized Node getRootNode(IDocument document) {
+		DocumentModel model = models.get(document);
+		return model == null ? null : model.target;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Red Hat Inc. and others
+ * Copyright (c) 2017, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,15 +26,18 @@ public class XMLElement {
 	private boolean isEndElement;
 	private boolean isStartElement;
 
-	private Pattern startElementNamePattern = Pattern.compile("<\\s*(?<name>\\w*).*", Pattern.DOTALL); //$NON-NLS-1$
-	private Pattern endElementNamePattern = Pattern.compile("</\\s*(?<name>\\w*).*", Pattern.DOTALL); //$NON-NLS-1$
-	private Pattern attributePattern = Pattern.compile("((?<key>\\w*)\\s*=\\s*\"(?<value>.*?)\")", Pattern.DOTALL);//$NON-NLS-1$
+	private static final Pattern startElementNamePattern = Pattern.compile("<\\s*(?<name>\\w*).*", Pattern.DOTALL); //$NON-NLS-1$
+	private static final Pattern endElementNamePattern = Pattern.compile("</\\s*(?<name>\\w*).*", Pattern.DOTALL); //$NON-NLS-1$
+	private static final Pattern attributePattern = Pattern.compile("((?<key>\\w*)\\s*=\\s*\"(?<value>.*?)\")", //$NON-NLS-1$
+			Pattern.DOTALL);
+	private static final Pattern endElementPattern = Pattern.compile("</(.|\n)*|(.|\n)*/>(.|\n)*"); //$NON-NLS-1$
+	private static final Pattern startElementPattern = Pattern.compile("<[^/](.|\n)*"); //$NON-NLS-1$
 
 	public XMLElement(String element, int offset) {
 		this.element = element;
 		this.offset = offset;
-		this.isEndElement = element.matches("</(.|\n)*|(.|\n)*/>(.|\n)*"); //$NON-NLS-1$
-		this.isStartElement = element.matches("<[^/](.|\n)*"); //$NON-NLS-1$
+		this.isEndElement = endElementPattern.matcher(element).matches();
+		this.isStartElement = startElementPattern.matcher(element).matches();
 
 		Pattern namePattern;
 		if (isStartElement()) {
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.junit.runtime;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the class and resource lookups done by the test class loaders of
+ * this plug-in and the time spent in them. Collection is enabled by starting
+ * the test runtime with <code>-Dpde.junit.classLoadingStats=true</code>; the
+ * totals are printed to the standard error stream, and therefore to the
+ * launch console, once the tests have run.
+ */
+class ClassLoadingStatistics {
+
+	static final boolean ENABLED = "true".equals(System.getProperty("pde.junit.classLoadingStats")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final AtomicLong fLookups = new AtomicLong();
+	private static final AtomicLong fCacheHits = new AtomicLong();
+	private static final AtomicLong fNanos = new AtomicLong();
+
+	private ClassLoadingStatistics() {
+	}
+
+	/**
+	 * Records one lookup.
+	 *
+	 * @param start the value of {@link System#nanoTime()} when the lookup started
+	 * @param cacheHit whether the lookup was answered from a cache
+	 */
+	static void record(long start, boolean cacheHit) {
+		fLookups.incrementAndGet();
+		if (cacheHit)
+			fCacheHits.incrementAndGet();
+		fNanos.addAndGet(System.nanoTime() - start);
+	}
+
+	static void report(PrintStream out) {
+		if (!ENABLED)
+			return;
+		out.println("PDE JUnit class loading: " + fLookups.get() + " lookups, " + fCacheHits.get() + " cache hits, " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ TimeUnit.NANOSECONDS.toMillis(fNanos.get()) + " ms"); //$NON-NLS-1$
+	}
+
+}
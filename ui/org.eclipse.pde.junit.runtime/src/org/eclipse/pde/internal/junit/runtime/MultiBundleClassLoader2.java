@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018 IBM Corporation and others.
+ *  Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,25 @@ package org.eclipse.pde.internal.junit.runtime;
 import java.io.IOException;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import org.osgi.framework.Bundle;
 
+/**
+ * Loads classes and resources from a list of bundles, the first bundle that
+ * provides a class or resource wins.
+ * <p>
+ * Classes returned by the bundles are not defined by this loader, so the VM
+ * does not remember them for it. The outcome of each class lookup, including
+ * lookups that no bundle could answer, is therefore cached for the lifetime of
+ * the loader, which is one test run.
+ * </p>
+ */
 class MultiBundleClassLoader2 extends ClassLoader {
+	private static final Class<?> NOT_FOUND = Void.class;
+
 	private List<Bundle> bundleList;
+	private final Map<String, Class<?>> fClasses = new ConcurrentHashMap<>();
+	private final Map<String, URL> fResources = new ConcurrentHashMap<>();
 
 	public MultiBundleClassLoader2(List<Bundle> platformEngineBundles) {
 		this.bundleList = platformEngineBundles;
@@ -28,47 +43,55 @@ class MultiBundleClassLoader2 extends ClassLoader {
 
 	@Override
 	protected Class<?> findClass(String name) throws ClassNotFoundException {
-		Class<?> c = null;
+		long start = ClassLoadingStatistics.ENABLED ? System.nanoTime() : 0;
+		Class<?> c = fClasses.get(name);
+		if (c != null) {
+			if (ClassLoadingStatistics.ENABLED)
+				ClassLoadingStatistics.record(start, true);
+			return c == NOT_FOUND ? null : c;
+		}
 		for (Bundle temp : bundleList) {
 			try {
 				c = temp.loadClass(name);
 				if (c != null)
-					return c;
+					break;
 			} catch (ClassNotFoundException e) {
 			}
 		}
+		fClasses.put(name, c == null ? NOT_FOUND : c);
+		if (ClassLoadingStatistics.ENABLED)
+			ClassLoadingStatistics.record(start, false);
 		return c;
 	}
 
 	@Override
 	protected URL findResource(String name) {
-		URL url = null;
+		URL url = fResources.get(name);
+		if (url != null)
+			return url;
 		for (Bundle temp : bundleList) {
 			url = temp.getResource(name);
-			if (url != null)
+			if (url != null) {
+				fResources.put(name, url);
 				return url;
+			}
 		}
 		return url;
 	}
 
 	@Override
 	protected Enumeration<URL> findResources(String name) throws IOException {
-		Enumeration<URL> enumFinal = null;
-		for (int i = 0; i < bundleList.size(); i++) {
-			if (i == 0) {
-				enumFinal = bundleList.get(i).getResources(name);
-				continue;
-			}
-			Enumeration<URL> e2 = bundleList.get(i).getResources(name);
-			Vector<URL> temp = new Vector<>();
-			while (enumFinal != null && enumFinal.hasMoreElements()) {
-				temp.add(enumFinal.nextElement());
-			}
-			while (e2 != null && e2.hasMoreElements()) {
-				temp.add(e2.nextElement());
+		if (bundleList.isEmpty())
+			return null;
+		if (bundleList.size() == 1)
+			return bundleList.get(0).getResources(name);
+		List<URL> urls = new ArrayList<>();
+		for (Bundle temp : bundleList) {
+			Enumeration<URL> e = temp.getResources(name);
+			while (e != null && e.hasMoreElements()) {
+				urls.add(e.nextElement());
 			}
-			enumFinal = temp.elements();
 		}
-		return enumFinal;
+		return Collections.enumeration(urls);
 	}
-}
\ No newline at end of file
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2003, 2018 IBM Corporation and others.
+ *  Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -58,6 +58,8 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 
 	static class TestBundleClassLoader extends ClassLoader {
 		protected Bundle bundle;
+		private URI fProjectLocation;
+		private Set<String> fOutputPaths;
 
 		public TestBundleClassLoader(Bundle target) {
 			this.bundle = target;
@@ -80,15 +82,20 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 
 		@Override
 		public Enumeration<URL> getResources(String res) throws IOException {
+			long start = ClassLoadingStatistics.ENABLED ? System.nanoTime() : 0;
+			try {
+				return collectResources(res);
+			} finally {
+				if (ClassLoadingStatistics.ENABLED)
+					ClassLoadingStatistics.record(start, false);
+			}
+		}
+
+		private Enumeration<URL> collectResources(String res) throws IOException {
 			List<URL> resources = new ArrayList<>(6);
-			String location = null;
+			URI uri = getProjectLocation();
 			URL url = null;
-			if (bundle instanceof EquinoxBundle) {
-				location = ((EquinoxBundle) bundle).getLocation();
-			}
-			if (location != null && location.startsWith("reference:")) { //$NON-NLS-1$
-				location = location.substring(10, location.length());
-				URI uri = URI.create(location);
+			if (uri != null) {
 				String newPath = uri.getPath() + "bin" + '/' + res; //$NON-NLS-1$
 				URI newUri = uri.resolve(newPath);
 				url = newUri.normalize().toURL();
@@ -100,7 +107,6 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 				} else {
 					Set<String> outputPaths = getOutputPaths();
 					for (String string : outputPaths) {
-						URI uri = URI.create(location);
 						String newPath = uri.getPath() + string + '/' + res;
 						URI newUri = uri.resolve(newPath);
 						url = newUri.normalize().toURL();
@@ -119,7 +125,34 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 			return Collections.enumeration(resources);
 		}
 
-		private Set<String> getOutputPaths() {
+		/**
+		 * Returns the project location of a bundle installed by reference,
+		 * or <code>null</code> if the bundle was not installed that way.
+		 */
+		private synchronized URI getProjectLocation() {
+			if (fProjectLocation == null) {
+				String location = null;
+				if (bundle instanceof EquinoxBundle) {
+					location = ((EquinoxBundle) bundle).getLocation();
+				}
+				if (location != null && location.startsWith("reference:")) { //$NON-NLS-1$
+					fProjectLocation = URI.create(location.substring(10, location.length()));
+				}
+			}
+			return fProjectLocation;
+		}
+
+		/**
+		 * Returns the output folders declared in the project's .classpath
+		 * file. The file is read once per class loader.
+		 */
+		private synchronized Set<String> getOutputPaths() {
+			if (fOutputPaths == null)
+				fOutputPaths = Collections.unmodifiableSet(readOutputPaths());
+			return fOutputPaths;
+		}
+
+		private Set<String> readOutputPaths() {
 			String location = bundle.getLocation();
 			location = location.substring(16);
 			File cpFile = new File(location + ".classpath"); //$NON-NLS-1$
@@ -154,60 +187,6 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 		}
 	}
 
-	class MultiBundleClassLoader extends ClassLoader {
-		private List<Bundle> bundleList;
-
-		public MultiBundleClassLoader(List<Bundle> platformEngineBundles) {
-			this.bundleList = platformEngineBundles;
-
-		}
-		@Override
-		protected Class<?> findClass(String name) throws ClassNotFoundException {
-			Class<?> c = null;
-			for (Bundle temp : bundleList) {
-				try {
-					c = temp.loadClass(name);
-					if (c != null)
-						return c;
-				} catch (ClassNotFoundException e) {
-				}
-			}
-			return c;
-		}
-
-		@Override
-		protected URL findResource(String name) {
-			URL url = null;
-			for (Bundle temp : bundleList) {
-				url = temp.getResource(name);
-				if (url != null)
-					return url;
-			}
-			return url;
-		}
-
-		@Override
-		protected Enumeration<URL> findResources(String name) throws IOException {
-			Enumeration<URL> enumFinal = null;
-			for (int i = 0; i < bundleList.size(); i++) {
-				if (i == 0) {
-					enumFinal = bundleList.get(i).getResources(name);
-					continue;
-				}
-				Enumeration<URL> e2 = bundleList.get(i).getResources(name);
-				Vector<URL> temp = new Vector<>();
-				while (enumFinal != null && enumFinal.hasMoreElements()) {
-					temp.add(enumFinal.nextElement());
-				}
-				while (e2 != null && e2.hasMoreElements()) {
-					temp.add(e2.nextElement());
-				}
-				enumFinal = temp.elements();
-			}
-			return enumFinal;
-		}
-	}
-
 	/**
 	 * The main entry point. Supported arguments in addition
 	 * to the ones supported by RemoteTestRunner:
@@ -233,6 +212,7 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 		if (isJUnit5(args)) {
 			Thread.currentThread().setContextClassLoader(currentTCCL);
 		}
+		ClassLoadingStatistics.report(System.err);
 	}
 
 	private static ClassLoader getPluginClassLoader2(String getfTestPluginName) {
@@ -332,7 +312,7 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 			Bundle bundle = Platform.getBundle(string);
 			platformEngineBundles.add(bundle);
 		}
-		return new MultiBundleClassLoader(platformEngineBundles);
+		return new MultiBundleClassLoader2(platformEngineBundles);
 	}
 
 	private static boolean runAsJUnit5(String[] args) {
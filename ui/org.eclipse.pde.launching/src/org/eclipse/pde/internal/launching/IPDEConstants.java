@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 EclipseSource Corporation and others.
+ * Copyright (c) 2009, 2026 EclipseSource Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,13 @@ public interface IPDEConstants {
 	 * TODO, move to IPDELauncherConstants in 3.4
 	 */
 	String DOCLEARLOG = "clearwslog"; //$NON-NLS-1$
+	/**
+	 * Launch configuration attribute key. The value is a boolean specifying
+	 * whether a workspace that is cleared prior to launching should be moved
+	 * aside and deleted in the background instead of being deleted before the
+	 * launch continues. Defaults to <code>false</code>.
+	 */
+	String DOCLEAR_IN_BACKGROUND = "clearwsbackground"; //$NON-NLS-1$
 	String LAUNCHER_PDE_VERSION = "pde.version"; //$NON-NLS-1$
 	String APPEND_ARGS_EXPLICITLY = "append.args"; //$NON-NLS-1$
 
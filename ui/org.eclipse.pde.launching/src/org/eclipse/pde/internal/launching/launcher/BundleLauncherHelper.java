@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,6 +67,7 @@ public class BundleLauncherHelper {
 			}
 		}
 
+		BundleModelIndex index = new BundleModelIndex();
 		if (configuration.getAttribute(IPDELauncherConstants.USE_CUSTOM_FEATURES, false)) {
 			// Get the default location settings
 			String defaultLocation = configuration.getAttribute(IPDELauncherConstants.FEATURE_DEFAULT_LOCATION, IPDELauncherConstants.LOCATION_WORKSPACE);
@@ -125,40 +126,31 @@ public class BundleLauncherHelper {
 				}
 
 				for (IFeaturePlugin featurePlugin : featurePlugins) {
-					ModelEntry modelEntry = PluginRegistry.findEntry(featurePlugin.getId());
-					if (modelEntry != null) {
-						IPluginModelBase model = findModel(modelEntry, featurePlugin.getVersion(), pluginResolution);
-						if (model != null)
-							launchPlugins.add(model);
-					}
+					IPluginModelBase model = findModel(index, featurePlugin.getId(), featurePlugin.getVersion(), pluginResolution);
+					if (model != null)
+						launchPlugins.add(model);
 				}
 
 				IFeatureImport[] featureImports = featureModel.getFeature().getImports();
 				for (IFeatureImport featureImport : featureImports) {
 					if (featureImport.getType() == IFeatureImport.PLUGIN) {
-						ModelEntry modelEntry = PluginRegistry.findEntry(featureImport.getId());
-						if (modelEntry != null) {
-							IPluginModelBase model = findModel(modelEntry, featureImport.getVersion(), pluginResolution);
-							if (model != null)
-								launchPlugins.add(model);
-						}
+						IPluginModelBase model = findModel(index, featureImport.getId(), featureImport.getVersion(), pluginResolution);
+						if (model != null)
+							launchPlugins.add(model);
 					}
 				}
 			}
 
-			HashMap<IPluginModelBase, String> additionalPlugins = getAdditionalPlugins(configuration, true);
+			HashMap<IPluginModelBase, String> additionalPlugins = getAdditionalPlugins(configuration, true, index);
 			launchPlugins.addAll(additionalPlugins.keySet());
 
 			// Get any plug-ins required by the application/product set on the config
 			if (!osgi) {
 				String[] applicationIds = RequirementHelper.getApplicationRequirements(configuration);
 				for (String applicationId : applicationIds) {
-					ModelEntry modelEntry = PluginRegistry.findEntry(applicationId);
-					if (modelEntry != null) {
-						IPluginModelBase model = findModel(modelEntry, null, defaultPluginResolution);
-						if (model != null)
-							launchPlugins.add(model);
-					}
+					IPluginModelBase model = findModel(index, applicationId, null, defaultPluginResolution);
+					if (model != null)
+						launchPlugins.add(model);
 				}
 			}
 
@@ -166,27 +158,20 @@ public class BundleLauncherHelper {
 			Set<String> additionalIds = DependencyManager.getDependencies(launchPlugins.toArray(), false, null);
 			Iterator<String> it = additionalIds.iterator();
 			while (it.hasNext()) {
-				String id = it.next();
-				ModelEntry modelEntry = PluginRegistry.findEntry(id);
-				if (modelEntry != null) {
-					IPluginModelBase model = findModel(modelEntry, null, defaultPluginResolution);
-					if (model != null)
-						launchPlugins.add(model);
-				}
+				IPluginModelBase model = findModel(index, it.next(), null, defaultPluginResolution);
+				if (model != null)
+					launchPlugins.add(model);
 			}
 
 			//remove conflicting duplicates - if they have same version or both are singleton
 			HashMap<String, IPluginModelBase> pluginMap = new HashMap<>();
 			Set<IPluginModelBase> pluginSet = new HashSet<>();
-			List<IPluginModelBase> workspaceModels = null;
 			for (IPluginModelBase model : launchPlugins) {
 				String id = model.getPluginBase().getId();
 				if (pluginMap.containsKey(id)) {
 					IPluginModelBase existing = pluginMap.get(id);
 					if (model.getPluginBase().getVersion().equalsIgnoreCase(existing.getPluginBase().getVersion()) || (isSingleton(model) && isSingleton(existing))) {
-						if (workspaceModels == null)
-							workspaceModels = Arrays.asList(PluginRegistry.getWorkspaceModels());
-						if (!workspaceModels.contains(existing)) { //if existing model is external
+						if (!index.isWorkspaceModel(existing)) { //if existing model is external
 							pluginSet.add(model);// launch the workspace model
 							continue;
 						}
@@ -206,29 +191,31 @@ public class BundleLauncherHelper {
 		String workspace = osgi == false ? IPDELauncherConstants.SELECTED_WORKSPACE_PLUGINS : IPDELauncherConstants.WORKSPACE_BUNDLES;
 		String target = osgi == false ? IPDELauncherConstants.SELECTED_TARGET_PLUGINS : IPDELauncherConstants.TARGET_BUNDLES;
 		Set<String> set = new HashSet<>();
-		map = getWorkspaceBundleMap(configuration, set, workspace);
-		map.putAll(getTargetBundleMap(configuration, set, target));
+		map = getWorkspaceBundleMap(configuration, set, workspace, index);
+		map.putAll(getTargetBundleMap(configuration, set, target, index));
 		return map;
 	}
 
 	/**
 	 * Finds the best candidate model from the <code>resolution</code> location. If the model is not found there,
 	 * alternate location is explored before returning <code>null</code>.
-	 * @param modelEntry
+	 * @param index
+	 * @param id
 	 * @param version
 	 * @param location
 	 * @return model
 	 */
-	private static IPluginModelBase findModel(ModelEntry modelEntry, String version, String location) {
+	private static IPluginModelBase findModel(BundleModelIndex index, String id, String version, String location) {
+		Version requiredVersion = index.getVersion(version);
 		IPluginModelBase model = null;
 		if (IPDELauncherConstants.LOCATION_WORKSPACE.equalsIgnoreCase(location)) {
-			model = getBestCandidateModel(modelEntry.getWorkspaceModels(), version);
+			model = getBestCandidateModel(index.getWorkspaceModels(id), requiredVersion);
 		}
 		if (model == null) {
-			model = getBestCandidateModel(modelEntry.getExternalModels(), version);
+			model = getBestCandidateModel(index.getExternalModels(id), requiredVersion);
 		}
 		if (model == null && IPDELauncherConstants.LOCATION_EXTERNAL.equalsIgnoreCase(location)) {
-			model = getBestCandidateModel(modelEntry.getWorkspaceModels(), version);
+			model = getBestCandidateModel(index.getWorkspaceModels(id), requiredVersion);
 		}
 		return model;
 	}
@@ -247,11 +234,10 @@ public class BundleLauncherHelper {
 	 * OSGi state with the highest version is returned.
 	 *
 	 * @param models list of candidate models to choose from
-	 * @param version the bundle version to find a match for
+	 * @param requiredVersion the bundle version to find a match for
 	 * @return best candidate model from the list of models or <code>null</code> if no there were no acceptable models in the list
 	 */
-	private static IPluginModelBase getBestCandidateModel(IPluginModelBase[] models, String version) {
-		Version requiredVersion = version != null ? Version.parseVersion(version) : Version.emptyVersion;
+	private static IPluginModelBase getBestCandidateModel(IPluginModelBase[] models, Version requiredVersion) {
 		IPluginModelBase model = null;
 		for (int i = 0; i < models.length; i++) {
 			if (models[i].getBundleDescription() == null || !models[i].isEnabled())
@@ -299,6 +285,10 @@ public class BundleLauncherHelper {
 	}
 
 	public static Map<IPluginModelBase, String> getWorkspaceBundleMap(ILaunchConfiguration configuration, Set<String> set, String attribute) throws CoreException {
+		return getWorkspaceBundleMap(configuration, set, attribute, new BundleModelIndex());
+	}
+
+	private static Map<IPluginModelBase, String> getWorkspaceBundleMap(ILaunchConfiguration configuration, Set<String> set, String attribute, BundleModelIndex index) throws CoreException {
 		String selected = configuration.getAttribute(attribute, ""); //$NON-NLS-1$
 		Map<IPluginModelBase, String> map = new LinkedHashMap<>();
 		StringTokenizer tok = new StringTokenizer(selected, ","); //$NON-NLS-1$
@@ -315,9 +305,8 @@ public class BundleLauncherHelper {
 			String version = (versionIndex > 0) ? idVersion.substring(versionIndex + 1) : null;
 			if (set != null)
 				set.add(id);
-			ModelEntry entry = PluginRegistry.findEntry(id);
-			if (entry != null) {
-				IPluginModelBase[] models = entry.getWorkspaceModels();
+			IPluginModelBase[] models = index.getWorkspaceModels(id);
+			if (models.length > 0) {
 				Set<String> versions = new HashSet<>();
 				for (IPluginModelBase model : models) {
 					IPluginBase base = model.getPluginBase();
@@ -426,6 +415,10 @@ public class BundleLauncherHelper {
 	}
 
 	public static Map<IPluginModelBase, String> getTargetBundleMap(ILaunchConfiguration configuration, Set<String> set, String attribute) throws CoreException {
+		return getTargetBundleMap(configuration, set, attribute, new BundleModelIndex());
+	}
+
+	private static Map<IPluginModelBase, String> getTargetBundleMap(ILaunchConfiguration configuration, Set<String> set, String attribute, BundleModelIndex index) throws CoreException {
 		String selected = configuration.getAttribute(attribute, ""); //$NON-NLS-1$
 		Map<IPluginModelBase, String> map = new LinkedHashMap<>();
 		StringTokenizer tok = new StringTokenizer(selected, ","); //$NON-NLS-1$
@@ -442,9 +435,8 @@ public class BundleLauncherHelper {
 			String version = (versionIndex > 0) ? idVersion.substring(versionIndex + 1) : null;
 			if (set != null && set.contains(id))
 				continue;
-			ModelEntry entry = PluginRegistry.findEntry(id);
-			if (entry != null) {
-				IPluginModelBase[] models = entry.getExternalModels();
+			IPluginModelBase[] models = index.getExternalModels(id);
+			if (models.length > 0) {
 				for (IPluginModelBase model : models) {
 					if (model.isEnabled()) {
 						IPluginBase base = model.getPluginBase();
@@ -601,6 +593,10 @@ public class BundleLauncherHelper {
 	 * @throws CoreException if there is a problem reading the launch config
 	 */
 	public static HashMap<IPluginModelBase, String> getAdditionalPlugins(ILaunchConfiguration config, boolean onlyEnabled) throws CoreException {
+		return getAdditionalPlugins(config, onlyEnabled, new BundleModelIndex());
+	}
+
+	private static HashMap<IPluginModelBase, String> getAdditionalPlugins(ILaunchConfiguration config, boolean onlyEnabled, BundleModelIndex index) throws CoreException {
 		HashMap<IPluginModelBase, String> resolvedAdditionalPlugins = new HashMap<>();
 		Set<String> userAddedPlugins = config.getAttribute(IPDELauncherConstants.ADDITIONAL_PLUGINS, (Set<String>) null);
 		String defaultPluginResolution = config.getAttribute(IPDELauncherConstants.FEATURE_PLUGIN_RESOLUTION, IPDELauncherConstants.LOCATION_WORKSPACE);
@@ -612,12 +608,11 @@ public class BundleLauncherHelper {
 					String id = pluginData[0];
 					String version = pluginData[1];
 					String pluginResolution = pluginData[2];
-					ModelEntry pluginModelEntry = PluginRegistry.findEntry(id);
-					if (pluginModelEntry != null) {
+					if (index.contains(id)) {
 						if (IPDELauncherConstants.LOCATION_DEFAULT.equalsIgnoreCase(pluginResolution)) {
 							pluginResolution = defaultPluginResolution;
 						}
-						IPluginModelBase model = findModel(pluginModelEntry, version, pluginResolution);
+						IPluginModelBase model = findModel(index, id, version, pluginResolution);
 						if (model != null) {
 							resolvedAdditionalPlugins.put(model, pluginData[2]);
 						}
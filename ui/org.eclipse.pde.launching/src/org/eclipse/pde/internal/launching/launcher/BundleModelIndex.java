@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.util.*;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
+import org.osgi.framework.Version;
+
+/**
+ * A snapshot of the workspace and target plug-in models grouped by id.
+ * <p>
+ * {@link BundleLauncherHelper} resolves every entry of a launch configuration
+ * against one index instead of looking up a model entry per bundle, and
+ * parses each requested version string only once.
+ * </p>
+ */
+class BundleModelIndex {
+
+	private static final IPluginModelBase[] NO_MODELS = new IPluginModelBase[0];
+
+	private final Map<String, IPluginModelBase[]> fWorkspaceModels;
+	private final Map<String, IPluginModelBase[]> fExternalModels;
+	private final Set<IPluginModelBase> fWorkspaceSet;
+	private final Map<String, Version> fVersions = new HashMap<>();
+	private final String fSystemBundleId;
+
+	BundleModelIndex() {
+		IPluginModelBase[] workspace = PluginRegistry.getWorkspaceModels();
+		fWorkspaceModels = groupById(workspace);
+		fExternalModels = groupById(PluginRegistry.getExternalModels());
+		fWorkspaceSet = new HashSet<>(Arrays.asList(workspace));
+		fSystemBundleId = PDECore.getDefault().getModelManager().getSystemBundleId();
+	}
+
+	private static Map<String, IPluginModelBase[]> groupById(IPluginModelBase[] models) {
+		Map<String, List<IPluginModelBase>> lists = new HashMap<>();
+		for (IPluginModelBase model : models) {
+			String id = model.getPluginBase().getId();
+			if (id != null)
+				lists.computeIfAbsent(id, key -> new ArrayList<>(1)).add(model);
+		}
+		Map<String, IPluginModelBase[]> result = new HashMap<>(lists.size() * 4 / 3 + 1);
+		for (Map.Entry<String, List<IPluginModelBase>> entry : lists.entrySet())
+			result.put(entry.getKey(), entry.getValue().toArray(new IPluginModelBase[entry.getValue().size()]));
+		return result;
+	}
+
+	private String resolveId(String id) {
+		return "system.bundle".equals(id) ? fSystemBundleId : id; //$NON-NLS-1$
+	}
+
+	/**
+	 * @return whether any workspace or target model has the given id
+	 */
+	boolean contains(String id) {
+		id = resolveId(id);
+		return id != null && (fWorkspaceModels.containsKey(id) || fExternalModels.containsKey(id));
+	}
+
+	IPluginModelBase[] getWorkspaceModels(String id) {
+		IPluginModelBase[] models = fWorkspaceModels.get(resolveId(id));
+		return models == null ? NO_MODELS : models;
+	}
+
+	IPluginModelBase[] getExternalModels(String id) {
+		IPluginModelBase[] models = fExternalModels.get(resolveId(id));
+		return models == null ? NO_MODELS : models;
+	}
+
+	boolean isWorkspaceModel(IPluginModelBase model) {
+		return fWorkspaceSet.contains(model);
+	}
+
+	/**
+	 * @return the parsed version, or the empty version for <code>null</code>
+	 */
+	Version getVersion(String version) {
+		if (version == null)
+			return Version.emptyVersion;
+		return fVersions.computeIfAbsent(version, Version::parseVersion);
+	}
+
+}
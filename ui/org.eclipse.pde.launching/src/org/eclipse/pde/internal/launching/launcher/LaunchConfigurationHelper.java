@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -178,8 +178,9 @@ public class LaunchConfigurationHelper {
 				String profileID = DEFAULT_PROFILE_NAME;
 				File p2DataArea = new File(configurationDirectory, DEFAULT_P2_DIRECTORY);
 
-				// Unless we are restarting an existing profile, generate/overwrite the profile
-				if (!configuration.getAttribute(IPDEConstants.RESTART, false) || !P2Utils.profileExists(profileID, p2DataArea)) {
+				// Unless we are restarting an existing profile or the profile was generated from the same bundles, generate/overwrite the profile
+				boolean restart = configuration.getAttribute(IPDEConstants.RESTART, false);
+				if (restart ? !P2Utils.profileExists(profileID, p2DataArea) : !P2Utils.isProfileCurrent(profileID, p2DataArea, bundles.values())) {
 					P2Utils.createProfile(profileID, p2DataArea, bundles.values());
 				}
 				properties.setProperty("eclipse.p2.profile", profileID); //$NON-NLS-1$
@@ -463,7 +464,21 @@ public class LaunchConfigurationHelper {
 		return buffer.toString();
 	}
 
+	/**
+	 * Stores the given properties unless the file already contains exactly the
+	 * same properties, so that an unchanged configuration keeps its time stamp.
+	 */
 	public static void save(File file, Properties properties) {
+		if (file.isFile()) {
+			Properties existing = new Properties();
+			try (FileInputStream stream = new FileInputStream(file)) {
+				existing.load(stream);
+				if (existing.equals(properties))
+					return;
+			} catch (IOException e) {
+				// rewrite the file
+			}
+		}
 		try (FileOutputStream stream = new FileOutputStream(file)) {
 			properties.store(stream, "Configuration File"); //$NON-NLS-1$
 			stream.flush();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2015 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -147,13 +147,13 @@ public class LauncherUtils {
 					if (configuration.getAttribute(IPDEConstants.DOCLEARLOG, false)) {
 						LauncherUtils.clearWorkspaceLog(workspace);
 					} else {
-						CoreUtility.deleteContent(workspaceFile, subMon.split(90));
+						deleteWorkspace(configuration, workspaceFile, subMon.split(90));
 					}
 				}
 			} else if (configuration.getAttribute(IPDEConstants.DOCLEARLOG, false)) {
 				LauncherUtils.clearWorkspaceLog(workspace);
 			} else {
-				CoreUtility.deleteContent(workspaceFile, subMon.split(90));
+				deleteWorkspace(configuration, workspaceFile, subMon.split(90));
 			}
 		}
 
@@ -362,6 +362,20 @@ public class LauncherUtils {
 		return true;
 	}
 
+	/**
+	 * Deletes the given workspace directory. If the configuration asks for the
+	 * workspace to be cleared in the background, the directory is moved aside
+	 * and deleted by a job so the launch can continue immediately.
+	 */
+	private static void deleteWorkspace(ILaunchConfiguration configuration, File workspaceFile, IProgressMonitor monitor) throws CoreException {
+		if (configuration.getAttribute(IPDEConstants.DOCLEAR_IN_BACKGROUND, false) && WorkspaceDeleteJob.deleteInBackground(workspaceFile)) {
+			if (monitor != null)
+				monitor.done();
+			return;
+		}
+		CoreUtility.deleteContent(workspaceFile, monitor);
+	}
+
 	public static boolean clearWorkspaceLog(String workspace) {
 		File logFile = new File(workspace, ".metadata" + File.separator + ".log"); //$NON-NLS-1$ //$NON-NLS-2$
 		if (logFile.exists()) {
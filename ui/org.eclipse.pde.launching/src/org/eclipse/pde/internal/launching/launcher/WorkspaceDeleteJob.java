@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.eclipse.core.runtime.*;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.launching.PDEMessages;
+
+/**
+ * Deletes a cleared runtime workspace in the background.
+ * <p>
+ * The workspace directory is first renamed to a sibling directory so that the
+ * launch can reuse the original location immediately. The renamed tree is then
+ * deleted by this job, using several threads for subdirectories. Trees left
+ * behind by an interrupted deletion are picked up by the next one.
+ * </p>
+ */
+class WorkspaceDeleteJob extends Job {
+
+	private static final String TRASH_SEGMENT = ".deleted-"; //$NON-NLS-1$
+
+	private final File[] fDirectories;
+
+	private WorkspaceDeleteJob(File workspace, File[] directories) {
+		super(NLS.bind(PDEMessages.LauncherUtils_deletingWorkspace, workspace.getPath()));
+		fDirectories = directories;
+		setSystem(true);
+		setPriority(LONG);
+	}
+
+	/**
+	 * Moves the given workspace aside and schedules its deletion.
+	 *
+	 * @param workspace the workspace directory to delete
+	 * @return <code>true</code> if the workspace was moved and its deletion scheduled,
+	 * <code>false</code> if it could not be moved and must be deleted by the caller
+	 */
+	static boolean deleteInBackground(File workspace) {
+		File parent = workspace.getParentFile();
+		if (parent == null)
+			return false;
+		String prefix = workspace.getName() + TRASH_SEGMENT;
+		File trash = new File(parent, prefix + System.currentTimeMillis());
+		try {
+			Files.move(workspace.toPath(), trash.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException | UnsupportedOperationException e) {
+			return false;
+		}
+		File[] directories = parent.listFiles((dir, name) -> name.startsWith(prefix));
+		if (directories == null)
+			directories = new File[] {trash};
+		new WorkspaceDeleteJob(workspace, directories).schedule();
+		return true;
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		ForkJoinPool pool = new ForkJoinPool(Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors())));
+		try {
+			for (File directory : fDirectories) {
+				if (monitor.isCanceled())
+					return Status.CANCEL_STATUS;
+				pool.invoke(new DeleteTask(directory.toPath(), monitor));
+			}
+		} finally {
+			pool.shutdown();
+		}
+		return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+	}
+
+	private static final class DeleteTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Path fPath;
+		private final transient IProgressMonitor fMonitor;
+
+		DeleteTask(Path path, IProgressMonitor monitor) {
+			fPath = path;
+			fMonitor = monitor;
+		}
+
+		@Override
+		protected void compute() {
+			if (fMonitor.isCanceled())
+				return;
+			if (Files.isDirectory(fPath, LinkOption.NOFOLLOW_LINKS)) {
+				List<DeleteTask> subtasks = new ArrayList<>();
+				try (DirectoryStream<Path> children = Files.newDirectoryStream(fPath)) {
+					for (Path child : children) {
+						if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS))
+							subtasks.add(new DeleteTask(child, fMonitor));
+						else
+							delete(child);
+					}
+				} catch (IOException | DirectoryIteratorException e) {
+					// delete what we can, leftovers are retried by the next deletion
+				}
+				invokeAll(subtasks);
+			}
+			delete(fPath);
+		}
+
+		private static void delete(Path path) {
+			try {
+				Files.deleteIfExists(path);
+			} catch (IOException e) {
+				// a directory that still has content or a locked file
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,12 +20,14 @@ import org.eclipse.pde.ui.tests.ee.ExportBundleTests;
 import org.eclipse.pde.ui.tests.imports.AllImportTests;
 import org.eclipse.pde.ui.tests.launcher.AllLauncherTests;
 import org.eclipse.pde.ui.tests.model.bundle.AllBundleModelTests;
+import org.eclipse.pde.ui.tests.model.schema.AllSchemaModelTests;
 import org.eclipse.pde.ui.tests.model.xml.AllXMLModelTests;
 import org.eclipse.pde.ui.tests.nls.AllNLSTests;
 import org.eclipse.pde.ui.tests.preferences.AllPreferenceTests;
 import org.eclipse.pde.ui.tests.project.*;
 import org.eclipse.pde.ui.tests.runtime.AllPDERuntimeTests;
 import org.eclipse.pde.ui.tests.target.AllTargetTests;
+import org.eclipse.pde.ui.tests.views.imagebrowser.ImageIndexTest;
 import org.eclipse.pde.ui.tests.views.log.AllLogViewTests;
 import org.eclipse.pde.ui.tests.wizards.AllNewProjectTests;
 import org.junit.runner.RunWith;
@@ -40,6 +42,7 @@ import org.junit.runners.Suite.SuiteClasses;
 	AllImportTests.class,
 	AllBundleModelTests.class,
 	AllXMLModelTests.class,
+	AllSchemaModelTests.class,
 	AllValidatorTests.class,
 	AllNLSTests.class,
 	AllPDERuntimeTests.class,
@@ -49,6 +52,10 @@ import org.junit.runners.Suite.SuiteClasses;
 	ProjectCreationTests.class,
 	BundleRootTests.class,
 	PluginRegistryTests.class,
+	BundleDependencyGraphTests.class,
+	ExternalPluginModelTests.class,
+	WorkspaceModelManagerTests.class,
+	ImageIndexTest.class,
 	ClasspathResolverTest.class,
 	ClasspathContributorTest.class
 })
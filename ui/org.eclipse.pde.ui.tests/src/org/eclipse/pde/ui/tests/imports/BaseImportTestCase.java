@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -97,7 +97,10 @@ public abstract class BaseImportTestCase extends PDETestCase {
 	}
 
 	protected void runOperation(IPluginModelBase[] models, int type) {
-		PluginImportOperation job = new PluginImportOperation(models, type, false);
+		runOperation(new PluginImportOperation(models, type, false));
+	}
+
+	protected void runOperation(PluginImportOperation job) {
 		job.setRule(ResourcesPlugin.getWorkspace().getRoot());
 		job.setSystem(true);
 		job.schedule();
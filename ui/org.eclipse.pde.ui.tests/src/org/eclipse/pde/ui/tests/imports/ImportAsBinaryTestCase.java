@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,9 @@
 package org.eclipse.pde.ui.tests.imports;
 
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.*;
 import org.eclipse.jdt.core.*;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.natures.PDE;
 import org.eclipse.pde.internal.ui.wizards.imports.PluginImportOperation;
@@ -41,6 +41,17 @@ public class ImportAsBinaryTestCase extends BaseImportTestCase {
 		doSingleImport("org.junit", 4, true);
 	}
 
+	public void testImportStagedMultiple() {
+		IPluginModelBase[] modelsToImport = getModels(new String[] {"org.eclipse.core.filebuffers", "org.eclipse.jdt.doc.user", "org.eclipse.pde.build"});
+		PluginImportOperation job = new PluginImportOperation(modelsToImport, TYPE, false);
+		// the import wizard copies the plug-ins before it schedules the operation
+		job.stageBinaryPlugins(new NullProgressMonitor());
+		runOperation(job);
+		for (int i = 0; i < modelsToImport.length; i++) {
+			verifyProject(modelsToImport[i], i != 1);
+		}
+	}
+
 	@Override
 	protected void verifyProject(String projectName, boolean isJava) {
 		try {
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.model.schema;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Set;
+import junit.framework.TestCase;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.schema.*;
+import org.eclipse.pde.internal.core.schema.CompiledSchema.ElementInfo;
+
+public class CompiledSchemaTestCase extends TestCase {
+
+	private static final String SCHEMA = "<?xml version='1.0' encoding='UTF-8'?>" //
+			+ "<schema targetNamespace=\"org.example\">" //
+			+ "<element name=\"extension\"><complexType><sequence>" //
+			+ "<element ref=\"item\" minOccurs=\"0\" maxOccurs=\"unbounded\"/>" //
+			+ "</sequence><attribute name=\"point\" type=\"string\" use=\"required\"/></complexType></element>" //
+			+ "<element name=\"item\"><complexType>" //
+			+ "<attribute name=\"id\" type=\"string\" use=\"required\"/>" //
+			+ "<attribute name=\"class\" type=\"string\"><annotation><appInfo><meta.attribute kind=\"java\"/></appInfo></annotation></attribute>" //
+			+ "<attribute name=\"mode\"><simpleType><restriction base=\"string\">" //
+			+ "<enumeration value=\"a\"/><enumeration value=\"b\"/>" //
+			+ "</restriction></simpleType></attribute>" //
+			+ "</complexType></element>" //
+			+ "</schema>";
+
+	private static final String MAIN_SCHEMA = "<?xml version='1.0' encoding='UTF-8'?>" //
+			+ "<schema targetNamespace=\"org.example\">" //
+			+ "<include schemaLocation=\"included.exsd\"/>" //
+			+ "<element name=\"extension\"><complexType>" //
+			+ "<attribute name=\"point\" type=\"string\" use=\"required\"/></complexType></element>" //
+			+ "</schema>";
+
+	private static String includedSchema(String elementName) {
+		return "<?xml version='1.0' encoding='UTF-8'?>" //
+				+ "<schema targetNamespace=\"org.example\">" //
+				+ "<element name=\"" + elementName + "\"><complexType>" //
+				+ "<attribute name=\"id\" type=\"string\"/></complexType></element>" //
+				+ "</schema>";
+	}
+
+	private CompiledSchema fCompiled;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		Schema schema = new Schema("org.example", "point", "Example", false);
+		schema.load(new ByteArrayInputStream(SCHEMA.getBytes(StandardCharsets.UTF_8)));
+		fCompiled = PDECore.getDefault().getSchemaRegistry().getCompiledSchema(schema);
+	}
+
+	public void testFindElement() {
+		assertNotNull(fCompiled.findElement("extension"));
+		assertNotNull(fCompiled.findElement("item"));
+		assertNull(fCompiled.findElement("unknown"));
+	}
+
+	public void testAllowedChildren() {
+		ElementInfo extension = fCompiled.findElement("extension");
+		assertTrue(extension.isAllowedChild("item"));
+		assertFalse(extension.isAllowedChild("extension"));
+
+		// java attributes may be expressed as child elements
+		ElementInfo item = fCompiled.findElement("item");
+		assertTrue(item.isAllowedChild("class"));
+		assertFalse(item.isAllowedChild("id"));
+	}
+
+	public void testAttributes() {
+		ElementInfo item = fCompiled.findElement("item");
+		assertNotNull(item.getAttribute("id"));
+		assertNotNull(item.getAttribute("mode"));
+		assertNull(item.getAttribute("unknown"));
+
+		ISchemaAttribute[] required = item.getRequiredAttributes();
+		assertEquals(1, required.length);
+		assertEquals("id", required[0].getName());
+	}
+
+	public void testRestriction() {
+		ElementInfo item = fCompiled.findElement("item");
+		Set<String> values = item.getRestriction("mode");
+		assertNotNull(values);
+		assertEquals(2, values.size());
+		assertTrue(values.contains("a"));
+		assertTrue(values.contains("b"));
+		assertNull(item.getRestriction("id"));
+	}
+
+	public void testIncludedSchemaReloaded() throws Exception {
+		File directory = Files.createTempDirectory("compiledSchema").toFile();
+		File mainFile = new File(directory, "main.exsd");
+		File includedFile = new File(directory, "included.exsd");
+		try {
+			Files.write(mainFile.toPath(), MAIN_SCHEMA.getBytes(StandardCharsets.UTF_8));
+			Files.write(includedFile.toPath(), includedSchema("item").getBytes(StandardCharsets.UTF_8));
+			URL url = mainFile.toURI().toURL();
+			Schema schema = new Schema(new IncludedSchemaDescriptor(url), url, false);
+			schema.load();
+			SchemaRegistry registry = PDECore.getDefault().getSchemaRegistry();
+			CompiledSchema compiled = registry.getCompiledSchema(schema);
+			assertNotNull(compiled.findElement("extension"));
+			assertNotNull(compiled.findElement("item"));
+			assertSame(compiled, registry.getCompiledSchema(schema));
+
+			// reloading an included schema in place recompiles the including one
+			Files.write(includedFile.toPath(), includedSchema("other").getBytes(StandardCharsets.UTF_8));
+			includedFile.setLastModified(includedFile.lastModified() + 2000);
+			((Schema) schema.getIncludes()[0].getIncludedSchema()).reload();
+			compiled = registry.getCompiledSchema(schema);
+			assertNull(compiled.findElement("item"));
+			assertNotNull(compiled.findElement("other"));
+
+			// as does reloading the schema itself
+			schema.reload();
+			CompiledSchema reloaded = registry.getCompiledSchema(schema);
+			assertNotSame(compiled, reloaded);
+			assertNotNull(reloaded.findElement("other"));
+		} finally {
+			mainFile.delete();
+			includedFile.delete();
+			directory.delete();
+		}
+	}
+
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.model.schema;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import junit.framework.TestCase;
+import org.eclipse.pde.internal.core.XMLDefaultHandler;
+import org.eclipse.pde.internal.core.schema.SchemaCache;
+import org.eclipse.pde.internal.core.util.SAXParserWrapper;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+public class SchemaCacheTestCase extends TestCase {
+
+	private static final String SCHEMA = "<?xml version='1.0' encoding='UTF-8'?>" //
+			+ "<schema targetNamespace=\"org.example\">" //
+			+ "<element name=\"extension\"><complexType><sequence>" //
+			+ "<element ref=\"item\"/></sequence>" //
+			+ "<attribute name=\"point\" type=\"string\" use=\"required\"/></complexType></element>" //
+			+ "<element name=\"item\"><complexType><attribute name=\"id\" type=\"string\"/></complexType></element>" //
+			+ "</schema>";
+
+	private File fDirectory;
+	private File fSchemaFile;
+	private SchemaCache fCache;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fDirectory = Files.createTempDirectory("schemaCache").toFile();
+		fSchemaFile = new File(fDirectory, "example.exsd");
+		writeSchema(SCHEMA);
+		fCache = new SchemaCache(new File(fDirectory, "cache"));
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fCache.clear();
+		new File(fDirectory, "cache").delete();
+		fSchemaFile.delete();
+		fDirectory.delete();
+		super.tearDown();
+	}
+
+	public void testRoundTrip() throws Exception {
+		URL url = fSchemaFile.toURI().toURL();
+		assertNull(fCache.read(url, true));
+
+		Node parsed = parse();
+		fCache.write(url, true, parsed);
+
+		Element restored = fCache.read(url, true);
+		assertNotNull(restored);
+		assertEquals(parsed.getNodeName(), restored.getNodeName());
+		assertEquals("org.example", restored.getAttribute("targetNamespace"));
+		assertEquals(parsed.getChildNodes().getLength(), restored.getChildNodes().getLength());
+		Element item = (Element) restored.getChildNodes().item(1);
+		assertEquals("item", item.getAttribute("name"));
+
+		// abbreviated and full trees are cached separately
+		assertNull(fCache.read(url, false));
+	}
+
+	public void testStaleEntryIgnored() throws Exception {
+		URL url = fSchemaFile.toURI().toURL();
+		fCache.write(url, true, parse());
+		assertNotNull(fCache.read(url, true));
+
+		writeSchema(SCHEMA + " ");
+		assertNull(fCache.read(url, true));
+		// the stale entry is removed
+		assertEquals(0, new File(fDirectory, "cache").list().length);
+	}
+
+	public void testPrune() throws Exception {
+		URL url = fSchemaFile.toURI().toURL();
+		Node parsed = parse();
+		fCache.write(url, true, parsed);
+		fCache.write(url, false, parsed);
+		File cacheDir = new File(fDirectory, "cache");
+		File[] entries = cacheDir.listFiles();
+		assertEquals(2, entries.length);
+		for (File entry : entries)
+			entry.setLastModified(System.currentTimeMillis() - 60000);
+		File temp = new File(cacheDir, "leftover.tmp");
+		assertTrue(temp.createNewFile());
+
+		// reading an entry marks it as recently used
+		assertNotNull(fCache.read(url, false));
+		fCache.prune(1);
+		assertFalse(temp.exists());
+		assertEquals(1, cacheDir.list().length);
+		assertNull(fCache.read(url, true));
+		assertNotNull(fCache.read(url, false));
+	}
+
+	public void testPathWithSpaces() throws Exception {
+		File directory = new File(fDirectory, "with space");
+		assertTrue(directory.mkdir());
+		File schemaFile = new File(directory, "example.exsd");
+		File jarFile = new File(directory, "example.jar");
+		try {
+			assertTrue(fSchemaFile.renameTo(schemaFile));
+			URL url = schemaFile.toURI().toURL();
+			fCache.write(url, true, parse(schemaFile));
+			assertNotNull(fCache.read(url, true));
+
+			try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jarFile))) {
+				out.putNextEntry(new ZipEntry("schema/example.exsd"));
+				out.write(SCHEMA.getBytes(StandardCharsets.UTF_8));
+			}
+			URL jarUrl = new URL("jar:" + jarFile.toURI().toURL() + "!/schema/example.exsd");
+			fCache.write(jarUrl, true, parse(schemaFile));
+			assertNotNull(fCache.read(jarUrl, true));
+		} finally {
+			schemaFile.delete();
+			jarFile.delete();
+			directory.delete();
+		}
+	}
+
+	private Node parse() throws Exception {
+		return parse(fSchemaFile);
+	}
+
+	private Node parse(File file) throws Exception {
+		try (SAXParserWrapper parser = new SAXParserWrapper()) {
+			XMLDefaultHandler handler = new XMLDefaultHandler(true);
+			parser.parse(file, handler);
+			return handler.getDocumentElement();
+		}
+	}
+
+	private void writeSchema(String contents) throws Exception {
+		try (OutputStream out = new FileOutputStream(fSchemaFile)) {
+			out.write(contents.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.plugin.*;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures the heap retained by external plug-in models created for every
+ * bundle of the current target state, as done when the target is loaded.
+ */
+public class ExternalModelFootprintPerfTest extends PerformanceTestCase {
+
+	public void testExternalModelRetainedSize() throws Exception {
+		tagAsSummary("External plug-in model heap", Dimension.USED_JAVA_HEAP); //$NON-NLS-1$
+		PDEState state = PDECore.getDefault().getModelManager().getState();
+		BundleDescription[] bundles = state.getState().getBundles();
+		assertTrue(bundles.length > 0);
+
+		// Warm-up Iteration
+		createModels(state, bundles);
+
+		long retained = 0;
+		int iterations = 10;
+		for (int i = 0; i < iterations; i++) {
+			collectGarbage();
+			long before = getUsedHeap();
+			startMeasuring();
+			ExternalPluginModelBase[] models = createModels(state, bundles);
+			// only count what the models keep, not the garbage of loading them
+			collectGarbage();
+			stopMeasuring();
+			retained += getUsedHeap() - before;
+			assertEquals(bundles.length, models.length);
+		}
+		commitMeasurements();
+		System.out.println("Retained heap per external plug-in model: " + retained / iterations / bundles.length + " bytes"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertPerformance();
+	}
+
+	private ExternalPluginModelBase[] createModels(PDEState state, BundleDescription[] bundles) {
+		ExternalPluginModelBase[] models = new ExternalPluginModelBase[bundles.length];
+		for (int i = 0; i < bundles.length; i++) {
+			ExternalPluginModelBase model = bundles[i].getHost() == null ? new ExternalPluginModel() : new ExternalFragmentModel();
+			model.load(bundles[i], state);
+			model.setBundleDescription(bundles[i]);
+			model.setEnabled(true);
+			models[i] = model;
+		}
+		return models;
+	}
+
+	private static long getUsedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static void collectGarbage() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+	}
+
+}
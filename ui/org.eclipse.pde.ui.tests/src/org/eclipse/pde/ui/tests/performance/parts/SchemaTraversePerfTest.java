@@ -41,8 +41,7 @@ public class SchemaTraversePerfTest extends AbstractSchemaPerfTest {
 	@Override
 	protected void executeTest() throws Exception {
 		URLConnection connection = SchemaUtil.getURLConnection(fXSDFile.toURL());
-		try (InputStream input = connection.getInputStream()) {
-			SAXParserWrapper parser = new SAXParserWrapper();
+		try (InputStream input = connection.getInputStream(); SAXParserWrapper parser = new SAXParserWrapper()) {
 			XMLDefaultHandler handler = new XMLDefaultHandler(true);
 			parser.parse(input, handler);
 			EditableSchema schema = new EditableSchema("pluginID", "pointID", "name", true);
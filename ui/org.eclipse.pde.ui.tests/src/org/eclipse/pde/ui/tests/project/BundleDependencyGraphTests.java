@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.project;
+
+import java.util.*;
+import junit.framework.TestCase;
+import org.eclipse.osgi.service.resolver.*;
+import org.eclipse.pde.internal.core.builders.BundleDependencyGraph;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests the dependencies and loops reported by {@link BundleDependencyGraph}
+ */
+public class BundleDependencyGraphTests extends TestCase {
+
+	private State fState;
+	private long fNextId;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fState = StateObjectFactory.defaultFactory.createState(true);
+		fNextId = 1;
+	}
+
+	private BundleDescription addBundle(String name, String requires, String host) throws Exception {
+		return addBundle(name, requires, host, null, null);
+	}
+
+	private BundleDescription addBundle(String name, String requires, String host, String imports, String exports) throws Exception {
+		Hashtable<String, String> manifest = createManifest(name, requires, host);
+		if (imports != null)
+			manifest.put(Constants.IMPORT_PACKAGE, imports);
+		if (exports != null)
+			manifest.put(Constants.EXPORT_PACKAGE, exports);
+		BundleDescription bundle = StateObjectFactory.defaultFactory.createBundleDescription(fState, manifest, "/bundles/" + name, fNextId++);
+		fState.addBundle(bundle);
+		return bundle;
+	}
+
+	private static BundleDescription createBundle(State state, String name, String requires, String host, long id) throws Exception {
+		return StateObjectFactory.defaultFactory.createBundleDescription(state, createManifest(name, requires, host), "/bundles/" + name, id);
+	}
+
+	private static Hashtable<String, String> createManifest(String name, String requires, String host) {
+		Hashtable<String, String> manifest = new Hashtable<>();
+		manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+		manifest.put(Constants.BUNDLE_SYMBOLICNAME, name);
+		manifest.put(Constants.BUNDLE_VERSION, "1.0.0");
+		if (requires != null)
+			manifest.put(Constants.REQUIRE_BUNDLE, requires);
+		if (host != null)
+			manifest.put(Constants.FRAGMENT_HOST, host);
+		return manifest;
+	}
+
+	private static Set<String> sortedNames(BundleDescription[] bundles) {
+		return new TreeSet<>(names(bundles));
+	}
+
+	private static List<String> names(BundleDescription[] bundles) {
+		List<String> names = new ArrayList<>();
+		for (BundleDescription bundle : bundles)
+			names.add(bundle.getSymbolicName());
+		return names;
+	}
+
+	public void testCycle() throws Exception {
+		BundleDescription a = addBundle("a", "b", null);
+		BundleDescription b = addBundle("b", "c", null);
+		BundleDescription c = addBundle("c", "a", null);
+		BundleDescription d = addBundle("d", "a", null);
+		fState.resolve();
+		BundleDependencyGraph graph = new BundleDependencyGraph(fState);
+
+		assertTrue(graph.isInLoop(a));
+		assertTrue(graph.isInLoop(b));
+		assertTrue(graph.isInLoop(c));
+		assertFalse(graph.isInLoop(d));
+
+		List<BundleDescription[]> loops = graph.getLoops(a);
+		assertEquals(1, loops.size());
+		assertEquals(Arrays.asList("a", "b", "c"), names(loops.get(0)));
+		assertTrue(graph.getLoops(d).isEmpty());
+
+		assertEquals(new TreeSet<>(Arrays.asList("c", "d")), sortedNames(graph.getDependents(a)));
+		assertEquals(new TreeSet<>(Arrays.asList("a", "b", "c", "d")), sortedNames(graph.getTransitiveDependents(a)));
+	}
+
+	public void testSelfLoop() throws Exception {
+		BundleDescription a = addBundle("a", "a", null);
+		BundleDescription b = addBundle("b", "a", null);
+		fState.resolve();
+		BundleDependencyGraph graph = new BundleDependencyGraph(fState);
+
+		assertTrue(graph.isInLoop(a));
+		assertFalse(graph.isInLoop(b));
+		List<BundleDescription[]> loops = graph.getLoops(a);
+		assertEquals(1, loops.size());
+		assertEquals(Collections.singletonList("a"), names(loops.get(0)));
+	}
+
+	public void testImportPackageCycle() throws Exception {
+		BundleDescription a = addBundle("a", "b", null, "c.api", "a.api");
+		BundleDescription b = addBundle("b", null, null, null, null);
+		BundleDescription c = addBundle("c", null, null, "a.api", "c.api");
+		BundleDescription d = addBundle("d", null, null, "a.api", null);
+		fState.resolve();
+		assertTrue(a.isResolved());
+		assertTrue(c.isResolved());
+		BundleDependencyGraph graph = new BundleDependencyGraph(fState);
+
+		assertTrue(graph.isInLoop(a));
+		assertTrue(graph.isInLoop(c));
+		assertFalse(graph.isInLoop(b));
+		assertFalse(graph.isInLoop(d));
+		List<BundleDescription[]> loops = graph.getLoops(a);
+		assertEquals(1, loops.size());
+		assertEquals(Arrays.asList("a", "c"), names(loops.get(0)));
+	}
+
+	public void testFragment() throws Exception {
+		BundleDescription host = addBundle("host", null, null);
+		BundleDescription fragment = addBundle("fragment", null, "host");
+		BundleDescription user = addBundle("user", "host", null);
+		fState.resolve();
+		assertTrue(fragment.isResolved());
+		BundleDependencyGraph graph = new BundleDependencyGraph(fState);
+
+		assertEquals(new TreeSet<>(Arrays.asList("fragment", "user")), sortedNames(graph.getDependents(host)));
+		assertEquals(0, graph.getDependents(user).length);
+		assertFalse(graph.isInLoop(host));
+		assertFalse(graph.isInLoop(fragment));
+	}
+
+	public void testUnresolvedBundles() throws Exception {
+		BundleDescription a = addBundle("a", "b", null);
+		BundleDescription b = addBundle("b", "a,missing", null);
+		BundleDescription c = addBundle("c", "a", null);
+		fState.resolve();
+		assertFalse(a.isResolved());
+		assertFalse(b.isResolved());
+		BundleDependencyGraph graph = new BundleDependencyGraph(fState);
+
+		// loops are found through unresolved requirements
+		assertTrue(graph.isInLoop(a));
+		List<BundleDescription[]> loops = graph.getLoops(b);
+		assertEquals(1, loops.size());
+		assertEquals(Arrays.asList("b", "a"), names(loops.get(0)));
+		assertFalse(graph.isInLoop(c));
+
+		// dependents only follow resolved requirements
+		assertEquals(0, graph.getDependents(a).length);
+		assertEquals(0, graph.getTransitiveDependents(b).length);
+	}
+
+	public void testBundleNotInState() throws Exception {
+		addBundle("a", null, null);
+		fState.resolve();
+		BundleDependencyGraph graph = new BundleDependencyGraph(fState);
+
+		BundleDescription other = createBundle(StateObjectFactory.defaultFactory.createState(true), "other", null, null, 100);
+		assertFalse(graph.isInLoop(other));
+		assertTrue(graph.getLoops(other).isEmpty());
+		assertEquals(0, graph.getDependents(other).length);
+	}
+
+	public void testNullState() {
+		BundleDependencyGraph graph = new BundleDependencyGraph(null);
+		assertFalse(graph.isInLoop(null));
+		assertEquals(0, graph.getTransitiveDependents(null).length);
+	}
+}
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.project;
+
+import junit.framework.TestCase;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.plugin.*;
+
+/**
+ * Tests the children external plug-in models create on first access
+ */
+public class ExternalPluginModelTests extends TestCase {
+
+	public void testChildrenMatchState() throws Exception {
+		PDEState state = PDECore.getDefault().getModelManager().getState();
+		BundleDescription[] bundles = state.getState().getBundles();
+		assertTrue(bundles.length > 0);
+		for (BundleDescription bundle : bundles) {
+			ExternalPluginModelBase model = bundle.getHost() == null ? new ExternalPluginModel() : new ExternalFragmentModel();
+			model.load(bundle, state);
+			model.setBundleDescription(bundle);
+			int imports = bundle.getRequiredBundles().length + PluginBase.getImportedBundles(bundle).length;
+			assertEquals(bundle.getSymbolicName(), imports, model.getPluginBase().getImports().length);
+			assertEquals(bundle.getSymbolicName(), state.getLibraryNames(bundle.getBundleId()).length,
+					model.getPluginBase().getLibraries().length);
+		}
+	}
+}
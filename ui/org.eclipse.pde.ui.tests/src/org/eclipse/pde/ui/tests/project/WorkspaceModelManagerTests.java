@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.project;
+
+import java.util.*;
+import junit.framework.TestCase;
+import org.eclipse.core.resources.*;
+import org.eclipse.pde.core.IModel;
+import org.eclipse.pde.core.IModelProviderEvent;
+import org.eclipse.pde.internal.core.WorkspaceModelManager;
+import org.eclipse.pde.internal.core.plugin.WorkspacePluginModel;
+
+/**
+ * Tests the merging of model events by {@link WorkspaceModelManager}
+ */
+public class WorkspaceModelManagerTests extends TestCase {
+
+	private static final String EXTENSION_EVENT = "org.eclipse.pde.internal.core.IExtensionDeltaEvent";
+
+	/**
+	 * Manager without models that records the events it sends
+	 */
+	private static class RecordingManager extends WorkspaceModelManager {
+
+		final List<String> eventIds = Collections.synchronizedList(new ArrayList<>());
+		final List<Collection<IModel>> added = Collections.synchronizedList(new ArrayList<>());
+
+		static void merge(Map<IModel, Integer> pending, IModel model, int type) {
+			mergeChange(pending, model, type);
+		}
+
+		void change(String changeId, List<IModel> models, int type) {
+			ArrayList<ModelChange> changes = new ArrayList<>();
+			for (IModel model : models)
+				changes.add(new ModelChange(model, type));
+			processModelChanges(changeId, changes);
+		}
+
+		@Override
+		protected boolean isInterestingProject(IProject project) {
+			return false;
+		}
+
+		@Override
+		protected IModel readModel(IProject project) {
+			return null;
+		}
+
+		@Override
+		protected void addListeners() {
+		}
+
+		@Override
+		protected void handleFileDelta(IResourceDelta delta) {
+		}
+
+		@Override
+		protected void createAndFireEvent(String eventId, int type, Collection<IModel> added, Collection<IModel> removed, Collection<IModel> changed) {
+			eventIds.add(eventId);
+			this.added.add(new ArrayList<>(added));
+		}
+	}
+
+	private static IModel createModel(String name) {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(name);
+		return new WorkspacePluginModel(project.getFile("plugin.xml"), false);
+	}
+
+	private static List<IModel> createModels(int count) {
+		List<IModel> models = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+			models.add(createModel("p" + i));
+		return models;
+	}
+
+	public void testMergeAddedThenRemoved() {
+		Map<IModel, Integer> pending = new LinkedHashMap<>();
+		IModel model = createModel("p");
+		RecordingManager.merge(pending, model, IModelProviderEvent.MODELS_ADDED);
+		RecordingManager.merge(pending, model, IModelProviderEvent.MODELS_CHANGED);
+		assertEquals(Integer.valueOf(IModelProviderEvent.MODELS_ADDED), pending.get(model));
+		RecordingManager.merge(pending, model, IModelProviderEvent.MODELS_REMOVED);
+		assertTrue(pending.isEmpty());
+	}
+
+	public void testMergeRemovedThenAdded() {
+		Map<IModel, Integer> pending = new LinkedHashMap<>();
+		IModel model = createModel("p");
+		RecordingManager.merge(pending, model, IModelProviderEvent.MODELS_REMOVED);
+		RecordingManager.merge(pending, model, IModelProviderEvent.MODELS_ADDED);
+		assertEquals(Integer.valueOf(IModelProviderEvent.MODELS_CHANGED), pending.get(model));
+	}
+
+	public void testMergeChangedThenRemoved() {
+		Map<IModel, Integer> pending = new LinkedHashMap<>();
+		IModel model = createModel("p");
+		RecordingManager.merge(pending, model, IModelProviderEvent.MODELS_CHANGED);
+		RecordingManager.merge(pending, model, IModelProviderEvent.MODELS_REMOVED);
+		assertEquals(Integer.valueOf(IModelProviderEvent.MODELS_REMOVED), pending.get(model));
+	}
+
+	public void testProviderEventsSentFirst() {
+		RecordingManager manager = new RecordingManager();
+		try {
+			// enough changes to be merged with the following ones
+			manager.change(EXTENSION_EVENT, createModels(20), IModelProviderEvent.MODELS_ADDED);
+			manager.change(IModelProviderEvent.class.getName(), Collections.singletonList(createModel("q")), IModelProviderEvent.MODELS_ADDED);
+			assertTrue(manager.eventIds.isEmpty());
+
+			manager.flushPendingEvents();
+			assertEquals(Arrays.asList(IModelProviderEvent.class.getName(), EXTENSION_EVENT), manager.eventIds);
+			assertEquals(1, manager.added.get(0).size());
+			assertEquals(20, manager.added.get(1).size());
+		} finally {
+			manager.shutdown();
+		}
+	}
+
+	public void testFewChangesSentRightAway() {
+		RecordingManager manager = new RecordingManager();
+		try {
+			manager.change(EXTENSION_EVENT, createModels(2), IModelProviderEvent.MODELS_ADDED);
+			assertEquals(Collections.singletonList(EXTENSION_EVENT), manager.eventIds);
+
+			manager.flushPendingEvents();
+			assertEquals(1, manager.eventIds.size());
+		} finally {
+			manager.shutdown();
+		}
+	}
+}
@@ -22,6 +22,7 @@ import javax.xml.parsers.ParserConfigurationException;
 import junit.framework.TestCase;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.pde.internal.core.XMLDefaultHandler;
+import org.eclipse.pde.internal.core.util.PDEXMLHelper;
 import org.eclipse.pde.internal.core.util.SAXParserWrapper;
 import org.eclipse.pde.ui.tests.PDETestsPlugin;
 import org.eclipse.pde.ui.tests.util.DOMParserWrapper;
@@ -86,6 +87,21 @@ public class ParserWrapperTestCase extends TestCase {
 
 	}
 
+	public void testSAXParserWrapperReusesPooledParser() throws Exception {
+		try (SAXParserWrapper parser = new SAXParserWrapper()) {
+			parser.parse(fXMLFile, new XMLDefaultHandler());
+		}
+		long created = PDEXMLHelper.getSAXParsersCreated();
+		long reused = PDEXMLHelper.getSAXParsersReused();
+		for (int x = 0; x < 10; x++) {
+			try (SAXParserWrapper parser = new SAXParserWrapper()) {
+				parser.parse(fXMLFile, new XMLDefaultHandler());
+			}
+		}
+		assertEquals(created, PDEXMLHelper.getSAXParsersCreated());
+		assertEquals(reused + 10, PDEXMLHelper.getSAXParsersReused());
+	}
+
 	public class ParserThread extends Thread {
 
 		protected final int FITERATIONS = 100;
@@ -114,11 +130,9 @@ public class ParserWrapperTestCase extends TestCase {
 
 			for (int x = 0; x < FITERATIONS; x++) {
 
-				try {
+				try (SAXParserWrapper parser = new SAXParserWrapper()) {
 					XMLDefaultHandler handler = new XMLDefaultHandler();
-					SAXParserWrapper parser = new SAXParserWrapper();
 					parser.parse(fParserXMLFile, handler);
-					parser.dispose();
 				} catch (ParserConfigurationException e) {
 					e.printStackTrace();
 					fError = true;
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.views.imagebrowser;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import junit.framework.TestCase;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.internal.ui.views.imagebrowser.ImageElement;
+import org.eclipse.pde.internal.ui.views.imagebrowser.repositories.ImageIndex;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.*;
+
+public class ImageIndexTest extends TestCase {
+
+	private static final Predicate<String> IS_IMAGE = name -> name.endsWith(".png");
+
+	private File fDirectory;
+	private File fIndexDirectory;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fDirectory = Files.createTempDirectory("imageIndex").toFile();
+		fIndexDirectory = new File(fDirectory, "index");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		delete(fDirectory);
+		super.tearDown();
+	}
+
+	private static void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children)
+				delete(child);
+		}
+		file.delete();
+	}
+
+	private static byte[] createPng(int width, int height) {
+		ImageLoader loader = new ImageLoader();
+		loader.data = new ImageData[] {new ImageData(width, height, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF))};
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		loader.save(out, SWT.IMAGE_PNG);
+		return out.toByteArray();
+	}
+
+	private File createJar(String name, int... sizes) throws IOException {
+		File jar = new File(fDirectory, name);
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+			out.putNextEntry(new ZipEntry("readme.txt"));
+			out.write("not an image".getBytes());
+			for (int i = 0; i < sizes.length; i += 2) {
+				out.putNextEntry(new ZipEntry("icons/image" + i + ".png"));
+				out.write(createPng(sizes[i], sizes[i + 1]));
+			}
+		}
+		return jar;
+	}
+
+	private File[] getIndexFiles() {
+		File[] files = fIndexDirectory.listFiles((dir, name) -> name.endsWith(".idx"));
+		return files == null ? new File[0] : files;
+	}
+
+	private static IProgressMonitor canceledMonitor() {
+		IProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		return monitor;
+	}
+
+	public void testRoundTrip() throws Exception {
+		File jar = createJar("bundle.jar", 16, 16, 256, 128);
+		List<ImageElement> images = new ImageIndex(fIndexDirectory).getImages(jar, IS_IMAGE, new NullProgressMonitor());
+		assertEquals(2, images.size());
+		assertEquals(1, getIndexFiles().length);
+
+		// a canceled monitor keeps the jar from being read, so the images come from the index
+		List<ImageElement> indexed = new ImageIndex(fIndexDirectory).getImages(jar, IS_IMAGE, canceledMonitor());
+		assertEquals(2, indexed.size());
+		for (int i = 0; i < images.size(); i++) {
+			assertEquals(images.get(i).getPath(), indexed.get(i).getPath());
+			assertEquals(images.get(i).getWidth(), indexed.get(i).getWidth());
+			assertEquals(images.get(i).getHeight(), indexed.get(i).getHeight());
+		}
+		assertEquals(16, indexed.get(0).getThumbnailData().width);
+		assertEquals(256, indexed.get(1).getWidth());
+		assertEquals(ImageIndex.THUMBNAIL_SIZE, indexed.get(1).getThumbnailData().width);
+		assertEquals(ImageIndex.THUMBNAIL_SIZE / 2, indexed.get(1).getThumbnailData().height);
+		assertEquals(128, indexed.get(1).getImageData().height);
+	}
+
+	public void testChangedJar() throws Exception {
+		File jar = createJar("bundle.jar", 16, 16);
+		ImageIndex index = new ImageIndex(fIndexDirectory);
+		assertEquals(1, index.getImages(jar, IS_IMAGE, new NullProgressMonitor()).size());
+
+		long lastModified = jar.lastModified();
+		createJar("bundle.jar", 16, 16, 32, 32);
+		jar.setLastModified(lastModified + 2000);
+		assertEquals(2, index.getImages(jar, IS_IMAGE, new NullProgressMonitor()).size());
+		assertEquals(1, getIndexFiles().length);
+		assertEquals(2, new ImageIndex(fIndexDirectory).getImages(jar, IS_IMAGE, canceledMonitor()).size());
+	}
+
+	public void testStaleIndexDeleted() throws Exception {
+		File jar = createJar("bundle.jar", 16, 16);
+		ImageIndex index = new ImageIndex(fIndexDirectory);
+		index.getImages(jar, IS_IMAGE, new NullProgressMonitor());
+
+		jar.setLastModified(jar.lastModified() + 2000);
+		assertTrue(index.getImages(jar, IS_IMAGE, canceledMonitor()).isEmpty());
+		assertEquals(0, getIndexFiles().length);
+	}
+
+	public void testCorruptIndexDeleted() throws Exception {
+		File jar = createJar("bundle.jar", 16, 16);
+		ImageIndex index = new ImageIndex(fIndexDirectory);
+		index.getImages(jar, IS_IMAGE, new NullProgressMonitor());
+		File indexFile = getIndexFiles()[0];
+		Files.write(indexFile.toPath(), new byte[] {1, 2, 3});
+
+		assertTrue(index.getImages(jar, IS_IMAGE, canceledMonitor()).isEmpty());
+		assertFalse(indexFile.exists());
+		assertEquals(1, index.getImages(jar, IS_IMAGE, new NullProgressMonitor()).size());
+	}
+
+	public void testPrune() throws Exception {
+		ImageIndex index = new ImageIndex(fIndexDirectory);
+		File[] jars = new File[5];
+		for (int i = 0; i < jars.length; i++) {
+			jars[i] = createJar("bundle" + i + ".jar", 16, 16);
+			index.getImages(jars[i], IS_IMAGE, new NullProgressMonitor());
+		}
+		assertEquals(5, getIndexFiles().length);
+		long old = System.currentTimeMillis() - 60000;
+		for (File file : getIndexFiles())
+			file.setLastModified(old);
+		File temp = new File(fIndexDirectory, "images1.tmp");
+		Files.write(temp.toPath(), new byte[] {1});
+
+		// reading an index marks it as used
+		assertEquals(1, index.getImages(jars[3], IS_IMAGE, canceledMonitor()).size());
+		index.prune(1);
+		assertEquals(1, getIndexFiles().length);
+		assertFalse(temp.exists());
+		assertEquals(1, index.getImages(jars[3], IS_IMAGE, canceledMonitor()).size());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 Zend Technologies Ltd. and others.
+ * Copyright (c) 2009, 2026 Zend Technologies Ltd. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,7 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ LogEntryTest.class })
+@SuiteClasses({ LogEntryTest.class, LogFileIndexTest.class })
 public class AllLogViewTests {
 
 }
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.views.log;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import junit.framework.TestCase;
+import org.eclipse.ui.IMemento;
+import org.eclipse.ui.XMLMemento;
+import org.eclipse.ui.internal.views.log.LogFileIndex;
+import org.eclipse.ui.internal.views.log.LogView;
+
+public class LogFileIndexTest extends TestCase {
+
+	private File fLogFile;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fLogFile = File.createTempFile("index", ".log");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fLogFile.delete();
+		super.tearDown();
+	}
+
+	private static String session(int number) {
+		return "!SESSION 2026-01-0" + number + " 10:00:00.000 -----------------------------------------------\n"
+				+ "eclipse.buildId=unknown\n\n";
+	}
+
+	private static String entry(String message, int severity) {
+		return "!ENTRY org.eclipse.pde.ui " + severity + " 0 2026-01-01 10:00:01.000\n"
+				+ "!MESSAGE " + message + "\n\n";
+	}
+
+	private static IMemento createMemento(boolean allSessions, int limit) {
+		XMLMemento memento = XMLMemento.createWriteRoot("logView");
+		memento.putString(LogView.P_LOG_OK, "true");
+		memento.putString(LogView.P_LOG_INFO, "true");
+		memento.putString(LogView.P_LOG_WARNING, "true");
+		memento.putString(LogView.P_LOG_ERROR, "true");
+		memento.putString(LogView.P_SHOW_ALL_SESSIONS, Boolean.toString(allSessions));
+		memento.putString(LogView.P_USE_LIMIT, Boolean.toString(limit > 0));
+		memento.putInteger(LogView.P_LOG_LIMIT, limit);
+		return memento;
+	}
+
+	private LogFileIndex.Range getRange(String content, IMemento memento, long maxTailSize) throws Exception {
+		Files.write(fLogFile.toPath(), content.getBytes(StandardCharsets.US_ASCII));
+		return LogFileIndex.getIndex(fLogFile).getRange(memento, maxTailSize);
+	}
+
+	public void testLastSession() throws Exception {
+		String content = session(1) + entry("one", 4) + session(2) + entry("two", 4) + entry("three", 4);
+		LogFileIndex.Range range = getRange(content, createMemento(false, 0), Long.MAX_VALUE);
+		assertEquals(-1, range.sessionStart);
+		assertEquals(content.indexOf(session(2)), range.start);
+		assertFalse(range.tailLimited);
+
+		range = getRange(content, createMemento(true, 0), Long.MAX_VALUE);
+		assertEquals(-1, range.sessionStart);
+		assertEquals(0, range.start);
+	}
+
+	public void testLimitKeepsSessionHeader() throws Exception {
+		String content = session(1) + entry("one", 4) + session(2) + entry("two", 4) + entry("three", 4);
+		LogFileIndex.Range range = getRange(content, createMemento(true, 1), Long.MAX_VALUE);
+		assertEquals(content.indexOf(session(2)), range.sessionStart);
+		assertEquals(content.indexOf(entry("two", 4)), range.sessionEnd);
+		assertEquals(content.indexOf(entry("three", 4)), range.start);
+	}
+
+	public void testLimitSkipsFilteredEntries() throws Exception {
+		String content = session(1) + entry("one", 4) + entry("two", 4) + entry("info", 1);
+		IMemento memento = createMemento(true, 1);
+		memento.putString(LogView.P_LOG_INFO, "false");
+		LogFileIndex.Range range = getRange(content, memento, Long.MAX_VALUE);
+		assertEquals(content.indexOf(entry("two", 4)), range.start);
+	}
+
+	public void testSessionStartsMidFile() throws Exception {
+		// entries of a session whose header is in a previous, rotated log
+		String content = entry("orphan", 4) + session(2) + entry("one", 4);
+		LogFileIndex.Range range = getRange(content, createMemento(true, 2), Long.MAX_VALUE);
+		assertEquals(-1, range.sessionStart);
+		assertEquals(0, range.start);
+
+		range = getRange(content, createMemento(true, 1), Long.MAX_VALUE);
+		assertEquals(-1, range.sessionStart);
+		assertEquals(content.indexOf(session(2)), range.start);
+
+		range = getRange(content, createMemento(false, 0), Long.MAX_VALUE);
+		assertEquals(content.indexOf(session(2)), range.start);
+	}
+
+	public void testTailSize() throws Exception {
+		String content = session(1) + entry("one", 4) + entry("two", 4) + entry("three", 4);
+		long length = content.length();
+		long three = content.indexOf(entry("three", 4));
+
+		// the tail starts within the second entry, parsing starts at the next one
+		LogFileIndex.Range range = getRange(content, createMemento(true, 0), length - three + 1);
+		assertTrue(range.tailLimited);
+		assertEquals(three, range.start);
+		assertEquals(0, range.sessionStart);
+		assertEquals(content.indexOf(entry("one", 4)), range.sessionEnd);
+
+		range = getRange(content, createMemento(true, 0), length);
+		assertFalse(range.tailLimited);
+		assertEquals(0, range.start);
+
+		// nothing to parse when the tail holds no complete entry
+		range = getRange(content, createMemento(true, 0), 1);
+		assertTrue(range.tailLimited);
+		assertEquals(length, range.start);
+	}
+
+	public void testTailSizeWithLastSession() throws Exception {
+		String content = session(1) + entry("one", 4) + session(2) + entry("two", 4);
+		long second = content.indexOf(session(2));
+		LogFileIndex.Range range = getRange(content, createMemento(false, 0), content.length() - content.indexOf(entry("one", 4)));
+		assertFalse(range.tailLimited);
+		assertEquals(second, range.start);
+	}
+
+	public void testTruncatedLog() throws Exception {
+		String content = session(1) + entry("one", 4) + entry("two", 4) + entry("three", 4);
+		getRange(content, createMemento(true, 0), Long.MAX_VALUE);
+
+		String truncated = session(2) + entry("new", 4);
+		LogFileIndex.Range range = getRange(truncated, createMemento(true, 1), Long.MAX_VALUE);
+		assertEquals(-1, range.sessionStart);
+		assertEquals(truncated.indexOf(session(2)), range.start);
+	}
+
+	public void testRotatedLog() throws Exception {
+		String content = session(1) + entry("one", 4);
+		getRange(content, createMemento(false, 0), Long.MAX_VALUE);
+
+		// a larger file without a log line where the last indexed one was
+		StringBuilder rotated = new StringBuilder();
+		while (rotated.length() < content.length() + 100)
+			rotated.append("eclipse.buildId=unknown\n");
+		rotated.append(session(2)).append(entry("two", 4));
+		LogFileIndex.Range range = getRange(rotated.toString(), createMemento(false, 0), Long.MAX_VALUE);
+		assertEquals(rotated.indexOf(session(2)), range.start);
+	}
+
+	public void testGrowingLog() throws Exception {
+		String content = session(1) + entry("one", 4);
+		getRange(content, createMemento(true, 0), Long.MAX_VALUE);
+
+		String grown = content + entry("two", 4);
+		LogFileIndex.Range range = getRange(grown, createMemento(true, 1), Long.MAX_VALUE);
+		assertEquals(0, range.sessionStart);
+		assertEquals(grown.indexOf(entry("two", 4)), range.start);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.jface.dialogs.IDialogSettings;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
 import org.eclipse.pde.internal.ui.launcher.PDELogFileProvider;
+import org.eclipse.pde.internal.ui.search.dialogs.PluginArtifactIndex;
 import org.eclipse.pde.internal.ui.shared.target.TargetStatus;
 import org.eclipse.pde.internal.ui.util.SWTUtil;
 import org.eclipse.swt.widgets.Display;
@@ -224,6 +225,7 @@ public class PDEPlugin extends AbstractUIPlugin implements IPDEUIConstants {
 			LogFilesManager.removeLogFileProvider(fLogFileProvider);
 			fLogFileProvider = null;
 		}
+		PluginArtifactIndex.shutdown();
 		Utilities.shutdown();
 		super.stop(context);
 	}
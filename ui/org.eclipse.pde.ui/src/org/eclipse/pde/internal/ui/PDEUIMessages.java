@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2018 IBM Corporation and others.
+ * Copyright (c) 2014, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1019,6 +1019,7 @@ public class PDEUIMessages extends NLS {
 	public static String WorkspaceDataBlock_location;
 	public static String WorkspaceDataBlock_clear;
 	public static String WorkspaceDataBlock_askClear;
+	public static String WorkspaceDataBlock_clearInBackground;
 	public static String WorkspaceDataBlock_clearLog;
 	public static String WorkspaceDataBlock_clearWorkspace;
 
@@ -2589,6 +2590,8 @@ public class PDEUIMessages extends NLS {
 
 	public static String PluginImportOperation_Importing_plugin;
 
+	public static String PluginImportOperation_Copying_plugins;
+
 	public static String PluginImportOperation_OverwritePluginProjects;
 
 	public static String PluginImportOperation_Set_up_classpaths;
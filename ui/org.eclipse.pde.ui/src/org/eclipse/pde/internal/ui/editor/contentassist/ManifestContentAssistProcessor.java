@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2017 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ import org.eclipse.pde.core.plugin.*;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.util.HeaderMap;
 import org.eclipse.pde.internal.core.util.PDEJavaHelper;
+import org.eclipse.pde.internal.core.util.StateCompletionIndex;
 import org.eclipse.pde.internal.ui.PDEPluginImages;
 import org.eclipse.pde.internal.ui.editor.PDEFormEditor;
 import org.eclipse.pde.internal.ui.editor.PDESourcePage;
@@ -275,19 +276,14 @@ public class ManifestContentAssistProcessor extends TypePackageCompletionProcess
 			int length = value.length();
 			set.remove(value);
 			ArrayList<TypeCompletionProposal> completions = new ArrayList<>();
-			IPluginModelBase[] bases = PluginRegistry.getActiveModels();
-
-			for (IPluginModelBase base : bases) { // Remove any packages already imported through Require-Bundle
-				BundleDescription desc = base.getBundleDescription();
-				if (desc == null || importedBundles.contains(desc.getSymbolicName()))
+			for (ExportPackageDescription expPkg : StateCompletionIndex.getDefault().getExportedPackages(value)) {
+				// Remove any packages already imported through Require-Bundle
+				if (importedBundles.contains(expPkg.getExporter().getSymbolicName()))
 					continue;
-				ExportPackageDescription[] expPkgs = desc.getExportPackages();
-				for (ExportPackageDescription expPkg : expPkgs) {
-					String pkgName = expPkg.getName();
-					if (pkgName.regionMatches(true, 0, value, 0, length) && !set.contains(pkgName)) {
-						completions.add(new TypeCompletionProposal(pkgName, getImage(F_TYPE_PKG), pkgName, offset - length, length));
-						set.add(pkgName);
-					}
+				String pkgName = expPkg.getName();
+				if (!set.contains(pkgName)) {
+					completions.add(new TypeCompletionProposal(pkgName, getImage(F_TYPE_PKG), pkgName, offset - length, length));
+					set.add(pkgName);
 				}
 			}
 			ICompletionProposal[] proposals = completions.toArray(new ICompletionProposal[completions.size()]);
@@ -338,12 +334,10 @@ public class ManifestContentAssistProcessor extends TypePackageCompletionProcess
 
 			String pluginStart = removeLeadingSpaces(currentValue);
 			int length = pluginStart.length();
-			IPluginModelBase[] bases = PluginRegistry.getActiveModels();
-			for (IPluginModelBase base2 : bases) {
-				desc = base2.getBundleDescription();
-				if (desc != null && desc.getHost() == null) {
-					String pluginID = base2.getBundleDescription().getSymbolicName();
-					if (!completions.containsKey(pluginID) && pluginID.regionMatches(true, 0, pluginStart, 0, length) && !pluginID.equals(currentId))
+			for (BundleDescription host : StateCompletionIndex.getDefault().getBundles(pluginStart)) {
+				if (host.getHost() == null) {
+					String pluginID = host.getSymbolicName();
+					if (!completions.containsKey(pluginID) && !pluginID.equals(currentId))
 						completions.put(pluginID, new TypeCompletionProposal(pluginID, getImage(F_TYPE_BUNDLE), pluginID, offset - length, length));
 				}
 			}
@@ -434,16 +428,12 @@ public class ManifestContentAssistProcessor extends TypePackageCompletionProcess
 		int length = value.length();
 		doNotInclude.remove(value);
 		ArrayList<TypeCompletionProposal> completions = new ArrayList<>();
-		IPluginModelBase[] bases = PluginRegistry.getActiveModels();
-		for (IPluginModelBase base : bases) {
-			BundleDescription desc = base.getBundleDescription();
-			if (desc != null) {
-				if (!includeFragments && desc.getHost() != null)
-					continue;
-				String bundleId = desc.getSymbolicName();
-				if (bundleId.regionMatches(true, 0, value, 0, value.length()) && !doNotInclude.contains(bundleId))
-					completions.add(new TypeCompletionProposal(bundleId, getImage(type), bundleId, offset - length, length));
-			}
+		for (BundleDescription desc : StateCompletionIndex.getDefault().getBundles(value)) {
+			if (!includeFragments && desc.getHost() != null)
+				continue;
+			String bundleId = desc.getSymbolicName();
+			if (!doNotInclude.contains(bundleId))
+				completions.add(new TypeCompletionProposal(bundleId, getImage(type), bundleId, offset - length, length));
 		}
 		return completions.toArray(new ICompletionProposal[completions.size()]);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,7 @@ public class WorkspaceDataBlock extends BaseBlock {
 
 	private Button fClearWorkspaceCheck;
 	private Button fAskClearCheck;
+	private Button fClearInBackgroundCheck;
 	private Button fClearWorkspaceRadio;
 	private Button fClearWorkspaceLogRadio;
 
@@ -82,13 +83,17 @@ public class WorkspaceDataBlock extends BaseBlock {
 			fAskClearCheck.setEnabled(fClearWorkspaceCheck.getSelection());
 			fClearWorkspaceRadio.setEnabled(fClearWorkspaceCheck.getSelection());
 			fClearWorkspaceLogRadio.setEnabled(fClearWorkspaceCheck.getSelection());
+			updateClearInBackgroundEnablement();
 			fTab.updateLaunchConfigurationDialog();
 		}));
 
 		fClearWorkspaceRadio = new Button(buttons, SWT.RADIO);
 		fClearWorkspaceRadio.setText(PDEUIMessages.WorkspaceDataBlock_clearWorkspace);
 		fClearWorkspaceRadio.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING));
-		fClearWorkspaceRadio.addSelectionListener(widgetSelectedAdapter(e -> fTab.updateLaunchConfigurationDialog()));
+		fClearWorkspaceRadio.addSelectionListener(widgetSelectedAdapter(e -> {
+			updateClearInBackgroundEnablement();
+			fTab.updateLaunchConfigurationDialog();
+		}));
 		fClearWorkspaceLogRadio = new Button(buttons, SWT.RADIO);
 		fClearWorkspaceLogRadio.setText(PDEUIMessages.WorkspaceDataBlock_clearLog);
 		fClearWorkspaceLogRadio.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
@@ -97,7 +102,7 @@ public class WorkspaceDataBlock extends BaseBlock {
 		createButtons(buttons, new String[] {PDEUIMessages.BaseBlock_workspace, PDEUIMessages.BaseBlock_filesystem, PDEUIMessages.BaseBlock_variables});
 
 		Composite buttons2 = new Composite(group, SWT.NONE);
-		layout = new GridLayout(2, false);
+		layout = new GridLayout(3, false);
 		layout.marginHeight = layout.marginWidth = 0;
 		buttons2.setLayout(layout);
 		gd = new GridData(GridData.FILL_HORIZONTAL);
@@ -108,6 +113,10 @@ public class WorkspaceDataBlock extends BaseBlock {
 		fAskClearCheck.setText(PDEUIMessages.WorkspaceDataBlock_askClear);
 		fAskClearCheck.addSelectionListener(fListener);
 
+		fClearInBackgroundCheck = new Button(buttons2, SWT.CHECK);
+		fClearInBackgroundCheck.setText(PDEUIMessages.WorkspaceDataBlock_clearInBackground);
+		fClearInBackgroundCheck.addSelectionListener(fListener);
+
 		final Link configureDefaults = new Link(buttons2, SWT.NONE);
 		configureDefaults.setLayoutData(new GridData(SWT.END, SWT.FILL, true, false));
 		configureDefaults.setText("<A>" + PDEUIMessages.WorkspaceDataBlock_configureDefaults + "</A>"); //$NON-NLS-1$//$NON-NLS-2$
@@ -136,6 +145,11 @@ public class WorkspaceDataBlock extends BaseBlock {
 		config.setAttribute(IPDELauncherConstants.DOCLEAR, fClearWorkspaceCheck.getSelection());
 		config.setAttribute(IPDELauncherConstants.ASKCLEAR, fAskClearCheck.getSelection());
 		config.setAttribute(IPDEConstants.DOCLEARLOG, fClearWorkspaceLogRadio.getSelection());
+		config.setAttribute(IPDEConstants.DOCLEAR_IN_BACKGROUND, fClearInBackgroundCheck.getSelection());
+	}
+
+	private void updateClearInBackgroundEnablement() {
+		fClearInBackgroundCheck.setEnabled(fClearWorkspaceCheck.getSelection() && fClearWorkspaceRadio.getSelection());
 	}
 
 	public void initializeFrom(ILaunchConfiguration configuration, boolean isJUnit) throws CoreException {
@@ -149,6 +163,8 @@ public class WorkspaceDataBlock extends BaseBlock {
 		fClearWorkspaceLogRadio.setSelection(configuration.getAttribute(IPDEConstants.DOCLEARLOG, false));
 		fClearWorkspaceRadio.setEnabled(fClearWorkspaceCheck.getSelection());
 		fClearWorkspaceRadio.setSelection(!configuration.getAttribute(IPDEConstants.DOCLEARLOG, false));
+		fClearInBackgroundCheck.setSelection(configuration.getAttribute(IPDEConstants.DOCLEAR_IN_BACKGROUND, false));
+		updateClearInBackgroundEnablement();
 
 		if (configuration instanceof ILaunchConfigurationWorkingCopy)
 			fIsCreatedLaunchConfiguration = ((ILaunchConfigurationWorkingCopy) configuration).removeAttribute(ATTR_IS_NEWLY_CREATED) != null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2007, 2015 IBM Corporation and others.
+ *  Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ package org.eclipse.pde.internal.ui.search.dialogs;
 
 import com.ibm.icu.text.BreakIterator;
 import java.io.File;
+import java.util.Collection;
 import java.util.Comparator;
 import org.eclipse.core.runtime.*;
 import org.eclipse.jdt.ui.JavaUI;
@@ -352,15 +353,11 @@ public class FilteredPluginArtifactsSelectionDialog extends FilteredItemsSelecti
 
 	@Override
 	protected void fillContentProvider(AbstractContentProvider contentProvider, ItemsFilter itemsFilter, IProgressMonitor progressMonitor) throws CoreException {
+		PluginArtifactIndex index = PluginArtifactIndex.getDefault();
+		IFeatureModel[] fModels = index.getFeatures();
+		Collection<Object[]> artifacts = index.getPluginArtifacts();
 
-		PluginModelManager manager = PDECore.getDefault().getModelManager();
-		IPluginModelBase[] models = manager.getActiveModels(true);
-
-		FeatureModelManager fManager = PDECore.getDefault().getFeatureModelManager();
-		IFeatureModel[] fModels = fManager.getModels();
-
-		SubMonitor subMonitor = SubMonitor.convert(progressMonitor,
-				PDEUIMessages.FilteredPluginArtifactsSelectionDialog_searching, models.length * 2 + fModels.length);
+		SubMonitor subMonitor = SubMonitor.convert(progressMonitor, PDEUIMessages.FilteredPluginArtifactsSelectionDialog_searching, fModels.length + artifacts.size());
 
 		// cycle through all the features first
 		for (IFeatureModel model : fModels) {
@@ -368,37 +365,11 @@ public class FilteredPluginArtifactsSelectionDialog extends FilteredItemsSelecti
 			subMonitor.worked(1);
 		}
 
-		// cycle through all the models and grab entries
-		for (IPluginModelBase model : models) {
-			IPluginExtensionPoint[] eps = model.getPluginBase().getExtensionPoints();
-			IPluginExtension[] extensions = model.getPluginBase().getExtensions();
-			int length = eps.length + extensions.length;
-			SubMonitor subMonitor2 = subMonitor.split(1).setWorkRemaining(length);
-			for (IPluginExtensionPoint ep : eps) {
-				contentProvider.add(ep, itemsFilter);
-				subMonitor2.worked(1);
-			}
-			for (IPluginExtension extension : extensions) {
-				contentProvider.add(extension, itemsFilter);
-				subMonitor2.worked(1);
-			}
-
-			subMonitor2 = subMonitor.split(1);
-			BundleDescription desc = model.getBundleDescription();
-			if (desc != null) {
-				ExportPackageDescription[] epds = desc.getExportPackages();
-				subMonitor2.setWorkRemaining(epds.length);
-				for (ExportPackageDescription epd : epds) {
-					// ensure we don't get EE packages
-					int ee = ((Integer) epd.getDirective("x-equinox-ee")).intValue(); //$NON-NLS-1$
-					if (ee < 0) {
-						contentProvider.add(epd, itemsFilter);
-					}
-					subMonitor2.worked(1);
-				}
-			}
-
-			contentProvider.add(model, itemsFilter);
+		// then the plug-ins, one batch of artifacts per plug-in id
+		for (Object[] batch : artifacts) {
+			subMonitor.split(1);
+			for (Object artifact : batch)
+				contentProvider.add(artifact, itemsFilter);
 		}
 	}
 
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.ui.search.dialogs;
+
+import java.util.*;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.pde.core.plugin.*;
+import org.eclipse.pde.internal.core.*;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+
+/**
+ * In-memory index of the artifacts shown by the
+ * {@link FilteredPluginArtifactsSelectionDialog}: plug-ins, extensions,
+ * extension points, exported packages and features.
+ * <p>
+ * The index is built the first time the dialog searches, so that subsequent
+ * searches only walk flat arrays instead of every model's extension tree.
+ * Artifacts are grouped per plug-in id. Model deltas only mark the ids they
+ * affect, which are re-indexed on the next search rather than on the thread
+ * sending the delta.
+ * </p>
+ */
+public class PluginArtifactIndex implements IPluginModelListener, IFeatureModelListener {
+
+	private static PluginArtifactIndex fInstance;
+
+	/**
+	 * Artifacts per plug-in id, <code>null</code> until first requested.
+	 * Guarded by this index.
+	 */
+	private Map<String, Object[]> fPluginArtifacts;
+	private volatile IFeatureModel[] fFeatures;
+	/**
+	 * Ids of the plug-ins changed by deltas since the index was last brought
+	 * up to date. Guarded by itself.
+	 */
+	private final Set<String> fChangedIds = new HashSet<>();
+
+	/**
+	 * @return the shared index, listening to model changes from now on
+	 */
+	public static synchronized PluginArtifactIndex getDefault() {
+		if (fInstance == null) {
+			fInstance = new PluginArtifactIndex();
+			PDECore.getDefault().getModelManager().addPluginModelListener(fInstance);
+			PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(fInstance);
+		}
+		return fInstance;
+	}
+
+	/**
+	 * Stops listening to model changes and releases the index.
+	 */
+	public static synchronized void shutdown() {
+		if (fInstance != null) {
+			PDECore core = PDECore.getDefault();
+			if (core != null) {
+				core.getModelManager().removePluginModelListener(fInstance);
+				core.getFeatureModelManager().removeFeatureModelListener(fInstance);
+			}
+			fInstance = null;
+		}
+	}
+
+	private PluginArtifactIndex() {
+	}
+
+	/**
+	 * Returns the indexed feature models.
+	 */
+	public IFeatureModel[] getFeatures() {
+		IFeatureModel[] features = fFeatures;
+		if (features == null) {
+			features = PDECore.getDefault().getFeatureModelManager().getModels();
+			fFeatures = features;
+		}
+		return features;
+	}
+
+	/**
+	 * Returns the indexed plug-in artifacts, one array per plug-in id holding
+	 * the models, extension points, extensions and exported packages of all
+	 * active models with that id. Builds the index or re-indexes the plug-ins
+	 * changed since the last call first.
+	 */
+	public synchronized Collection<Object[]> getPluginArtifacts() {
+		Set<String> changedIds;
+		synchronized (fChangedIds) {
+			changedIds = new HashSet<>(fChangedIds);
+			fChangedIds.clear();
+		}
+		if (fPluginArtifacts == null) {
+			// deltas received while building are applied on the next call
+			fPluginArtifacts = build();
+		} else {
+			for (String id : changedIds) {
+				ModelEntry entry = PluginRegistry.findEntry(id);
+				IPluginModelBase[] models = entry == null ? new IPluginModelBase[0] : entry.getActiveModels();
+				if (models.length == 0)
+					fPluginArtifacts.remove(id);
+				else
+					fPluginArtifacts.put(id, collectArtifacts(models));
+			}
+		}
+		return new ArrayList<>(fPluginArtifacts.values());
+	}
+
+	private static Map<String, Object[]> build() {
+		Map<String, List<IPluginModelBase>> byId = new HashMap<>();
+		for (IPluginModelBase model : PDECore.getDefault().getModelManager().getActiveModels(true)) {
+			String id = model.getPluginBase().getId();
+			if (id != null)
+				byId.computeIfAbsent(id, key -> new ArrayList<>(1)).add(model);
+		}
+		Map<String, Object[]> artifacts = new HashMap<>(byId.size() * 4 / 3 + 1);
+		for (Map.Entry<String, List<IPluginModelBase>> entry : byId.entrySet()) {
+			List<IPluginModelBase> models = entry.getValue();
+			artifacts.put(entry.getKey(), collectArtifacts(models.toArray(new IPluginModelBase[models.size()])));
+		}
+		return artifacts;
+	}
+
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		synchronized (fChangedIds) {
+			addIds(delta.getRemovedEntries());
+			addIds(delta.getAddedEntries());
+			addIds(delta.getChangedEntries());
+		}
+	}
+
+	@Override
+	public void modelsChanged(IFeatureModelDelta delta) {
+		fFeatures = null;
+	}
+
+	private void addIds(ModelEntry[] entries) {
+		for (ModelEntry entry : entries)
+			fChangedIds.add(entry.getId());
+	}
+
+	private static Object[] collectArtifacts(IPluginModelBase[] models) {
+		List<Object> artifacts = new ArrayList<>();
+		for (IPluginModelBase model : models) {
+			artifacts.add(model);
+			IPluginBase base = model.getPluginBase();
+			Collections.addAll(artifacts, base.getExtensionPoints());
+			Collections.addAll(artifacts, base.getExtensions());
+			BundleDescription desc = model.getBundleDescription();
+			if (desc != null) {
+				for (ExportPackageDescription epd : desc.getExportPackages()) {
+					// ensure we don't get EE packages
+					Object ee = epd.getDirective("x-equinox-ee"); //$NON-NLS-1$
+					if (!(ee instanceof Integer) || ((Integer) ee).intValue() < 0)
+						artifacts.add(epd);
+				}
+			}
+		}
+		return artifacts.toArray();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2015 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.util.*;
 import org.eclipse.jface.viewers.IStructuredContentProvider;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.builders.BundleDependencyGraph;
 
 public class CallersListContentProvider extends CallersContentProvider implements IStructuredContentProvider {
 
@@ -37,23 +38,14 @@ public class CallersListContentProvider extends CallersContentProvider implement
 			desc = (BundleDescription) inputElement;
 		}
 		if (desc != null) {
-			Set<BundleDescription> callers = new HashSet<>();
-			Set<BundleDescription> candidates = new HashSet<>();
-			candidates.addAll(findReferences(desc));
-			while (!candidates.isEmpty()) {
-				Set<BundleDescription> newCandidates = new HashSet<>();
-				for (Iterator<BundleDescription> it = candidates.iterator(); it.hasNext();) {
-					BundleDescription o = it.next();
-					it.remove();
-					if (!callers.contains(o)) {
-						callers.add(o);
-						newCandidates.addAll(findReferences(o));
-					}
-				}
-				candidates = newCandidates;
-
+			if (desc.getHost() == null)
+				return BundleDependencyGraph.getDefault().getTransitiveDependents(desc);
+			// for fragment, start from the hosts
+			Set<BundleDescription> callers = new LinkedHashSet<>();
+			for (BundleDescription host : findReferences(desc)) {
+				callers.add(host);
+				callers.addAll(Arrays.asList(BundleDependencyGraph.getDefault().getTransitiveDependents(host)));
 			}
-
 			return callers.toArray();
 		}
 		return new Object[0];
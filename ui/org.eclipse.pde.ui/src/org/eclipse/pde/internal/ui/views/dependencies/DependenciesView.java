@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.pde.internal.ui.views.dependencies;
 import java.util.*;
 import org.eclipse.jface.action.*;
 import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.*;
 import org.eclipse.pde.internal.core.PDECore;
@@ -410,8 +411,9 @@ public class DependenciesView extends PageBookView implements IPreferenceConstan
 		fLoops = NO_LOOPS;
 		if (fInput != null && fInput instanceof IPluginModel) {
 			BusyIndicator.showWhile(PDEPlugin.getActiveWorkbenchShell().getDisplay(), () -> {
-				IPlugin plugin = ((IPluginModel) fInput).getPlugin();
-				DependencyLoop[] loops = DependencyLoopFinder.findLoops(plugin);
+				IPluginModel model = (IPluginModel) fInput;
+				BundleDescription desc = model.getBundleDescription();
+				DependencyLoop[] loops = desc != null ? DependencyLoopFinder.findLoops(desc) : DependencyLoopFinder.findLoops(model.getPlugin());
 				if (loops.length > 0) {
 					fLoops = loops;
 				}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2018 Christian Pontesegger and others.
+ *  Copyright (c) 2012, 2026 Christian Pontesegger and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -472,7 +472,7 @@ public class ImageBrowserView extends ViewPart implements IImageTarget {
 					}
 
 					Button button = new Button(mPluginImageContainer, SWT.FLAT);
-					Image image = new Image(getViewSite().getShell().getDisplay(), element.getImageData());
+					Image image = new Image(getViewSite().getShell().getDisplay(), element.getThumbnailData());
 					displayedImages.add(image);
 					button.setImage(image);
 					button.setToolTipText(element.getPath());
@@ -534,8 +534,8 @@ public class ImageBrowserView extends ViewPart implements IImageTarget {
 				lblPlugin.setText(((ImageElement) data).getFullPlugin());
 				txtReference.setText("platform:/plugin/" + ((ImageElement) data).getPlugin() + "/" + ((ImageElement) data).getPath()); //$NON-NLS-1$ //$NON-NLS-2$
 
-				lblWidth.setText(NLS.bind(PDEUIMessages.ImageBrowserView_Pixels, Integer.toString(((ImageElement) data).getImageData().width)));
-				lblHeight.setText(NLS.bind(PDEUIMessages.ImageBrowserView_Pixels, Integer.toString(((ImageElement) data).getImageData().height)));
+				lblWidth.setText(NLS.bind(PDEUIMessages.ImageBrowserView_Pixels, Integer.toString(((ImageElement) data).getWidth())));
+				lblHeight.setText(NLS.bind(PDEUIMessages.ImageBrowserView_Pixels, Integer.toString(((ImageElement) data).getHeight())));
 
 				imageElement = (ImageElement) data;
 				saveAction.setEnabled(true);
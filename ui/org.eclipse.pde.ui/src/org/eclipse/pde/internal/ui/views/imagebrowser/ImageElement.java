@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012 Christian Pontesegger and others.
+ *  Copyright (c) 2012, 2026 Christian Pontesegger and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 
 package org.eclipse.pde.internal.ui.views.imagebrowser;
 
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.eclipse.core.runtime.Path;
@@ -22,12 +23,41 @@ import org.eclipse.swt.graphics.ImageData;
 public class ImageElement {
 
 	private static final Pattern PLUGIN_PATTERN = Pattern.compile("([a-zA-Z0-9]+\\.[a-zA-Z0-9\\.]+)_.+"); //$NON-NLS-1$
-	private final ImageData mImageData;
+	private ImageData mImageData;
+	private ImageData mThumbnailData;
+	private final Supplier<ImageData> mImageLoader;
+	private final Supplier<ImageData> mThumbnailLoader;
+	private final int mWidth;
+	private final int mHeight;
 	private final String mPlugin;
 	private final String mPath;
 
 	public ImageElement(final ImageData image, final String plugin, final String path) {
 		mImageData = image;
+		mThumbnailData = image;
+		mImageLoader = null;
+		mThumbnailLoader = null;
+		mWidth = image.width;
+		mHeight = image.height;
+		mPlugin = plugin;
+		mPath = path;
+	}
+
+	/**
+	 * Creates an element whose image is only decoded when it is needed.
+	 *
+	 * @param image loads the image at its full size
+	 * @param thumbnail loads the image scaled down for display
+	 * @param width width of the full size image
+	 * @param height height of the full size image
+	 * @param plugin plug-in containing the image
+	 * @param path path of the image in the plug-in
+	 */
+	public ImageElement(final Supplier<ImageData> image, final Supplier<ImageData> thumbnail, final int width, final int height, final String plugin, final String path) {
+		mImageLoader = image;
+		mThumbnailLoader = thumbnail;
+		mWidth = width;
+		mHeight = height;
 		mPlugin = plugin;
 		mPath = path;
 	}
@@ -50,10 +80,31 @@ public class ImageElement {
 		return mPath;
 	}
 
-	public ImageData getImageData() {
+	public synchronized ImageData getImageData() {
+		if (mImageData == null)
+			mImageData = mImageLoader.get();
+
 		return mImageData;
 	}
 
+	/**
+	 * @return the image to display, which may be scaled down
+	 */
+	public synchronized ImageData getThumbnailData() {
+		if (mThumbnailData == null)
+			mThumbnailData = mThumbnailLoader.get();
+
+		return mThumbnailData;
+	}
+
+	public int getWidth() {
+		return mWidth;
+	}
+
+	public int getHeight() {
+		return mHeight;
+	}
+
 	public String getFileName() {
 		return new Path(mPath).lastSegment();
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2015 Christian Pontesegger and others.
+ *  Copyright (c) 2012, 2026 Christian Pontesegger and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -40,25 +40,25 @@ public class SizeFilter implements IFilter {
 
 		switch (mWidthType) {
 			case TYPE_EXACT :
-				accept &= (element.getImageData().width == mWidth);
+				accept &= (element.getWidth() == mWidth);
 				break;
 			case TYPE_BIGGER_EQUALS :
-				accept &= (element.getImageData().width >= mWidth);
+				accept &= (element.getWidth() >= mWidth);
 				break;
 			case TYPE_SMALLER_EQUALS :
-				accept &= (element.getImageData().width <= mWidth);
+				accept &= (element.getWidth() <= mWidth);
 				break;
 		}
 
 		switch (mHeightType) {
 			case TYPE_EXACT :
-				accept &= (element.getImageData().height == mHeight);
+				accept &= (element.getHeight() == mHeight);
 				break;
 			case TYPE_BIGGER_EQUALS :
-				accept &= (element.getImageData().height >= mHeight);
+				accept &= (element.getHeight() >= mHeight);
 				break;
 			case TYPE_SMALLER_EQUALS :
-				accept &= (element.getImageData().height <= mHeight);
+				accept &= (element.getHeight() <= mHeight);
 				break;
 		}
 
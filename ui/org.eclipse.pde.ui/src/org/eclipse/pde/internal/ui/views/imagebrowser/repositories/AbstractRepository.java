@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2014 Christian Pontesegger and others.
+ *  Copyright (c) 2012, 2026 Christian Pontesegger and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,16 +16,14 @@ package org.eclipse.pde.internal.ui.views.imagebrowser.repositories;
 
 import java.io.*;
 import java.util.*;
-import java.util.zip.*;
+import java.util.stream.Collectors;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.*;
 import org.eclipse.core.runtime.jobs.Job;
-import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.ui.PDEPlugin;
 import org.eclipse.pde.internal.ui.PDEUIMessages;
 import org.eclipse.pde.internal.ui.views.imagebrowser.IImageTarget;
 import org.eclipse.pde.internal.ui.views.imagebrowser.ImageElement;
-import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.ImageData;
 
 public abstract class AbstractRepository extends Job {
@@ -97,29 +95,24 @@ public abstract class AbstractRepository extends Job {
 	}
 
 	protected void searchJarFile(final File jarFile, final IProgressMonitor monitor) {
-		try (ZipFile zipFile = new ZipFile(jarFile)) {
-			Enumeration<? extends ZipEntry> entries = zipFile.entries();
-			while ((entries.hasMoreElements()) && (!monitor.isCanceled())) {
-				ZipEntry entry = entries.nextElement();
-				if (isImageName(entry.getName())) {
-					try (InputStream inputStream = zipFile.getInputStream(entry)) {
-						ImageData imageData = new ImageData(inputStream);
-						addImageElement(new ImageElement(imageData, jarFile.getName(), entry.getName()));
-					} catch (IOException e) {
-						PDEPlugin.log(e);
-					} catch (SWTException e) {
-						// invalid image format
-						PDEPlugin.log(new Status(IStatus.ERROR, PDEPlugin.getPluginId(), NLS.bind(PDEUIMessages.AbstractRepository_ErrorLoadingImageFromJar, jarFile.getAbsolutePath(), entry.getName()), e));
-					}
-				}
-			}
-		} catch (ZipException e) {
-			PDEPlugin.log(e);
-		} catch (IOException e) {
-			PDEPlugin.log(e);
+		for (ImageElement element : ImageIndex.getDefault().getImages(jarFile, this::isImageName, monitor)) {
+			addImageElement(element);
 		}
 	}
 
+	/**
+	 * Gets the images of several jar files at once. The jars that have not
+	 * been indexed yet are read in parallel.
+	 *
+	 * @param jarFiles the jar files to search
+	 * @param monitor progress monitor, only used for cancellation
+	 * @return the images of each jar file
+	 */
+	protected Map<File, List<ImageElement>> searchJarFiles(final Collection<File> jarFiles, final IProgressMonitor monitor) {
+		ImageIndex index = ImageIndex.getDefault();
+		return jarFiles.parallelStream().distinct().collect(Collectors.toMap(jarFile -> jarFile, jarFile -> monitor.isCanceled() ? Collections.<ImageElement> emptyList() : index.getImages(jarFile, this::isImageName, monitor)));
+	}
+
 	protected void searchDirectory(File directory, final IProgressMonitor monitor) {
 		File manifest = new File(directory, "META-INF/MANIFEST.MF"); //$NON-NLS-1$
 		if (manifest.exists()) {
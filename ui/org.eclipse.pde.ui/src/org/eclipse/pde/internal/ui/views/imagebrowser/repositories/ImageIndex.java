@@ -0,0 +1,306 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.ui.views.imagebrowser.repositories;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.eclipse.core.runtime.*;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.ui.PDEPlugin;
+import org.eclipse.pde.internal.ui.PDEUIMessages;
+import org.eclipse.pde.internal.ui.views.imagebrowser.ImageElement;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+
+/**
+ * Index of the images contained in bundle jars. For every jar the path, size
+ * and dimensions of its images are stored in the state location of this
+ * plug-in together with a thumbnail of each image, keyed by the modification
+ * time and length of the jar. Browsing a jar again reads that file instead of
+ * opening the jar and decoding its images. Images up to
+ * {@link #THUMBNAIL_SIZE} pixels are their own thumbnails, larger ones are
+ * scaled down. Only the files of the {@link #MAX_INDEX_FILES} most recently
+ * used jars are kept.
+ */
+public class ImageIndex {
+
+	public static final int THUMBNAIL_SIZE = 128;
+	public static final int MAX_INDEX_FILES = 500;
+
+	private static final int INDEX_MAGIC = 0x50494958; // "PIIX"
+	private static final int INDEX_VERSION = 1;
+	private static final String INDEX_EXTENSION = ".idx"; //$NON-NLS-1$
+	private static final String TEMP_EXTENSION = ".tmp"; //$NON-NLS-1$
+
+	private static ImageIndex fDefault;
+
+	private final File fDirectory;
+
+	/**
+	 * One image of a jar.
+	 */
+	private static final class Entry {
+		final String path;
+		final long size;
+		final int width;
+		final int height;
+		final byte[] thumbnail;
+
+		Entry(String path, long size, int width, int height, byte[] thumbnail) {
+			this.path = path;
+			this.size = size;
+			this.width = width;
+			this.height = height;
+			this.thumbnail = thumbnail;
+		}
+	}
+
+	/**
+	 * Creates an index that stores its files in the given directory.
+	 *
+	 * @param directory directory for the index files, or <code>null</code> to
+	 * not store them
+	 */
+	public ImageIndex(File directory) {
+		fDirectory = directory;
+	}
+
+	static synchronized ImageIndex getDefault() {
+		if (fDefault == null) {
+			File directory = null;
+			try {
+				directory = PDEPlugin.getDefault().getStateLocation().append("imagebrowser").toFile(); //$NON-NLS-1$
+			} catch (IllegalStateException e) {
+				// no instance location, do not store the index
+			}
+			fDefault = new ImageIndex(directory);
+			fDefault.prune(MAX_INDEX_FILES);
+		}
+		return fDefault;
+	}
+
+	/**
+	 * Returns the images of a jar, from the stored index if it is up to date
+	 * and by reading the jar otherwise. May be called from several threads.
+	 *
+	 * @param jarFile the jar to get the images of
+	 * @param isImage tells which entries of the jar are images
+	 * @param monitor progress monitor, only used for cancellation
+	 * @return the images in the order of the jar, possibly empty
+	 */
+	public List<ImageElement> getImages(File jarFile, Predicate<String> isImage, IProgressMonitor monitor) {
+		Entry[] entries = readIndex(jarFile);
+		if (entries == null) {
+			entries = scan(jarFile, isImage, monitor);
+			if (entries == null) {
+				return Collections.emptyList();
+			}
+			writeIndex(jarFile, entries);
+		}
+		List<ImageElement> images = new ArrayList<>(entries.length);
+		for (Entry entry : entries) {
+			byte[] thumbnail = entry.thumbnail;
+			images.add(new ImageElement(() -> loadImage(jarFile, entry), () -> decode(thumbnail), entry.width,
+					entry.height, jarFile.getName(), entry.path));
+		}
+		return images;
+	}
+
+	/**
+	 * Reads and decodes the images of a jar.
+	 *
+	 * @return the images, or <code>null</code> if the jar could not be read
+	 * completely
+	 */
+	private Entry[] scan(File jarFile, Predicate<String> isImage, IProgressMonitor monitor) {
+		List<Entry> entries = new ArrayList<>();
+		try (ZipFile zipFile = new ZipFile(jarFile)) {
+			Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+			while (zipEntries.hasMoreElements()) {
+				if (monitor.isCanceled())
+					return null;
+				ZipEntry zipEntry = zipEntries.nextElement();
+				if (!isImage.test(zipEntry.getName()))
+					continue;
+				try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+					byte[] bytes = readFully(inputStream);
+					ImageData imageData = new ImageData(new ByteArrayInputStream(bytes));
+					entries.add(new Entry(zipEntry.getName(), bytes.length, imageData.width, imageData.height,
+							createThumbnail(imageData, bytes)));
+				} catch (SWTException e) {
+					// invalid image format
+					PDEPlugin.log(new Status(IStatus.ERROR, PDEPlugin.getPluginId(), NLS.bind(PDEUIMessages.AbstractRepository_ErrorLoadingImageFromJar, jarFile.getAbsolutePath(), zipEntry.getName()), e));
+				}
+			}
+		} catch (IOException e) {
+			PDEPlugin.log(e);
+			return null;
+		}
+		return entries.toArray(new Entry[entries.size()]);
+	}
+
+	private static byte[] createThumbnail(ImageData imageData, byte[] bytes) {
+		int max = Math.max(imageData.width, imageData.height);
+		if (max <= THUMBNAIL_SIZE)
+			return bytes;
+		int width = Math.max(1, imageData.width * THUMBNAIL_SIZE / max);
+		int height = Math.max(1, imageData.height * THUMBNAIL_SIZE / max);
+		ImageLoader loader = new ImageLoader();
+		loader.data = new ImageData[] {imageData.scaledTo(width, height)};
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		loader.save(out, SWT.IMAGE_PNG);
+		return out.toByteArray();
+	}
+
+	private static ImageData decode(byte[] bytes) {
+		return new ImageData(new ByteArrayInputStream(bytes));
+	}
+
+	/**
+	 * Loads an image at its full size from its jar. Falls back to the
+	 * thumbnail if the jar cannot be read anymore.
+	 */
+	private static ImageData loadImage(File jarFile, Entry entry) {
+		if (Math.max(entry.width, entry.height) > THUMBNAIL_SIZE) {
+			try (ZipFile zipFile = new ZipFile(jarFile)) {
+				ZipEntry zipEntry = zipFile.getEntry(entry.path);
+				if (zipEntry != null) {
+					try (InputStream inputStream = new BufferedInputStream(zipFile.getInputStream(zipEntry))) {
+						return new ImageData(inputStream);
+					}
+				}
+			} catch (IOException | SWTException e) {
+				PDEPlugin.log(e);
+			}
+		}
+		return decode(entry.thumbnail);
+	}
+
+	private static byte[] readFully(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int count;
+		while ((count = inputStream.read(buffer)) > 0) {
+			out.write(buffer, 0, count);
+		}
+		return out.toByteArray();
+	}
+
+	private File getIndexFile(File jarFile) {
+		if (fDirectory == null)
+			return null;
+		return new File(fDirectory, Integer.toHexString(jarFile.getAbsolutePath().hashCode()) + INDEX_EXTENSION);
+	}
+
+	private Entry[] readIndex(File jarFile) {
+		File file = getIndexFile(jarFile);
+		if (file == null || !file.isFile())
+			return null;
+		Entry[] entries = null;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			// files of another format, of another jar with the same hash or of a
+			// changed jar are stale
+			if (in.readInt() == INDEX_MAGIC && in.readInt() == INDEX_VERSION
+					&& jarFile.getAbsolutePath().equals(in.readUTF()) && in.readLong() == jarFile.lastModified()
+					&& in.readLong() == jarFile.length()) {
+				entries = new Entry[in.readInt()];
+				for (int i = 0; i < entries.length; i++) {
+					String path = in.readUTF();
+					long size = in.readLong();
+					int width = in.readInt();
+					int height = in.readInt();
+					byte[] thumbnail = new byte[in.readInt()];
+					in.readFully(thumbnail);
+					entries[i] = new Entry(path, size, width, height, thumbnail);
+				}
+			}
+		} catch (IOException e) {
+			// corrupt or truncated index, read the jar again
+			entries = null;
+		}
+		if (entries == null) {
+			file.delete();
+		} else {
+			// keep the index of jars in use when pruning
+			file.setLastModified(System.currentTimeMillis());
+		}
+		return entries;
+	}
+
+	/**
+	 * Deletes the index files of all but the given number of most recently
+	 * used jars, as well as files left over by interrupted writes.
+	 *
+	 * @param maxFiles the number of index files to keep
+	 */
+	public void prune(int maxFiles) {
+		if (fDirectory == null)
+			return;
+		File[] files = fDirectory.listFiles();
+		if (files == null)
+			return;
+		List<File> indexFiles = new ArrayList<>(files.length);
+		for (File file : files) {
+			if (file.getName().endsWith(INDEX_EXTENSION))
+				indexFiles.add(file);
+			else if (file.getName().endsWith(TEMP_EXTENSION))
+				file.delete();
+		}
+		if (indexFiles.size() <= maxFiles)
+			return;
+		Map<File, Long> lastModified = new HashMap<>();
+		for (File file : indexFiles)
+			lastModified.put(file, Long.valueOf(file.lastModified()));
+		indexFiles.sort((file1, file2) -> lastModified.get(file2).compareTo(lastModified.get(file1)));
+		for (File file : indexFiles.subList(maxFiles, indexFiles.size()))
+			file.delete();
+	}
+
+	private void writeIndex(File jarFile, Entry[] entries) {
+		File file = getIndexFile(jarFile);
+		if (file == null)
+			return;
+		try {
+			fDirectory.mkdirs();
+			File temp = File.createTempFile("images", TEMP_EXTENSION, fDirectory); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(INDEX_MAGIC);
+				out.writeInt(INDEX_VERSION);
+				out.writeUTF(jarFile.getAbsolutePath());
+				out.writeLong(jarFile.lastModified());
+				out.writeLong(jarFile.length());
+				out.writeInt(entries.length);
+				for (Entry entry : entries) {
+					out.writeUTF(entry.path);
+					out.writeLong(entry.size);
+					out.writeInt(entry.width);
+					out.writeInt(entry.height);
+					out.writeInt(entry.thumbnail.length);
+					out.write(entry.thumbnail);
+				}
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			// keep working without the stored index
+		}
+	}
+}
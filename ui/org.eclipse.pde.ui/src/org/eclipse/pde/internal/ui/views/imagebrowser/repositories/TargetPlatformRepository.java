@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2016 Christian Pontesegger and others.
+ *  Copyright (c) 2012, 2026 Christian Pontesegger and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -24,10 +24,16 @@ import org.eclipse.pde.core.target.*;
 import org.eclipse.pde.internal.ui.PDEPlugin;
 import org.eclipse.pde.internal.ui.PDEUIMessages;
 import org.eclipse.pde.internal.ui.views.imagebrowser.IImageTarget;
+import org.eclipse.pde.internal.ui.views.imagebrowser.ImageElement;
 import org.eclipse.ui.PlatformUI;
 
 public class TargetPlatformRepository extends AbstractRepository {
 
+	/**
+	 * Number of bundles searched at once
+	 */
+	private static final int BATCH_SIZE = 32;
+
 	private List<TargetBundle> fBundles = null;
 	private boolean fUseCurrent;
 
@@ -51,14 +57,35 @@ public class TargetPlatformRepository extends AbstractRepository {
 			initialize(monitor);
 
 		if ((fBundles != null) && (!fBundles.isEmpty())) {
-			TargetBundle bundle = fBundles.remove(fBundles.size() - 1);
-			URI location = bundle.getBundleInfo().getLocation();
-			File file = new File(location);
-			if (isJar(file)) {
-				searchJarFile(file, monitor);
-
-			} else if (file.isDirectory()) {
-				searchDirectory(file, monitor);
+			// take the next bundles and search their jars in parallel
+			List<File> files = new ArrayList<>(BATCH_SIZE);
+			while (files.size() < BATCH_SIZE && !fBundles.isEmpty()) {
+				TargetBundle bundle = fBundles.remove(fBundles.size() - 1);
+				URI location = bundle.getBundleInfo().getLocation();
+				if (location != null)
+					files.add(new File(location));
+			}
+
+			List<File> jarFiles = new ArrayList<>(files.size());
+			for (File file : files) {
+				if (isJar(file))
+					jarFiles.add(file);
+			}
+			Map<File, List<ImageElement>> images = searchJarFiles(jarFiles, monitor);
+
+			// add the images in the order of the bundles
+			for (File file : files) {
+				if (monitor.isCanceled())
+					break;
+
+				if (isJar(file)) {
+					for (ImageElement element : images.get(file)) {
+						addImageElement(element);
+					}
+
+				} else if (file.isDirectory()) {
+					searchDirectory(file, monitor);
+				}
 			}
 
 			return true;
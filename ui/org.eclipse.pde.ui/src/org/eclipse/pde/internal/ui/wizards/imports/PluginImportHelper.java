@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2018 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@ package org.eclipse.pde.internal.ui.wizards.imports;
 
 import java.io.*;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.util.zip.ZipFile;
 import org.eclipse.core.resources.IFile;
@@ -57,6 +59,41 @@ public class PluginImportHelper {
 		}
 	}
 
+	/**
+	 * Writes the given files and folders of a zip file or folder to a directory in
+	 * the file system, without going through the workspace. The files end up in
+	 * the same place as with {@link #importContent(Object, IPath, IImportStructureProvider, List, IProgressMonitor)},
+	 * so the directory can later be added to the workspace as a project. Unlike
+	 * that method this one may be called from several threads at once.
+	 *
+	 * @param source the file or folder to import from, should either be the root of the zip file or the File representing the folder
+	 * @param provider structure provider for the source
+	 * @param filesToImport the files and folders to write, folders are written with all their content
+	 * @param destination the directory to write to
+	 * @throws IOException if a file cannot be read or written
+	 */
+	public static void extractContent(Object source, IImportStructureProvider provider, List<Object> filesToImport, File destination) throws IOException {
+		int sourceSegments = new Path(provider.getFullPath(source)).segmentCount();
+		for (Object element : filesToImport) {
+			if (provider.isFolder(element)) {
+				List<?> children = provider.getChildren(element);
+				if (children != null) {
+					extractContent(source, provider, new ArrayList<>(children), destination);
+				}
+				continue;
+			}
+			IPath relativePath = new Path(provider.getFullPath(element)).removeFirstSegments(sourceSegments).setDevice(null);
+			File file = new File(destination, relativePath.toOSString());
+			file.getParentFile().mkdirs();
+			try (InputStream stream = provider.getContents(element)) {
+				if (stream == null) {
+					throw new IOException(file.getPath());
+				}
+				Files.copy(stream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
+
 	/**
 	 * Extracts the contents of the specified zip file to the specified destination
 	 * @param file
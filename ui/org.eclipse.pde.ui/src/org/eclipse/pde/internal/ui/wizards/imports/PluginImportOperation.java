@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@ package org.eclipse.pde.internal.ui.wizards.imports;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.util.List;
 import java.util.Map.Entry;
@@ -76,7 +78,7 @@ public class PluginImportOperation extends WorkspaceJob {
 
 	private IPluginModelBase[] fModels;
 	private int fImportType;
-	private Hashtable<IProject, IClasspathEntry[]> fProjectClasspaths = new Hashtable<>();
+	private Map<IProject, IClasspathEntry[]> fProjectClasspaths = new LinkedHashMap<>();
 
 	/**
 	 * Maps project ids to a List of IWorkingSets, the map is filled when determining what projects to delete
@@ -95,6 +97,30 @@ public class PluginImportOperation extends WorkspaceJob {
 
 	private boolean fPluginsAreInUse = false;
 
+	/**
+	 * A binary plug-in jar whose content is written to a staging directory
+	 * before its project is created. The directory becomes the location of
+	 * the project.
+	 */
+	private static class StagedImport {
+		final IPluginModelBase model;
+		final File directory;
+		Map<String, IPath> sourceMap;
+		Exception error;
+
+		StagedImport(IPluginModelBase model, File directory) {
+			this.model = model;
+			this.directory = directory;
+		}
+	}
+
+	/**
+	 * Plug-ins whose content has been staged, <code>null</code> if
+	 * {@link #stageBinaryPlugins(IProgressMonitor)} did not run yet.
+	 */
+	private List<StagedImport> fStagedImports;
+	private File fStagingDirectory;
+
 	/**
 	 * Constructor
 	 * @param models models of plug-ins to import
@@ -242,7 +268,25 @@ public class PluginImportOperation extends WorkspaceJob {
 				}
 			}
 		} else {
-			for (IPluginModelBase model : fModels) {
+			List<IPluginModelBase> models = new ArrayList<>(Arrays.asList(fModels));
+			if (fImportType == IMPORT_BINARY) {
+				try {
+					// usually done before the operation was scheduled
+					stageBinaryPlugins(subMonitor.split(0));
+					importStaged(models, multiStatus, subMonitor);
+				} finally {
+					discardStagedPlugins();
+				}
+				if (subMonitor.isCanceled()) {
+					try {
+						setClasspaths(subMonitor.split(1));
+					} catch (JavaModelException e) {
+						/* Do nothing as we are already cancelled */
+					}
+					return Status.CANCEL_STATUS;
+				}
+			}
+			for (IPluginModelBase model : models) {
 				subMonitor.setTaskName(NLS.bind(PDEUIMessages.PluginImportOperation_Importing_plugin,
 						model.getPluginBase().getId()));
 				try {
@@ -427,14 +471,239 @@ public class PluginImportOperation extends WorkspaceJob {
 	 * @throws JavaModelException if a classpath could not be set
 	 */
 	private void setClasspaths(IProgressMonitor monitor) throws JavaModelException {
-		SubMonitor subMonitor = SubMonitor.convert(monitor, fProjectClasspaths.size());
-		Enumeration<IProject> keys = fProjectClasspaths.keys();
-		while (keys.hasMoreElements()) {
-			IProject project = keys.nextElement();
-			IClasspathEntry[] classpath = fProjectClasspaths.get(project);
-			subMonitor.subTask(project.getName());
-			JavaCore.create(project).setRawClasspath(classpath, subMonitor.split(1));
+		if (fProjectClasspaths.isEmpty()) {
+			return;
+		}
+		// Set all classpaths in one Java model operation so that the projects
+		// are resolved and reported once rather than after every project
+		try {
+			JavaCore.run(runMonitor -> {
+				SubMonitor subMonitor = SubMonitor.convert(runMonitor, fProjectClasspaths.size());
+				for (Entry<IProject, IClasspathEntry[]> entry : fProjectClasspaths.entrySet()) {
+					subMonitor.subTask(entry.getKey().getName());
+					JavaCore.create(entry.getKey()).setRawClasspath(entry.getValue(), subMonitor.split(1));
+				}
+			}, monitor);
+		} catch (JavaModelException e) {
+			throw e;
+		} catch (CoreException e) {
+			throw new JavaModelException(e);
+		}
+	}
+
+	/**
+	 * Writes the plug-in jars of a binary import, their source archives and the
+	 * files needed to make a plug-in project to a staging directory, in
+	 * parallel. This only uses the file system and does not need any
+	 * scheduling rule, so it should run before this operation is scheduled
+	 * with the workspace root rule. Otherwise it runs as the first step of
+	 * the operation. Does nothing for other import types or for less than
+	 * two jarred plug-ins.
+	 *
+	 * @param monitor progress monitor, cancelling discards the staged content
+	 */
+	public void stageBinaryPlugins(IProgressMonitor monitor) {
+		if (fImportType != IMPORT_BINARY || fStagedImports != null) {
+			return;
+		}
+		fStagedImports = new ArrayList<>();
+		List<IPluginModelBase> jarred = new ArrayList<>();
+		for (IPluginModelBase model : fModels) {
+			if (isJARd(model)) {
+				jarred.add(model);
+			}
+		}
+		if (jarred.size() < 2) {
+			return;
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, PDEUIMessages.PluginImportOperation_Copying_plugins, jarred.size());
+		try {
+			fStagingDirectory = Files.createTempDirectory(PDEPlugin.getDefault().getStateLocation().toFile().toPath(), "import").toFile(); //$NON-NLS-1$
+		} catch (IOException | IllegalStateException e) {
+			// import the plug-ins one by one
+			return;
+		}
+		for (int i = 0; i < jarred.size(); i++) {
+			fStagedImports.add(new StagedImport(jarred.get(i), new File(fStagingDirectory, Integer.toString(i))));
+		}
+
+		// The source location managers initialize themselves lazily, do it before they are shared
+		SourceLocationManager defaultManager = PDECore.getDefault().getSourceLocationManager();
+		defaultManager.getBundleManifestLocations();
+		defaultManager.getExtensionLocations();
+		if (fAlternateSource != null) {
+			fAlternateSource.getBundleManifestLocations();
+			fAlternateSource.getExtensionLocations();
+		}
+		fStagedImports.parallelStream().forEach(stagedImport -> {
+			if (!subMonitor.isCanceled()) {
+				stage(stagedImport);
+			}
+		});
+		if (subMonitor.isCanceled()) {
+			discardStagedPlugins();
+			return;
+		}
+		subMonitor.worked(jarred.size());
+	}
+
+	/**
+	 * Deletes the content staged by {@link #stageBinaryPlugins(IProgressMonitor)}
+	 * that was not turned into a project.
+	 */
+	public void discardStagedPlugins() {
+		if (fStagingDirectory != null) {
+			CoreUtility.deleteContent(fStagingDirectory);
+			fStagingDirectory = null;
+		}
+		fStagedImports = Collections.emptyList();
+	}
+
+	/**
+	 * Creates the projects of the staged plug-ins one after the other by moving
+	 * each staging directory to the location of its project. The models that
+	 * are imported are removed from the given list. Plug-ins that could not be
+	 * staged or moved are left in it to be imported one by one.
+	 *
+	 * @param models the models to import, updated with the models that are left
+	 * @param status the multi-status used to report problems
+	 * @param monitor progress monitor
+	 */
+	private void importStaged(List<IPluginModelBase> models, MultiStatus status, SubMonitor monitor) {
+		if (fStagedImports.isEmpty()) {
+			return;
+		}
+		SubMonitor subMonitor = monitor.split(fStagedImports.size()).setWorkRemaining(fStagedImports.size());
+		IPath rootLocation = PDEPlugin.getWorkspace().getRoot().getLocation();
+		for (StagedImport stagedImport : fStagedImports) {
+			if (subMonitor.isCanceled()) {
+				return;
+			}
+			if (stagedImport.error != null) {
+				// import it the regular way, which reports the problem
+				continue;
+			}
+			IProject project = getProjectToCreate(stagedImport.model);
+			File location = rootLocation.append(project.getName()).toFile();
+			if (location.exists()) {
+				continue;
+			}
+			try {
+				Files.move(stagedImport.directory.toPath(), location.toPath());
+			} catch (IOException e) {
+				continue;
+			}
+			models.remove(stagedImport.model);
+			subMonitor.subTask(stagedImport.model.getPluginBase().getId());
+			try {
+				createStagedProject(project, stagedImport, subMonitor.split(1));
+			} catch (CoreException e) {
+				status.merge(e.getStatus());
+			}
+		}
+	}
+
+	/**
+	 * Writes the content of a binary plug-in jar to its staging directory.
+	 * Only uses the file system so that it can run in parallel with other
+	 * plug-ins. Problems are remembered in the staged import.
+	 *
+	 * @param stagedImport the plug-in to write
+	 */
+	private void stage(StagedImport stagedImport) {
+		IPluginModelBase model = stagedImport.model;
+		File location = stagedImport.directory;
+		try {
+			if (!location.mkdirs() && !location.isDirectory()) {
+				throw new IOException(location.getPath());
+			}
+
+			// Copy the plug-in content
+			File srcFile = new File(model.getInstallLocation());
+			Files.copy(srcFile.toPath(), new File(location, srcFile.getName()).toPath(),
+					StandardCopyOption.REPLACE_EXISTING);
+
+			// Copy source from known source locations
+			Map<String, IPath> sourceMap = new HashMap<>();
+			SourceLocationManager manager = getSourceManager(model);
+			if (manager != null) {
+				for (String library : getLibraryNames(model)) {
+					String zipName = ClasspathUtilCore.getSourceZipName(library);
+					IPath srcPath = manager.findSourcePath(model.getPluginBase(), new Path(zipName));
+					if (srcPath != null) {
+						IPath dstPath = new Path(srcPath.lastSegment());
+						sourceMap.put(library, dstPath);
+						File dstFile = new File(location, dstPath.toOSString());
+						if (!dstFile.exists()) {
+							Files.copy(srcPath.toFile().toPath(), dstFile.toPath());
+						}
+					}
+				}
+
+				// Copy additional source files such as schema files for easy access,
+				// see bug 139161
+				File sourceLocation = manager.findSourcePlugin(model.getPluginBase());
+				if (sourceLocation != null) {
+					if (sourceLocation.isFile()) {
+						try (ZipFile zip = new ZipFile(sourceLocation)) {
+							ZipFileStructureProvider provider = new ZipFileStructureProvider(zip);
+							ArrayList<Object> collected = new ArrayList<>();
+							PluginImportHelper.collectNonJavaNonBuildFiles(provider, provider.getRoot(), collected);
+							PluginImportHelper.extractContent(provider.getRoot(), provider, collected, location);
+						}
+					} else {
+						ArrayList<Object> collected = new ArrayList<>();
+						PluginImportHelper.collectNonJavaNonBuildFiles(FileSystemStructureProvider.INSTANCE, sourceLocation, collected);
+						PluginImportHelper.extractContent(sourceLocation, FileSystemStructureProvider.INSTANCE, collected, location);
+					}
+				}
+			}
+			stagedImport.sourceMap = sourceMap;
+
+			// Extract the required bundle files
+			try (ZipFile zip = new ZipFile(srcFile)) {
+				ZipFileStructureProvider provider = new ZipFileStructureProvider(zip);
+				ArrayList<Object> collected = new ArrayList<>();
+				PluginImportHelper.collectRequiredBundleFiles(provider, provider.getRoot(), collected);
+				PluginImportHelper.extractContent(provider.getRoot(), provider, collected, location);
+			}
+		} catch (IOException | RuntimeException e) {
+			stagedImport.error = e;
+		}
+	}
+
+	/**
+	 * Creates the project of a staged binary plug-in over the content that was
+	 * moved to its location and sets it up the same way as
+	 * {@link #importAsBinary(IProject, IPluginModelBase, IProgressMonitor)}.
+	 *
+	 * @param project the project to create
+	 * @param stagedImport the staged plug-in
+	 * @param monitor progress monitor
+	 * @throws CoreException if the project cannot be created or set up
+	 */
+	private void createStagedProject(IProject project, StagedImport stagedImport, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 3);
+		IPluginModelBase model = stagedImport.model;
+		project.create(subMonitor.split(1));
+		if (!project.isOpen()) {
+			project.open(subMonitor.split(1));
 		}
+		project.refreshLocal(IResource.DEPTH_INFINITE, subMonitor.split(1));
+		addToWorkingSets(project);
+
+		// Modify the imported manifest to have the correct classpath
+		modifyBundleClasspathHeader(project, model);
+
+		// Mark the project as binary
+		RepositoryProvider.map(project, PDECore.BINARY_REPOSITORY_PROVIDER);
+		project.setPersistentProperty(PDECore.EXTERNAL_PROJECT_PROPERTY, PDECore.BINARY_PROJECT_VALUE);
+
+		setProjectNatures(project, model);
+
+		// Set the classpath
+		if (project.hasNature(JavaCore.NATURE_ID) && project.findMember(".classpath") == null) //$NON-NLS-1$
+			fProjectClasspaths.put(project, ClasspathComputer.getClasspath(project, model, stagedImport.sourceMap, true, false));
 	}
 
 	/**
@@ -658,6 +927,27 @@ public class PluginImportOperation extends WorkspaceJob {
 	 */
 	private IProject createProject(IPluginModelBase model, IProgressMonitor monitor) throws TeamException, CoreException {
 		monitor.beginTask("", 2); //$NON-NLS-1$
+		IProject project = getProjectToCreate(model);
+
+		project.create(monitor);
+		if (!project.isOpen())
+			project.open(monitor);
+
+		addToWorkingSets(project);
+
+		monitor.worked(1);
+
+		return project;
+	}
+
+	/**
+	 * Chooses the project to create for a plug-in. The project is named after
+	 * the plug-in id, unless such a project or project location already exists.
+	 *
+	 * @param model plug-in being imported
+	 * @return the project to create
+	 */
+	private IProject getProjectToCreate(IPluginModelBase model) {
 		IProject project = findProject(model.getPluginBase().getId());
 		if (project.exists() || new File(project.getParent().getLocation().toFile(), project.getName()).exists()) {
 
@@ -677,13 +967,16 @@ public class PluginImportOperation extends WorkspaceJob {
 				}
 			}
 		}
+		return project;
+	}
 
-		project.create(monitor);
-		if (!project.isOpen())
-			project.open(monitor);
-
-		// If we know that a previous project of the same name belonged to one
-		// or more working sets, add the new project to them
+	/**
+	 * If we know that a previous project of the same name belonged to one
+	 * or more working sets, add the new project to them.
+	 *
+	 * @param project the new project
+	 */
+	private void addToWorkingSets(IProject project) {
 		List<IWorkingSet> workingSets = fProjectWorkingSets.get(project.getName());
 		if (workingSets != null) {
 			for (IWorkingSet ws : workingSets) {
@@ -699,10 +992,6 @@ public class PluginImportOperation extends WorkspaceJob {
 				ws.setElements(newElements);
 			}
 		}
-
-		monitor.worked(1);
-
-		return project;
 	}
 
 	private IProject findProject(String id) {
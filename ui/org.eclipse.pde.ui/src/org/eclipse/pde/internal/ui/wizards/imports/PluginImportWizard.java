@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2015 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,8 @@ package org.eclipse.pde.internal.ui.wizards.imports;
 
 import java.util.*;
 import org.eclipse.core.resources.ResourcesPlugin;
-import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.*;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.*;
 import org.eclipse.jface.dialogs.*;
 import org.eclipse.jface.viewers.IStructuredSelection;
@@ -184,7 +185,26 @@ public class PluginImportWizard extends Wizard implements IImportWizard, IPageCh
 		job.setPluginsInUse(launchedConfiguration);
 		job.setRule(ResourcesPlugin.getWorkspace().getRoot());
 		job.setUser(true);
-		job.schedule();
+		if (importType != PluginImportOperation.IMPORT_BINARY) {
+			job.schedule();
+			return;
+		}
+		// Copy the plug-in contents without a scheduling rule, so that other
+		// workspace operations can run in the meantime
+		Job stagingJob = new Job(PDEUIMessages.ImportWizard_title) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				job.stageBinaryPlugins(monitor);
+				if (monitor.isCanceled()) {
+					job.discardStagedPlugins();
+					return Status.CANCEL_STATUS;
+				}
+				job.schedule();
+				return Status.OK_STATUS;
+			}
+		};
+		stagingJob.setUser(true);
+		stagingJob.schedule();
 	}
 
 	@Override
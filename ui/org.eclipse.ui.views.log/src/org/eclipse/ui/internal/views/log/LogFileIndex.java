@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import org.eclipse.ui.IMemento;
+
+/**
+ * An index of the byte offsets of the <code>!SESSION</code> and top level
+ * <code>!ENTRY</code> lines of a log file, together with the severity of each
+ * entry.
+ * <p>
+ * The index lets {@link LogReader} find where the entries it has to show
+ * start without reading the file, so that only that part of the file is
+ * parsed. It is extended incrementally as the log file grows and rebuilt when
+ * the file is truncated or replaced.
+ * </p>
+ */
+public class LogFileIndex {
+
+	private static final byte KIND_SESSION = 1;
+	private static final byte KIND_ENTRY = 2;
+
+	private static final byte[] SESSION_PREFIX = LogSession.SESSION.getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] ENTRY_PREFIX = "!ENTRY".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int MAX_CACHED_INDEXES = 4;
+
+	private static final Map<File, LogFileIndex> fIndexes = new LinkedHashMap<File, LogFileIndex>(8, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<File, LogFileIndex> eldest) {
+			return size() > MAX_CACHED_INDEXES;
+		}
+	};
+
+	private final File fFile;
+	private long[] fOffsets = new long[256];
+	private byte[] fKinds = new byte[256];
+	private byte[] fSeverities = new byte[256];
+	private int fSize;
+	/** Number of bytes indexed, always the end of a complete line */
+	private long fLength;
+	/** Modification stamp of the file when it was last indexed */
+	private long fLastModified;
+
+	/**
+	 * Returns the index for the given log file, brought up to date with the
+	 * current content of the file.
+	 *
+	 * @param file the log file
+	 * @return the up to date index
+	 * @throws IOException if the file cannot be read
+	 */
+	public static LogFileIndex getIndex(File file) throws IOException {
+		File key = file.getAbsoluteFile();
+		LogFileIndex index;
+		synchronized (fIndexes) {
+			index = fIndexes.computeIfAbsent(key, LogFileIndex::new);
+		}
+		synchronized (index) {
+			index.update();
+		}
+		return index;
+	}
+
+	private LogFileIndex(File file) {
+		fFile = file;
+	}
+
+	private void update() throws IOException {
+		long length = fFile.length();
+		long lastModified = fFile.lastModified();
+		if (length == fLength && lastModified == fLastModified)
+			return;
+		try (FileChannel channel = FileChannel.open(fFile.toPath(), StandardOpenOption.READ)) {
+			if (length < fLength || length == fLength || !isLastLineUnchanged(channel)) {
+				// the log was truncated or replaced, start over
+				fSize = 0;
+				fLength = 0;
+			}
+			fLastModified = lastModified;
+			scan(channel, length);
+		}
+	}
+
+	/**
+	 * Checks that the last indexed line is still where the index expects it,
+	 * to detect a log file that was replaced by a larger one.
+	 */
+	private boolean isLastLineUnchanged(FileChannel channel) throws IOException {
+		if (fSize == 0)
+			return true;
+		byte[] prefix = fKinds[fSize - 1] == KIND_SESSION ? SESSION_PREFIX : ENTRY_PREFIX;
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		channel.read(buffer, fOffsets[fSize - 1]);
+		int start = 0;
+		while (start < buffer.position() && (buffer.get(start) == ' ' || buffer.get(start) == '\t'))
+			start++;
+		return startsWith(Arrays.copyOf(buffer.array(), buffer.position()), start, buffer.position(), prefix);
+	}
+
+	/**
+	 * Reads the file from the indexed length up to the given length and
+	 * records the position of each session and entry line.
+	 */
+	private void scan(FileChannel channel, long length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		byte[] line = new byte[256];
+		int lineLength = 0;
+		boolean lineOverflow = false;
+		long lineStart = fLength;
+		long position = fLength;
+		channel.position(position);
+		while (position < length) {
+			buffer.clear();
+			if (length - position < buffer.capacity())
+				buffer.limit((int) (length - position));
+			int read = channel.read(buffer);
+			if (read <= 0)
+				break;
+			buffer.flip();
+			for (int i = 0; i < read; i++) {
+				byte b = buffer.get(i);
+				if (b == '\n' || b == '\r') {
+					if (lineLength > 0)
+						indexLine(lineStart, line, lineLength);
+					lineLength = 0;
+					lineOverflow = false;
+					lineStart = position + i + 1;
+					fLength = lineStart;
+				} else if (!lineOverflow) {
+					// only the start of a line is needed to classify it
+					if (lineLength == line.length)
+						lineOverflow = true;
+					else
+						line[lineLength++] = b;
+				}
+			}
+			position += read;
+		}
+	}
+
+	private void indexLine(long offset, byte[] line, int length) {
+		int start = 0;
+		while (start < length && (line[start] == ' ' || line[start] == '\t'))
+			start++;
+		if (startsWith(line, start, length, SESSION_PREFIX)) {
+			add(offset, KIND_SESSION, 0);
+		} else if (startsWith(line, start, length, ENTRY_PREFIX)) {
+			add(offset, KIND_ENTRY, parseSeverity(new String(line, start, length - start, StandardCharsets.UTF_8)));
+		}
+	}
+
+	private static boolean startsWith(byte[] line, int start, int length, byte[] prefix) {
+		if (length - start < prefix.length)
+			return false;
+		for (int i = 0; i < prefix.length; i++) {
+			if (line[start + i] != prefix[i])
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Extracts the severity the same way {@link LogEntry#processEntry(String)}
+	 * does: the third token if it is a number, <code>0</code> otherwise.
+	 */
+	private static int parseSeverity(String line) {
+		StringTokenizer stok = new StringTokenizer(line, " "); //$NON-NLS-1$
+		for (int i = 0; i < 2 && stok.hasMoreTokens(); i++)
+			stok.nextToken();
+		if (stok.hasMoreTokens()) {
+			try {
+				return Integer.parseInt(stok.nextToken());
+			} catch (NumberFormatException e) {
+				// logged by the framework without severity
+			}
+		}
+		return 0;
+	}
+
+	private void add(long offset, byte kind, int severity) {
+		if (fSize == fOffsets.length) {
+			int capacity = fSize * 2;
+			fOffsets = Arrays.copyOf(fOffsets, capacity);
+			fKinds = Arrays.copyOf(fKinds, capacity);
+			fSeverities = Arrays.copyOf(fSeverities, capacity);
+		}
+		fOffsets[fSize] = offset;
+		fKinds[fSize] = kind;
+		fSeverities[fSize] = (byte) severity;
+		fSize++;
+	}
+
+	/**
+	 * Computes the part of the log file the reader has to parse.
+	 * <p>
+	 * When the number of shown entries is limited, parsing starts at the
+	 * entry that is the limit-th last one passing the severity filter. When
+	 * only the most recent session is shown, parsing starts at the last
+	 * session. Otherwise parsing starts at the first session or entry within
+	 * the given tail size. In all cases the session header that precedes the
+	 * start is parsed as well, so that entries keep their session.
+	 * </p>
+	 *
+	 * @param memento the filter settings of the view
+	 * @param maxTailSize the number of bytes to read when no other bound applies
+	 * @return the ranges to parse
+	 */
+	public synchronized Range getRange(IMemento memento, long maxTailSize) {
+		int start = -1;
+		boolean tailLimited = false;
+		if (memento.getString(LogView.P_USE_LIMIT).equals("true")) { //$NON-NLS-1$
+			int remaining = memento.getInteger(LogView.P_LOG_LIMIT).intValue();
+			for (start = fSize - 1; start >= 0 && remaining > 0; start--) {
+				if (fKinds[start] == KIND_ENTRY && LogReader.isLogged(fSeverities[start], memento))
+					remaining--;
+			}
+			start = remaining > 0 ? 0 : start + 1;
+		} else {
+			long tailStart = fLength - maxTailSize;
+			start = 0;
+			if (tailStart > 0) {
+				start = firstAtOrAfter(tailStart);
+				tailLimited = true;
+			}
+		}
+		if (!memento.getString(LogView.P_SHOW_ALL_SESSIONS).equals("true")) { //$NON-NLS-1$
+			for (int i = fSize - 1; i >= 0; i--) {
+				if (fKinds[i] == KIND_SESSION) {
+					if (i > start) {
+						start = i;
+						tailLimited = false;
+					}
+					break;
+				}
+			}
+		}
+		if (start >= fSize)
+			return new Range(-1, -1, fLength, tailLimited);
+
+		int session = start;
+		while (session >= 0 && fKinds[session] != KIND_SESSION)
+			session--;
+		if (session < 0 || session == start)
+			return new Range(-1, -1, fOffsets[start], tailLimited);
+		long sessionEnd = session + 1 < fSize ? fOffsets[session + 1] : fLength;
+		if (session + 1 == start)
+			return new Range(-1, -1, fOffsets[session], tailLimited);
+		return new Range(fOffsets[session], sessionEnd, fOffsets[start], tailLimited);
+	}
+
+	private int firstAtOrAfter(long offset) {
+		int low = 0;
+		int high = fSize;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (fOffsets[mid] < offset)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * The part of a log file to parse: an optional session header followed
+	 * by everything from a start offset up to the end of the file.
+	 */
+	public static final class Range {
+		/** Start of the session header to parse first, or -1 */
+		public final long sessionStart;
+		/** End of that session header */
+		public final long sessionEnd;
+		/** Offset from which the file is parsed to its end */
+		public final long start;
+		/** Whether the start was chosen because of the tail size */
+		public final boolean tailLimited;
+
+		Range(long sessionStart, long sessionEnd, long start, boolean tailLimited) {
+			this.sessionStart = sessionStart;
+			this.sessionEnd = sessionEnd;
+			this.start = start;
+			this.tailLimited = tailLimited;
+		}
+
+		/**
+		 * Opens a stream over the range of the given file.
+		 */
+		InputStream open(File file) throws IOException {
+			InputStream tail = new RangeInputStream(file, start, Long.MAX_VALUE);
+			if (sessionStart < 0)
+				return tail;
+			return new SequenceInputStream(new RangeInputStream(file, sessionStart, sessionEnd), tail);
+		}
+	}
+
+	private static final class RangeInputStream extends InputStream {
+		private final RandomAccessFile fRaf;
+		private long fRemaining;
+
+		RangeInputStream(File file, long start, long end) throws IOException {
+			fRaf = new RandomAccessFile(file, "r"); //$NON-NLS-1$
+			fRaf.seek(start);
+			fRemaining = end - start;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (fRemaining <= 0)
+				return -1;
+			int read = fRaf.read(b, off, (int) Math.min(len, fRemaining));
+			if (read > 0)
+				fRemaining -= read;
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			fRaf.close();
+		}
+	}
+
+}
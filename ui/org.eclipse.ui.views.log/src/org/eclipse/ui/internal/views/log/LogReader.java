@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,8 +55,21 @@ class LogReader {
 		LogSession currentSession = null;
 		long maxTailSizeInBytes = maxLogTailSizeInMegaByte > 0 ? maxLogTailSizeInMegaByte * ONE_MEGA_BYTE_IN_BYTES
 				: ONE_MEGA_BYTE_IN_BYTES;
-		try (BufferedReader reader = new BufferedReader(
-				new InputStreamReader(new TailInputStream(file, maxTailSizeInBytes), StandardCharsets.UTF_8))) {
+		boolean tailLimited = file.length() > maxTailSizeInBytes;
+		InputStream input;
+		try {
+			// only parse the part of the file holding the entries to show
+			LogFileIndex.Range range = LogFileIndex.getIndex(file).getRange(memento, maxTailSizeInBytes);
+			tailLimited = range.tailLimited;
+			input = range.open(file);
+		} catch (IOException e) {
+			try {
+				input = new TailInputStream(file, maxTailSizeInBytes);
+			} catch (IOException e1) {
+				return null;
+			}
+		}
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
 			for (;;) {
 				String line0 = reader.readLine();
 				if (line0 == null)
@@ -153,7 +166,7 @@ class LogReader {
 			}
 		} catch (IOException e) { // do nothing
 		} finally {
-			if (file.length() > maxLogTailSizeInMegaByte && entries.isEmpty()) {
+			if (tailLimited && entries.isEmpty()) {
 				LogEntry entry = new LogEntry(new Status(IStatus.WARNING, Activator.PLUGIN_ID, NLS.bind(
 						Messages.LogReader_warn_noEntryWithinMaxLogTailSize, Long.valueOf(maxLogTailSizeInMegaByte))));
 				entry.setSession(currentSession == null ? new LogSession() : currentSession);
@@ -231,7 +244,14 @@ class LogReader {
 	 * @return is entry logged or filtered
 	 */
 	public static boolean isLogged(LogEntry entry, IMemento memento) {
-		int severity = entry.getSeverity();
+		return isLogged(entry.getSeverity(), memento);
+	}
+
+	/**
+	 * Returns whether entries of the given severity are logged (true) or filtered (false).
+	 * @return is severity logged or filtered
+	 */
+	static boolean isLogged(int severity, IMemento memento) {
 		switch (severity) {
 			case IStatus.INFO :
 				return memento.getString(LogView.P_LOG_INFO).equals("true"); //$NON-NLS-1$
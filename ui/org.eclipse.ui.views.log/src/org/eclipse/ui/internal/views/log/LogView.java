@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.eclipse.core.runtime.*;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.jobs.Job;
@@ -106,8 +107,26 @@ public class LogView extends ViewPart implements ILogListener {
 	private Map<Object, Group> groups;
 	private LogSession currentSession;
 
-	private List<LogEntry> batchedEntries;
-	private boolean batchEntries;
+	/**
+	 * Minimum delay in milliseconds between two updates of the viewer with
+	 * newly logged entries.
+	 */
+	private static final long PUSH_DELAY = 250;
+
+	/**
+	 * Logged entries waiting to be added to the view, oldest first. Bounded by
+	 * the entry limit, if any.
+	 */
+	private final ArrayDeque<LogEntry> pendingEntries = new ArrayDeque<>();
+	/**
+	 * Incremented whenever the log file is read again, so that entries taken
+	 * from {@link #pendingEntries} before are not added on top of the file.
+	 * Changed while holding both this view and the pending entries lock.
+	 */
+	private int readGeneration;
+	private final AtomicBoolean pushScheduled = new AtomicBoolean();
+	private final Job pushJob;
+	private volatile boolean batchEntries;
 
 	private Clipboard fClipboard;
 
@@ -173,7 +192,15 @@ public class LogView extends ViewPart implements ILogListener {
 	public LogView() {
 		elements = new ArrayList<>();
 		groups = new HashMap<>();
-		batchedEntries = new ArrayList<>();
+		pushJob = new Job(Messages.LogView_AddingBatchedEvents) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				pushScheduled.set(false);
+				pushPendingEntries();
+				return Status.OK_STATUS;
+			}
+		};
+		pushJob.setSystem(true);
 		fInputFile = Platform.getLogFileLocation().toFile();
 	}
 
@@ -214,11 +241,8 @@ public class LogView extends ViewPart implements ILogListener {
 
 				if (part.equals(LogView.this)) {
 					if (changeId.equals(IWorkbenchPage.CHANGE_VIEW_SHOW)) {
-						if (!batchedEntries.isEmpty()) {
-							pushBatchedEntries();
-						}
-
 						batchEntries = false;
+						schedulePush();
 					} else if (changeId.equals(IWorkbenchPage.CHANGE_VIEW_HIDE)) {
 						batchEntries = true;
 					}
@@ -649,6 +673,7 @@ public class LogView extends ViewPart implements ILogListener {
 	public void dispose() {
 		writeSettings();
 		Platform.removeLogListener(this);
+		pushJob.cancel();
 		fClipboard.dispose();
 		if (fTextShell != null)
 			fTextShell.dispose();
@@ -835,6 +860,11 @@ public class LogView extends ViewPart implements ILogListener {
 	 */
 	void readLogFile() {
 		synchronized (this) {
+			synchronized (pendingEntries) {
+				// entries not added yet are read from the file again
+				pendingEntries.clear();
+				readGeneration++;
+			}
 			elements.clear();
 			groups.clear();
 		}
@@ -847,8 +877,10 @@ public class LogView extends ViewPart implements ILogListener {
 			currentSession = null;
 		}
 
-		group(result);
-		limitEntriesCount();
+		synchronized (this) {
+			group(result);
+			limitEntriesCount();
+		}
 
 		getSite().getShell().getDisplay().asyncExec(() -> setContentDescription(getTitleSummary()));
 
@@ -907,8 +939,10 @@ public class LogView extends ViewPart implements ILogListener {
 	/**
 	 * Limits the number of entries according to the max entries limit set in
 	 * memento.
+	 *
+	 * @return the removed entries
 	 */
-	private synchronized void limitEntriesCount() {
+	private synchronized List<AbstractEntry> limitEntriesCount() {
 		int limit = Integer.MAX_VALUE;
 		if (fMemento.getString(LogView.P_USE_LIMIT).equals("true")) {//$NON-NLS-1$
 			limit = fMemento.getInteger(LogView.P_LOG_LIMIT).intValue();
@@ -917,7 +951,7 @@ public class LogView extends ViewPart implements ILogListener {
 		int entriesCount = getEntriesCount();
 
 		if (entriesCount <= limit) {
-			return;
+			return Collections.emptyList();
 		}
 		Comparator<LogEntry> dateComparator = (o1, o2) -> {
 			Date l1 = o1.getDate();
@@ -931,7 +965,10 @@ public class LogView extends ViewPart implements ILogListener {
 		};
 
 		if (fMemento.getInteger(P_GROUP_BY).intValue() == GROUP_BY_NONE) {
-			elements.subList(0, elements.size() - limit).clear();
+			List<AbstractEntry> toRemove = elements.subList(0, elements.size() - limit);
+			List<AbstractEntry> removed = new ArrayList<>(toRemove);
+			toRemove.clear();
+			return removed;
 		} else {
 			List copy = new ArrayList(entriesCount);
 			for (Iterator<AbstractEntry> i = elements.iterator(); i.hasNext();) {
@@ -946,8 +983,8 @@ public class LogView extends ViewPart implements ILogListener {
 				AbstractEntry group = i.next();
 				group.removeChildren(toRemove);
 			}
+			return new ArrayList<AbstractEntry>(toRemove);
 		}
-
 	}
 
 	private int getEntriesCount() {
@@ -1012,50 +1049,126 @@ public class LogView extends ViewPart implements ILogListener {
 		if (!isPlatformLogOpen())
 			return;
 
-		if (batchEntries) {
-			// create LogEntry immediately to don't loose IStatus creation date.
-			LogEntry entry = createLogEntry(status);
-			batchedEntries.add(entry);
-			return;
-		}
-
-		if (fFirstEvent || (currentSession == null)) {
+		if (!batchEntries && (fFirstEvent || (currentSession == null))) {
 			readLogFile();
 			asyncRefresh(true);
 			fFirstEvent = false;
-		} else {
-			LogEntry entry = createLogEntry(status);
+			return;
+		}
 
-			if (!batchedEntries.isEmpty()) {
-				// batch new entry as well, to have only one asyncRefresh()
-				batchedEntries.add(entry);
-				pushBatchedEntries();
-			} else {
-				pushEntry(entry);
-				asyncRefresh(true);
+		// create LogEntry immediately to don't loose IStatus creation date.
+		LogEntry entry = createLogEntry(status);
+		if (!LogReader.isLogged(entry, fMemento))
+			return;
+		synchronized (pendingEntries) {
+			pendingEntries.addLast(entry);
+			// older entries would be trimmed as soon as they are added
+			if (fMemento.getString(LogView.P_USE_LIMIT).equals("true")) { //$NON-NLS-1$
+				int limit = fMemento.getInteger(LogView.P_LOG_LIMIT).intValue();
+				while (pendingEntries.size() > limit)
+					pendingEntries.removeFirst();
 			}
 		}
+		if (!batchEntries)
+			schedulePush();
 	}
 
 	/**
-	 * Push batched entries to log view.
+	 * Schedules the pending entries to be added to the view, at most once per
+	 * {@link #PUSH_DELAY}.
 	 */
-	private void pushBatchedEntries() {
-		Job job = new Job(Messages.LogView_AddingBatchedEvents) {
-			@Override
-			protected IStatus run(IProgressMonitor monitor) {
-				for (int i = 0; i < batchedEntries.size(); i++) {
-					if (!monitor.isCanceled()) {
-						LogEntry entry = batchedEntries.get(i);
-						pushEntry(entry);
-						batchedEntries.remove(i);
-					}
+	private void schedulePush() {
+		if (pushScheduled.compareAndSet(false, true))
+			pushJob.schedule(PUSH_DELAY);
+	}
+
+	/**
+	 * Adds the pending entries to the model and updates the viewer with the
+	 * added and removed elements only.
+	 */
+	private void pushPendingEntries() {
+		List<LogEntry> entries;
+		int generation;
+		synchronized (pendingEntries) {
+			if (pendingEntries.isEmpty())
+				return;
+			entries = new ArrayList<>(pendingEntries);
+			pendingEntries.clear();
+			generation = readGeneration;
+		}
+		Map<Object, List<LogEntry>> added = new LinkedHashMap<>();
+		List<Group> addedGroups = new ArrayList<>();
+		List<AbstractEntry> removed;
+		synchronized (this) {
+			// the log file was read again and already holds these entries
+			if (generation != readGeneration)
+				return;
+			for (LogEntry entry : entries) {
+				Object parent = null;
+				int size = elements.size();
+				Group group = getGroup(entry);
+				if (group == null) {
+					// no grouping, or no group could be determined for the entry
+					elements.add(entry);
+				} else {
+					group.addChild(entry);
+					if (elements.size() > size)
+						addedGroups.add(group);
+					parent = group;
 				}
-				asyncRefresh(true);
-				return Status.OK_STATUS;
+				if (!addedGroups.contains(parent))
+					added.computeIfAbsent(parent, key -> new ArrayList<>()).add(entry);
 			}
-		};
-		job.schedule();
+			removed = limitEntriesCount();
+		}
+		if (!removed.isEmpty()) {
+			// entries of this batch that were trimmed right away are not added
+			Set<AbstractEntry> removedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+			removedSet.addAll(removed);
+			for (List<LogEntry> list : added.values())
+				list.removeIf(removedSet::contains);
+		}
+		asyncUpdate(added, addedGroups, removed);
+	}
+
+	/**
+	 * Updates the viewer with the given changes.
+	 *
+	 * @param added the added entries by parent group, <code>null</code> for top level entries
+	 * @param addedGroups the added groups, including their entries
+	 * @param removed the removed entries
+	 */
+	private void asyncUpdate(Map<Object, List<LogEntry>> added, List<Group> addedGroups, List<AbstractEntry> removed) {
+		if (fTree.isDisposed())
+			return;
+		Display display = fTree.getDisplay();
+		if (display != null) {
+			display.asyncExec(() -> {
+				if (!fTree.isDisposed()) {
+					TreeViewer viewer = fFilteredTree.getViewer();
+					Object input = viewer.getInput();
+					fTree.setRedraw(false);
+					try {
+						if (!removed.isEmpty())
+							viewer.remove(removed.toArray());
+						if (!addedGroups.isEmpty()) {
+							viewer.add(input, addedGroups.toArray());
+							for (Group group : addedGroups)
+								viewer.expandToLevel(group, 1);
+						}
+						for (Map.Entry<Object, List<LogEntry>> entry : added.entrySet()) {
+							Object parent = entry.getKey();
+							viewer.add(parent == null ? input : parent, entry.getValue().toArray());
+							if (parent != null)
+								viewer.expandToLevel(parent, 1);
+						}
+					} finally {
+						fTree.setRedraw(true);
+					}
+					updateActions(viewer, true);
+				}
+			});
+		}
 	}
 
 	private LogEntry createLogEntry(IStatus status) {
@@ -1072,44 +1185,39 @@ public class LogView extends ViewPart implements ILogListener {
 		return entry;
 	}
 
-	private synchronized void pushEntry(LogEntry entry) {
-		if (LogReader.isLogged(entry, fMemento)) {
-			group(Collections.singletonList(entry));
-			limitEntriesCount();
-		}
-		asyncRefresh(true);
-	}
-
 	private void asyncRefresh(final boolean activate) {
 		if (fTree.isDisposed())
 			return;
 		Display display = fTree.getDisplay();
-		final ViewPart view = this;
 		if (display != null) {
 			display.asyncExec(() -> {
 				if (!fTree.isDisposed()) {
 					TreeViewer viewer = fFilteredTree.getViewer();
 					viewer.refresh();
 					viewer.expandToLevel(2);
-					fDeleteLogAction.setEnabled(
-							fInputFile.exists() && fInputFile.equals(Platform.getLogFileLocation().toFile()));
-					fOpenLogAction.setEnabled(fInputFile.exists());
-					fExportLogAction.setEnabled(fInputFile.exists());
-					fExportLogEntryAction.setEnabled(!viewer.getSelection().isEmpty());
-					if (activate && fActivateViewAction.isChecked()) {
-						IWorkbenchWindow window = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
-						if (window != null) {
-							IWorkbenchPage page = window.getActivePage();
-							if (page != null) {
-								page.bringToTop(view);
-							}
-						}
-					}
+					updateActions(viewer, activate);
 				}
 			});
 		}
 	}
 
+	private void updateActions(TreeViewer viewer, boolean activate) {
+		fDeleteLogAction.setEnabled(
+				fInputFile.exists() && fInputFile.equals(Platform.getLogFileLocation().toFile()));
+		fOpenLogAction.setEnabled(fInputFile.exists());
+		fExportLogAction.setEnabled(fInputFile.exists());
+		fExportLogEntryAction.setEnabled(!viewer.getSelection().isEmpty());
+		if (activate && fActivateViewAction.isChecked()) {
+			IWorkbenchWindow window = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+			if (window != null) {
+				IWorkbenchPage page = window.getActivePage();
+				if (page != null) {
+					page.bringToTop(this);
+				}
+			}
+		}
+	}
+
 	@Override
 	public void setFocus() {
 		if (fFilteredTree != null) {